@@ -0,0 +1,107 @@
+package com.das.skillmatrix.aspect;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.das.skillmatrix.annotation.LogActivity;
+import com.das.skillmatrix.dto.request.LoginRequest;
+import com.das.skillmatrix.dto.request.TeamRequest;
+import com.das.skillmatrix.dto.response.TeamResponse;
+import com.das.skillmatrix.service.AuthService;
+import com.das.skillmatrix.service.TeamService;
+
+// Per-call work ActivityLogAspect does after a @LogActivity method returns: entity id,
+// metadata JSON and caller email, on plans compiled from real service methods.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActivityLogPlanBenchmark {
+
+    private ActivityLogPlan updatePlan;     // entityId = "id"
+    private ActivityLogPlan createPlan;     // entityId = "result.teamId"
+    private ActivityLogPlan addManagerPlan; // default id resolution
+    private ActivityLogPlan loginPlan;      // email from the request body
+
+    private Object[] updateArgs;
+    private Object[] createArgs;
+    private Object[] addManagerArgs;
+    private Object[] loginArgs;
+    private TeamResponse createResult;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        updatePlan = plan(TeamService.class.getMethod("update", Long.class, TeamRequest.class));
+        createPlan = plan(TeamService.class.getMethod("create", TeamRequest.class));
+        addManagerPlan = plan(TeamService.class.getMethod("addManager", Long.class, Long.class));
+        loginPlan = plan(AuthService.class.getMethod("login", LoginRequest.class));
+
+        TeamRequest request = new TeamRequest();
+        request.setName("Platform \"Core\"");
+        request.setDescription("Backend platform team");
+        request.setDepartmentId(7L);
+        updateArgs = new Object[] { 42L, request };
+        createArgs = new Object[] { request };
+        addManagerArgs = new Object[] { 42L, 1001L };
+
+        LoginRequest login = new LoginRequest();
+        login.setEmail("manager@skillmatrix.local");
+        login.setPassword("secret");
+        loginArgs = new Object[] { login };
+
+        createResult = new TeamResponse();
+        createResult.setTeamId(42L);
+        createResult.setDepartmentId(7L);
+    }
+
+    private static ActivityLogPlan plan(Method method) {
+        return ActivityLogPlan.compile(method, method.getAnnotation(LogActivity.class));
+    }
+
+    @Benchmark
+    public Long entityIdFromArgument() {
+        return updatePlan.entityId(null, updateArgs);
+    }
+
+    @Benchmark
+    public Long entityIdFromResult() {
+        return createPlan.entityId(createResult, createArgs);
+    }
+
+    @Benchmark
+    public Long entityIdDefault() {
+        return addManagerPlan.entityId(null, addManagerArgs);
+    }
+
+    @Benchmark
+    public String metadata() {
+        return addManagerPlan.metadata(addManagerArgs);
+    }
+
+    @Benchmark
+    public String email() {
+        return loginPlan.email(loginArgs);
+    }
+
+    @Benchmark
+    public void afterReturning(Blackhole bh) {
+        bh.consume(updatePlan.entityId(null, updateArgs));
+        bh.consume(updatePlan.metadata(updateArgs));
+        bh.consume(updatePlan.email(updateArgs));
+    }
+}
@@ -0,0 +1,48 @@
+package com.das.skillmatrix.bench;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.das.skillmatrix.SkillmatrixApplication;
+import com.das.skillmatrix.config.LargeOrgGenerator;
+
+// One application context per benchmark JVM (JMH forks), running on the in-process H2
+// database from application-bench.properties. The synthetic org is only generated for
+// benchmarks that ask for the fixture; sizes come from -Dbench.* system properties.
+public final class BenchContext {
+
+    private static ConfigurableApplicationContext context;
+    private static LargeOrgGenerator.Result fixture;
+
+    private BenchContext() {
+    }
+
+    public static synchronized ConfigurableApplicationContext get() {
+        if (context == null) {
+            context = new SpringApplicationBuilder(SkillmatrixApplication.class)
+                    .profiles("bench")
+                    .run();
+        }
+        return context;
+    }
+
+    public static synchronized LargeOrgGenerator.Result fixture() {
+        if (fixture == null) {
+            LargeOrgGenerator.Size size = new LargeOrgGenerator.Size(
+                    Integer.getInteger("bench.careers", 50),
+                    Integer.getInteger("bench.departments", 400),
+                    Integer.getInteger("bench.teams", 2_000),
+                    Integer.getInteger("bench.users", 100_000),
+                    Integer.getInteger("bench.positions", 40),
+                    Integer.getInteger("bench.skills", 500),
+                    Integer.getInteger("bench.skills-per-user", 0),
+                    Long.getLong("bench.seed", 42L));
+            fixture = bean(LargeOrgGenerator.class).generate(size, false);
+        }
+        return fixture;
+    }
+
+    public static <T> T bean(Class<T> type) {
+        return get().getBean(type);
+    }
+}
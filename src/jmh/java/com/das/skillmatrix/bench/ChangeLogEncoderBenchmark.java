@@ -0,0 +1,54 @@
+package com.das.skillmatrix.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.das.skillmatrix.service.BusinessChangeLogService.FieldChange;
+import com.das.skillmatrix.service.ChangeLogEncoder;
+
+// JSON encoding of business change records: a single status flip and a multi-field
+// update with text that needs escaping.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChangeLogEncoderBenchmark {
+
+    private List<FieldChange> single;
+    private List<FieldChange> multiple;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        single = List.of(new FieldChange("status", "ACTIVE", "DEACTIVE"));
+        multiple = List.of(
+                new FieldChange("name", "Platform", "Platform \"Core\""),
+                new FieldChange("description", "Backend team\nowns auth", "Backend platform team\n\towns auth and audit"),
+                new FieldChange("departmentId", "7", "12"),
+                new FieldChange("deActiveAt", null, "2025-01-01T00:00"),
+                new FieldChange("path", "C:\\teams\\core", null));
+    }
+
+    @Benchmark
+    public String encodeSingle() {
+        return ChangeLogEncoder.encode(single);
+    }
+
+    @Benchmark
+    public String encodeMultiple() {
+        return ChangeLogEncoder.encode(multiple);
+    }
+}
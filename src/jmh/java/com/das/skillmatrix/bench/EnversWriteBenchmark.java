@@ -0,0 +1,79 @@
+package com.das.skillmatrix.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.das.skillmatrix.config.LargeOrgGenerator;
+import com.das.skillmatrix.entity.User;
+import com.das.skillmatrix.repository.UserRepository;
+
+// Commit latency of an audited bulk change (rows users renamed in one transaction) per
+// Envers write mode. The mode is read when the context starts, and every parameter
+// combination runs in its own fork, so each fork sets audit.envers.mode before starting it.
+// In ASYNC mode the _AUD inserts leave the measured path unless the writer queue fills up.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnversWriteBenchmark {
+
+    @Param({ "SYNC", "BATCHED", "ASYNC" })
+    public String mode;
+
+    @Param({ "1", "100" })
+    public int rows;
+
+    private TransactionTemplate transaction;
+    private UserRepository userRepository;
+    private long firstUserId;
+    private int users;
+    private int offset;
+    private long round;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("audit.envers.mode", mode);
+        LargeOrgGenerator.Result org = BenchContext.fixture();
+        transaction = new TransactionTemplate(BenchContext.bean(PlatformTransactionManager.class));
+        userRepository = BenchContext.bean(UserRepository.class);
+        firstUserId = org.careerManagerId(0);
+        users = org.size().users();
+    }
+
+    @Benchmark
+    public int renameUsers() {
+        if (offset + rows > users) {
+            offset = 0;
+        }
+        List<Long> ids = LongStream.range(firstUserId + offset, firstUserId + offset + rows).boxed().toList();
+        offset += rows;
+        String suffix = " #" + round++;
+        return transaction.execute(status -> {
+            List<User> batch = userRepository.findAllById(ids);
+            for (User user : batch) {
+                String name = user.getFullName();
+                int mark = name.indexOf(" #");
+                user.setFullName((mark < 0 ? name : name.substring(0, mark)) + suffix);
+            }
+            return batch.size();
+        });
+    }
+}
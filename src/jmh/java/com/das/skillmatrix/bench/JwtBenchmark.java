@@ -0,0 +1,55 @@
+package com.das.skillmatrix.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.das.skillmatrix.security.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+
+// Token issue and the parse/validate path JwtAuthenticationFilter runs on every request.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String EMAIL = "manager@skillmatrix.local";
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil("bench-secret-key-with-at-least-256-bits-of-entropy!", 900_000L, 604_800_000L);
+        accessToken = jwtUtil.generateAccessToken(EMAIL, "MANAGER_TEAM");
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(EMAIL, "MANAGER_TEAM");
+    }
+
+    @Benchmark
+    public Claims parse() {
+        return jwtUtil.getClaims(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return jwtUtil.validateAccessToken(accessToken, EMAIL);
+    }
+}
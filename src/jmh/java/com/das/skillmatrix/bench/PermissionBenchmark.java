@@ -0,0 +1,92 @@
+package com.das.skillmatrix.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.das.skillmatrix.config.LargeOrgGenerator;
+import com.das.skillmatrix.repository.UserRepository;
+import com.das.skillmatrix.security.AuthenticatedUser;
+import com.das.skillmatrix.service.PermissionService;
+
+// Permission checks as a request would run them: authenticated principal in the
+// SecurityContext and one read-only transaction around the check (open-in-view).
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PermissionBenchmark {
+
+    @Param({ "MANAGER_TEAM", "MANAGER_DEPARTMENT", "MANAGER_CAREER" })
+    public String role;
+
+    private PermissionService permissionService;
+    private TransactionTemplate readOnly;
+    private long inScopeTeam;
+    private long outOfScopeTeam;
+    private long inScopeUser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LargeOrgGenerator.Result org = BenchContext.fixture();
+        permissionService = BenchContext.bean(PermissionService.class);
+        readOnly = new TransactionTemplate(BenchContext.bean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        // Team 0 sits in department 0 and career 0, so each manager below covers it
+        long managerId = switch (role) {
+            case "MANAGER_CAREER" -> org.careerManagerId(0);
+            case "MANAGER_DEPARTMENT" -> org.departmentManagerId(0);
+            default -> org.teamManagerId(0);
+        };
+        inScopeTeam = org.teamId(0);
+        int other = 1;
+        while (org.careerOfDepartment(org.departmentOfTeam(other)) == 0) other++;
+        outOfScopeTeam = org.teamId(other);
+        inScopeUser = org.staffId(0);
+
+        UserRepository userRepository = BenchContext.bean(UserRepository.class);
+        AuthenticatedUser principal = readOnly.execute(status ->
+                AuthenticatedUser.of(userRepository.findById(managerId).orElseThrow()));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Boolean checkTeamAccessInScope() {
+        return readOnly.execute(status -> permissionService.checkTeamAccess(inScopeTeam));
+    }
+
+    @Benchmark
+    public Boolean checkTeamAccessOutOfScope() {
+        return readOnly.execute(status -> permissionService.checkTeamAccess(outOfScopeTeam));
+    }
+
+    @Benchmark
+    public Boolean checkUserViewAccess() {
+        return readOnly.execute(status -> permissionService.checkUserViewAccess(inScopeUser));
+    }
+}
@@ -0,0 +1,75 @@
+package com.das.skillmatrix.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.das.skillmatrix.dto.request.UserFilterRequest;
+import com.das.skillmatrix.entity.User;
+import com.das.skillmatrix.repository.specification.UserSpecification;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+// Criteria construction only (no SQL is executed): keyword, team and scope predicates
+// as UserService.list builds them for each caller role.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserSpecificationBenchmark {
+
+    @Param({ "ADMIN", "MANAGER_CAREER", "MANAGER_TEAM" })
+    public String role;
+
+    @Param({ "", "nguyen" })
+    public String keyword;
+
+    private EntityManager entityManager;
+    private CriteriaBuilder cb;
+    private UserFilterRequest filter;
+    private List<Long> scopeIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entityManager = BenchContext.bean(EntityManagerFactory.class).createEntityManager();
+        cb = entityManager.getCriteriaBuilder();
+        filter = new UserFilterRequest();
+        filter.setKeyword(keyword);
+        filter.setDateModified("last 7 days");
+        scopeIds = "ADMIN".equals(role) ? List.of() : List.of(1L, 2L, 3L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+    }
+
+    @Benchmark
+    public Predicate filterUsers() {
+        Specification<User> spec = UserSpecification.filterUsers(filter, scopeIds, role);
+        CriteriaQuery<User> query = cb.createQuery(User.class);
+        Root<User> root = query.from(User.class);
+        return spec.toPredicate(root, query, cb);
+    }
+}
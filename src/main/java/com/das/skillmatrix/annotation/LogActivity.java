@@ -14,4 +14,9 @@ public @interface LogActivity {
 
     // The entity type, e.g. "CAREER", "DEPARTMENT", "TEAM", "USER"
     String entityType();
+
+    // Where the entity id comes from: a parameter name ("id"), or "result."/"<param>."
+    // followed by a property ("result.teamId", "req.userId"). Empty falls back to the first
+    // *Id getter on the result, then the first Long parameter.
+    String entityId() default "";
 }
\ No newline at end of file
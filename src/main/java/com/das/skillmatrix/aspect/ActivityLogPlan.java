@@ -0,0 +1,210 @@
+package com.das.skillmatrix.aspect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.util.StringUtils;
+
+import com.das.skillmatrix.annotation.LogActivity;
+
+// Everything ActivityLogAspect needs to know about one @LogActivity method, resolved
+// once on first call: where the entity id comes from, which arguments go into the
+// metadata JSON, and which argument carries the caller's email. Accessors are
+// MethodHandles typed (Object)Object so the hot path is a plain invokeExact.
+final class ActivityLogPlan {
+
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodHandle[] NO_HANDLES = new MethodHandle[0];
+
+    private static final ClassValue<MethodHandle[]> ID_GETTERS = new ClassValue<>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> type) {
+            return idGetters(type);
+        }
+    };
+
+    private final int entityIdArg;              // -1 when the id is not taken from an argument
+    private final MethodHandle entityIdGetter;  // applied to the argument or the result; null for the argument itself
+    private final boolean entityIdFromResult;
+    private final boolean entityIdAuto;
+    private final int firstLongArg;
+
+    private final String[] metadataKeys;        // pre-rendered "\"name\": " prefixes
+    private final int[] metadataArgs;
+
+    private final int emailArg;
+    private final MethodHandle emailGetter;
+
+    private ActivityLogPlan(int entityIdArg, MethodHandle entityIdGetter, boolean entityIdFromResult,
+            boolean entityIdAuto, int firstLongArg, String[] metadataKeys, int[] metadataArgs,
+            int emailArg, MethodHandle emailGetter) {
+        this.entityIdArg = entityIdArg;
+        this.entityIdGetter = entityIdGetter;
+        this.entityIdFromResult = entityIdFromResult;
+        this.entityIdAuto = entityIdAuto;
+        this.firstLongArg = firstLongArg;
+        this.metadataKeys = metadataKeys;
+        this.metadataArgs = metadataArgs;
+        this.emailArg = emailArg;
+        this.emailGetter = emailGetter;
+    }
+
+    static ActivityLogPlan compile(Method method, LogActivity logActivity) {
+        Class<?>[] types = method.getParameterTypes();
+        String[] names = PARAMETER_NAMES.getParameterNames(method);
+        if (names == null) {
+            names = new String[types.length];
+            for (int i = 0; i < types.length; i++) names[i] = "arg" + i;
+        }
+
+        int firstLongArg = -1;
+        List<String> keys = new ArrayList<>();
+        List<Integer> metaArgs = new ArrayList<>();
+        int emailArg = -1;
+        MethodHandle emailGetter = null;
+        for (int i = 0; i < types.length; i++) {
+            Class<?> t = types[i];
+            if (firstLongArg < 0 && (t == Long.class || t == long.class)) firstLongArg = i;
+            if (isMetadataType(t)) {
+                keys.add("\"" + names[i] + "\": ");
+                metaArgs.add(i);
+            }
+            if (emailGetter == null) {
+                MethodHandle getter = getter(t, "getEmail");
+                if (getter != null) {
+                    emailArg = i;
+                    emailGetter = getter;
+                }
+            }
+        }
+
+        int entityIdArg = -1;
+        MethodHandle entityIdGetter = null;
+        boolean fromResult = false;
+        boolean auto = true;
+        String spec = logActivity.entityId();
+        if (StringUtils.hasText(spec)) {
+            auto = false;
+            int dot = spec.indexOf('.');
+            String root = dot < 0 ? spec : spec.substring(0, dot);
+            String property = dot < 0 ? null : spec.substring(dot + 1);
+            Class<?> rootType;
+            if ("result".equals(root)) {
+                fromResult = true;
+                rootType = method.getReturnType();
+            } else {
+                entityIdArg = indexOf(names, root);
+                if (entityIdArg < 0) {
+                    throw new IllegalStateException("@LogActivity entityId refers to unknown parameter '"
+                            + root + "' on " + method);
+                }
+                rootType = types[entityIdArg];
+            }
+            if (property != null) {
+                entityIdGetter = getter(rootType, "get" + StringUtils.capitalize(property));
+                if (entityIdGetter == null) {
+                    throw new IllegalStateException("@LogActivity entityId property '" + property
+                            + "' not found on " + rootType.getName() + " for " + method);
+                }
+            }
+        }
+
+        return new ActivityLogPlan(entityIdArg, entityIdGetter, fromResult, auto, firstLongArg,
+                keys.toArray(String[]::new), metaArgs.stream().mapToInt(Integer::intValue).toArray(),
+                emailArg, emailGetter);
+    }
+
+    Long entityId(Object result, Object[] args) {
+        if (!entityIdAuto) {
+            Object root = entityIdFromResult ? result : args[entityIdArg];
+            Object value = entityIdGetter == null ? root : invoke(entityIdGetter, root);
+            return value instanceof Long id ? id : null;
+        }
+        // Default: first *Id getter on the result that yields a Long, then the first Long argument
+        if (result != null) {
+            for (MethodHandle getter : ID_GETTERS.get(result.getClass())) {
+                if (invoke(getter, result) instanceof Long id) return id;
+            }
+        }
+        return firstLongArg >= 0 && args[firstLongArg] instanceof Long id ? id : null;
+    }
+
+    String email(Object[] args) {
+        if (emailGetter == null) return null;
+        return invoke(emailGetter, args[emailArg]) instanceof String email && !email.isBlank() ? email : null;
+    }
+
+    String metadata(Object[] args) {
+        StringBuilder sb = null;
+        for (int k = 0; k < metadataArgs.length; k++) {
+            Object arg = args[metadataArgs[k]];
+            if (arg == null) continue;
+            sb = sb == null ? new StringBuilder(64).append('{') : sb.append(", ");
+            sb.append(metadataKeys[k]);
+            if (arg instanceof String str) {
+                sb.append('"').append(str.replace("\"", "\\\"")).append('"');
+            } else {
+                sb.append(arg);
+            }
+        }
+        return sb == null ? null : sb.append('}').toString();
+    }
+
+    private static boolean isMetadataType(Class<?> t) {
+        return t == Long.class || t == long.class || t == Integer.class || t == int.class
+                || t == Boolean.class || t == boolean.class || t == String.class
+                || List.class.isAssignableFrom(t);
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (name.equals(names[i])) return i;
+        }
+        return -1;
+    }
+
+    private static MethodHandle getter(Class<?> type, String name) {
+        if (type.isPrimitive() || type.isArray()) return null;
+        try {
+            Method m = type.getMethod(name);
+            if (m.getParameterCount() != 0 || Modifier.isStatic(m.getModifiers())) return null;
+            return LOOKUP.unreflect(m).asType(GETTER_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle[] idGetters(Class<?> type) {
+        List<MethodHandle> handles = new ArrayList<>();
+        for (Method m : type.getMethods()) {
+            String name = m.getName();
+            if (name.startsWith("get") && name.endsWith("Id") && m.getParameterCount() == 0
+                    && (m.getReturnType() == Long.class || m.getReturnType() == long.class)) {
+                try {
+                    handles.add(LOOKUP.unreflect(m).asType(GETTER_TYPE));
+                } catch (IllegalAccessException ignored) {
+                    // Skip this getter
+                }
+            }
+        }
+        return handles.isEmpty() ? NO_HANDLES : handles.toArray(MethodHandle[]::new);
+    }
+
+    private static Object invoke(MethodHandle getter, Object target) {
+        if (target == null) return null;
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+}
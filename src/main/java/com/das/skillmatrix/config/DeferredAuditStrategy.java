@@ -0,0 +1,59 @@
+package com.das.skillmatrix.config;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.envers.strategy.internal.DefaultAuditStrategy;
+
+import com.das.skillmatrix.service.EnversAuditWriter;
+
+// Envers strategy for audit.envers.mode=ASYNC. Instead of saving each _AUD row in the audited
+// session it registers an after-completion callback that queues the row on EnversAuditWriter
+// once the transaction has committed (rolled back transactions queue nothing). Hibernate
+// instantiates the strategy itself, so the writer is handed over statically when it starts;
+// until then, and after it stops, rows are written synchronously as usual. Under MANUAL flush
+// Envers hands us its temporary session; it shares the audited transaction, so the callback
+// still runs on commit (covered by DeferredAuditStrategyTest).
+public class DeferredAuditStrategy extends DefaultAuditStrategy {
+
+    private static volatile EnversAuditWriter writer;
+
+    public static void attach(EnversAuditWriter enversAuditWriter) {
+        writer = enversAuditWriter;
+    }
+
+    public static void detach() {
+        writer = null;
+    }
+
+    @Override
+    public void perform(Session session, String entityName, Configuration configuration,
+                        Object id, Object data, Object revision) {
+        if (!defer(session, configuration.getAuditEntityName(entityName), data)) {
+            super.perform(session, entityName, configuration, id, data, revision);
+        }
+    }
+
+    @Override
+    public void performCollectionChange(Session session, String entityName, String propertyName,
+                                        Configuration configuration,
+                                        PersistentCollectionChangeData persistentCollectionChangeData,
+                                        Object revision) {
+        if (!defer(session, persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData())) {
+            super.performCollectionChange(session, entityName, propertyName, configuration,
+                    persistentCollectionChangeData, revision);
+        }
+    }
+
+    private static boolean defer(Session session, String auditEntityName, Object data) {
+        EnversAuditWriter target = writer;
+        if (target == null || !(session instanceof SessionImplementor source)) return false;
+        source.getActionQueue().registerProcess((success, s) -> {
+            if (success) {
+                target.submit(auditEntityName, data);
+            }
+        });
+        return true;
+    }
+}
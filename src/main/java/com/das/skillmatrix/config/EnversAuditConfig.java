@@ -0,0 +1,35 @@
+package com.das.skillmatrix.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// How Envers revision rows are written (audit.envers.mode):
+//   SYNC    - one INSERT per _AUD row inside the audited transaction (Hibernate defaults)
+//   BATCHED - same transaction, but inserts are JDBC-batched and ordered by table, so the
+//             _AUD rows of a bulk change go out in a few round trips
+//   ASYNC   - BATCHED, and the _AUD rows are handed to EnversAuditWriter after commit; only the
+//             REVINFO row stays in the transaction. History lags commits by up to linger-ms,
+//             and rows still queued are lost if the process dies.
+@Configuration
+public class EnversAuditConfig {
+
+    public enum Mode {
+        SYNC, BATCHED, ASYNC
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer enversWriteMode(@Value("${audit.envers.mode:SYNC}") Mode mode,
+                                                  @Value("${audit.envers.jdbc-batch-size:50}") int batchSize) {
+        return properties -> {
+            if (mode == Mode.SYNC) return;
+            properties.put("hibernate.jdbc.batch_size", batchSize);
+            properties.put("hibernate.order_inserts", true);
+            properties.put("hibernate.order_updates", true);
+            if (mode == Mode.ASYNC) {
+                properties.put("org.hibernate.envers.audit_strategy", DeferredAuditStrategy.class.getName());
+            }
+        };
+    }
+}
@@ -9,10 +9,12 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.das.skillmatrix.security.AuthenticatedUser;
+import com.das.skillmatrix.security.AuthenticationCache;
 import com.das.skillmatrix.security.JwtUtil;
 import com.das.skillmatrix.service.CustomUserDetailsService;
 
-import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,12 +27,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter{
 
 	private final JwtUtil jwtUtil;
 	private final CustomUserDetailsService customUserDetailsService;
+	private final AuthenticationCache authenticationCache;
 	
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 			throws ServletException, IOException {
 		final String authHeader = request.getHeader("Authorization");
-		final String email;
+		String email;
 		final String jwt;
 		
 		if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -41,14 +44,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter{
 		jwt = authHeader.substring(7);
 		
 		try {
-			email = this.jwtUtil.extractEmail(jwt);
-			if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-				UserDetails userDetails = this.customUserDetailsService.loadUserByUsername(email);
-				if (jwtUtil.validateAccessToken(jwt, userDetails.getUsername())) {
+			if (SecurityContextHolder.getContext().getAuthentication() == null) {
+				AuthenticatedUser principal = this.authenticationCache.get(jwt);
+				if (principal == null) {
+					Claims claims = this.jwtUtil.getClaims(jwt);
+					email = claims.getSubject();
+					if (email != null) {
+						UserDetails userDetails = this.customUserDetailsService.loadUserByUsername(email);
+						if (email.equals(userDetails.getUsername()) && userDetails instanceof AuthenticatedUser loaded) {
+							principal = loaded;
+							this.authenticationCache.put(jwt, claims.getExpiration().getTime(), principal);
+						}
+					}
+				}
+				if (principal != null) {
 					UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-						userDetails, 
+						principal, 
 						null,
-						userDetails.getAuthorities()
+						principal.getAuthorities()
 					);
 					authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 					SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -0,0 +1,478 @@
+package com.das.skillmatrix.config;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.das.skillmatrix.service.OrgHierarchyIndex;
+import com.das.skillmatrix.service.ScopeClosureService;
+import com.das.skillmatrix.service.SkillRollupService;
+import com.das.skillmatrix.service.UserSearchIndexService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Bulk generator for a synthetic org with the same shapes DataSeeder creates
+// (career → department → team, positions with skills, users with positions, team
+// membership, skills and evaluations). Rows go out as multi-row INSERTs sent in JDBC
+// batches, bypassing JPA and Envers; derived tables (scope closure, skill rollups,
+// search index) are rebuilt once at the end. Used by the "large-org" profile and the
+// benchmark fixture.
+//
+// Layout, by index within one run:
+//   departments: the first C go one per career, the rest to a skewed career
+//   teams:       the first D go one per department, the rest to a skewed department
+//   users:       C career managers, D department managers, T team managers, then staff;
+//                the first T staff go one per team, the rest to a skewed team
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LargeOrgGenerator {
+
+    public static final String EMAIL_DOMAIN = "@large-org.skillmatrix.com";
+
+    private static final int ROWS_PER_STATEMENT = 500;
+    private static final int STATEMENTS_PER_BATCH = 10;
+
+    // Popularity skew (Zipf exponent): larger means a few very large teams/careers
+    private static final double ORG_SKEW = 0.6;
+    private static final double SKILL_SKEW = 0.8;
+    private static final int HISTORY_DAYS = 730;
+
+    private static final String[] POSITION_NAMES = {
+            "Backend Developer", "Frontend Developer", "QA Engineer", "Project Manager",
+            "DevOps Engineer", "Business Analyst", "Data Engineer", "Recruiter" };
+    private static final String[] SKILL_NAMES = {
+            "Java", "Spring Boot", "SQL", "Redis", "Docker",
+            "JavaScript", "ReactJS", "HTML/CSS", "TypeScript", "Redux",
+            "Manual Testing", "Automation Testing", "Selenium", "Postman", "Jira",
+            "Agile", "Scrum", "Communication", "Risk Management", "Team Leadership" };
+    private static final String[] LAST_NAMES = {
+            "Nguyen", "Tran", "Le", "Pham", "Hoang", "Huynh", "Vu", "Vo", "Dang", "Bui",
+            "Do", "Ho", "Ngo", "Duong", "Ly", "Smith", "Johnson", "Kim", "Park", "Garcia" };
+    private static final String[] FIRST_NAMES = {
+            "An", "Binh", "Chi", "Dung", "Giang", "Ha", "Hieu", "Hoa", "Khanh", "Lan",
+            "Linh", "Long", "Minh", "Nam", "Phuong", "Quang", "Son", "Thao", "Trang", "Tuan",
+            "Alex", "Chris", "Jamie", "Morgan", "Taylor" };
+    // Score distribution for evaluations, 1..5
+    private static final int[] SCORE_WEIGHTS = { 5, 15, 40, 30, 10 };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ScopeClosureService scopeClosureService;
+    private final OrgHierarchyIndex orgHierarchyIndex;
+    private final UserSearchIndexService userSearchIndexService;
+    private final SkillRollupService skillRollupService;
+
+    public record Size(int careers, int departments, int teams, int users,
+            int positions, int skills, int skillsPerUser, long seed) {
+
+        public Size {
+            if (careers < 1 || departments < careers || teams < departments) {
+                throw new IllegalArgumentException("Need careers >= 1, departments >= careers, teams >= departments");
+            }
+            if (users < careers + departments + 2 * teams) {
+                throw new IllegalArgumentException("Need users >= careers + departments + 2 * teams");
+            }
+            if (positions < 1 || skills < 1 || skillsPerUser < 0) {
+                throw new IllegalArgumentException("Need positions >= 1, skills >= 1, skillsPerUser >= 0");
+            }
+        }
+
+        int managers() {
+            return careers + departments + teams;
+        }
+    }
+
+    // Where the generated rows ended up; ids are contiguous per table
+    public static final class Result {
+
+        private final Size size;
+        private final long firstCareerId;
+        private final long firstDepartmentId;
+        private final long firstTeamId;
+        private final long firstUserId;
+        private final int[] departmentCareer;
+        private final int[] teamDepartment;
+
+        private Result(Size size, long firstCareerId, long firstDepartmentId, long firstTeamId,
+                long firstUserId, int[] departmentCareer, int[] teamDepartment) {
+            this.size = size;
+            this.firstCareerId = firstCareerId;
+            this.firstDepartmentId = firstDepartmentId;
+            this.firstTeamId = firstTeamId;
+            this.firstUserId = firstUserId;
+            this.departmentCareer = departmentCareer;
+            this.teamDepartment = teamDepartment;
+        }
+
+        public Size size() {
+            return size;
+        }
+
+        public long careerId(int c) {
+            return firstCareerId + c;
+        }
+
+        public long departmentId(int d) {
+            return firstDepartmentId + d;
+        }
+
+        public long teamId(int t) {
+            return firstTeamId + t;
+        }
+
+        public int careerOfDepartment(int d) {
+            return departmentCareer[d];
+        }
+
+        public int departmentOfTeam(int t) {
+            return teamDepartment[t];
+        }
+
+        public long careerManagerId(int c) {
+            return firstUserId + c;
+        }
+
+        public long departmentManagerId(int d) {
+            return firstUserId + size.careers() + d;
+        }
+
+        public long teamManagerId(int t) {
+            return firstUserId + size.careers() + size.departments() + t;
+        }
+
+        // A staff member guaranteed to be in team t
+        public long staffId(int t) {
+            return firstUserId + size.managers() + t;
+        }
+    }
+
+    public Result generate(Size size, boolean rebuildSearchIndex) {
+        long started = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(size.seed());
+        LocalDateTime now = LocalDateTime.now();
+
+        long careerBase = nextId("careers", "career_id");
+        long departmentBase = nextId("departments", "department_id");
+        long teamBase = nextId("teams", "team_id");
+        long userBase = nextId("users", "user_id");
+        long positionBase = nextId("positions", "position_id");
+        long skillBase = nextId("skills", "skill_id");
+
+        // ---------- Hierarchy ----------
+        int[] departmentCareer = assign(size.departments(), size.careers(), random);
+        int[] teamDepartment = assign(size.teams(), size.departments(), random);
+
+        Rows careers = new Rows("careers",
+                "career_id, name, career_type, description, status, created_at, updated_at", null);
+        for (int c = 0; c < size.careers(); c++) {
+            Timestamp at = createdAt(now, random);
+            careers.add(careerBase + c, "Career " + (c + 1), c % 2 == 0 ? "Technical" : "Business",
+                    "Generated career " + (c + 1), "ACTIVE", at, at);
+        }
+        careers.flush();
+
+        Rows departments = new Rows("departments",
+                "department_id, name, description, career_id, status, created_at, updated_at", null);
+        for (int d = 0; d < size.departments(); d++) {
+            Timestamp at = createdAt(now, random);
+            departments.add(departmentBase + d, "Department " + (d + 1), "Generated department " + (d + 1),
+                    careerBase + departmentCareer[d], "ACTIVE", at, at);
+        }
+        departments.flush();
+
+        Rows teams = new Rows("teams",
+                "team_id, name, description, department_id, status, created_at, updated_at", null);
+        for (int t = 0; t < size.teams(); t++) {
+            Timestamp at = createdAt(now, random);
+            teams.add(teamBase + t, "Team " + (t + 1), "Generated team " + (t + 1),
+                    departmentBase + teamDepartment[t], "ACTIVE", at, at);
+        }
+        teams.flush();
+
+        // ---------- Positions and skills ----------
+        Rows positions = new Rows("positions",
+                "position_id, name, description, status, created_at, updated_at", null);
+        for (int p = 0; p < size.positions(); p++) {
+            String name = numbered(POSITION_NAMES, p);
+            Timestamp at = createdAt(now, random);
+            positions.add(positionBase + p, name, name + " Role", "ACTIVE", at, at);
+        }
+        positions.flush();
+
+        Rows skills = new Rows("skills",
+                "skill_id, name, description, status, created_at, updated_at", null);
+        for (int s = 0; s < size.skills(); s++) {
+            String name = numbered(SKILL_NAMES, s);
+            Timestamp at = createdAt(now, random);
+            skills.add(skillBase + s, name, name + " Skill", "ACTIVE", at, at);
+        }
+        skills.flush();
+
+        Zipf skillPopularity = new Zipf(size.skills(), SKILL_SKEW);
+        int[][] positionSkills = new int[size.positions()][];
+        Rows positionSkillRows = new Rows("position_skills",
+                "position_id, skill_id, created_at, updated_at", null);
+        for (int p = 0; p < size.positions(); p++) {
+            positionSkills[p] = distinct(Math.min(size.skills(), 5 + random.nextInt(11)), skillPopularity, random);
+            Timestamp at = createdAt(now, random);
+            for (int s : positionSkills[p]) {
+                positionSkillRows.add(positionBase + p, skillBase + s, at, at);
+            }
+        }
+        positionSkillRows.flush();
+
+        // ---------- Users, streamed ----------
+        String passwordHash = passwordEncoder.encode("123456");
+        Zipf teamPopularity = new Zipf(size.teams(), ORG_SKEW);
+        Zipf positionPopularity = new Zipf(size.positions(), ORG_SKEW);
+        Rows users = new Rows("users",
+                "user_id, email, password_hash, full_name, role, status, department_id, created_at, updated_at", null);
+        Rows careerManagers = new Rows("career_managers", "career_id, user_id", users);
+        Rows departmentManagers = new Rows("department_managers", "department_id, user_id", users);
+        Rows teamManagers = new Rows("team_managers", "team_id, user_id", users);
+        Rows userPositions = new Rows("user_positions", "user_id, position_id", users);
+        Rows teamMembers = new Rows("team_members",
+                "team_id, user_id, position_id, created_at, updated_at", users);
+        Rows userSkills = new Rows("user_skills", "user_id, skill_id, created_at, updated_at", users);
+        Rows evaluations = new Rows("user_skill_evaluations",
+                "user_id, skill_id, evaluator_id, score, evaluation_type, created_at, updated_at", users);
+
+        int teamManagerStart = size.careers() + size.departments();
+        for (int u = 0; u < size.users(); u++) {
+            long userId = userBase + u;
+            String role;
+            Integer department;
+            Integer team = null;
+            Long evaluatorId = null;
+            if (u < size.careers()) {
+                role = "MANAGER_CAREER";
+                department = null;
+                careerManagers.add(careerBase + u, userId);
+            } else if (u < teamManagerStart) {
+                int d = u - size.careers();
+                role = "MANAGER_DEPARTMENT";
+                department = d;
+                evaluatorId = userBase + departmentCareer[d];
+                departmentManagers.add(departmentBase + d, userId);
+            } else if (u < size.managers()) {
+                int t = u - teamManagerStart;
+                role = "MANAGER_TEAM";
+                department = teamDepartment[t];
+                evaluatorId = userBase + size.careers() + department;
+                teamManagers.add(teamBase + t, userId);
+            } else {
+                int s = u - size.managers();
+                role = "STAFF";
+                team = s < size.teams() ? s : teamPopularity.next(random);
+                department = teamDepartment[team];
+                evaluatorId = userBase + teamManagerStart + team;
+            }
+
+            Timestamp at = createdAt(now, random);
+            users.add(userId, "user" + (u + 1) + EMAIL_DOMAIN, passwordHash, fullName(random), role, "ACTIVE",
+                    department == null ? null : departmentBase + department, at, at);
+
+            int position = positionPopularity.next(random);
+            userPositions.add(userId, positionBase + position);
+            if (random.nextInt(10) == 0) {
+                int second = positionPopularity.next(random);
+                if (second != position) userPositions.add(userId, positionBase + second);
+            }
+            if (team != null) {
+                teamMembers.add(teamBase + team, userId, positionBase + position, at, at);
+                if (random.nextInt(33) == 0) {
+                    int other = teamPopularity.next(random);
+                    if (other != team) teamMembers.add(teamBase + other, userId, positionBase + position, at, at);
+                }
+            }
+
+            for (int s : userSkills(size, positionSkills[position], skillPopularity, random)) {
+                long skillId = skillBase + s;
+                userSkills.add(userId, skillId, at, at);
+                if (random.nextInt(10) < 8) {
+                    evaluations.add(userId, skillId, userId, score(random), "SELF", at, at);
+                }
+                if (evaluatorId != null && random.nextInt(2) == 0) {
+                    evaluations.add(userId, skillId, evaluatorId, score(random), "MANAGER", at, at);
+                }
+            }
+        }
+        for (Rows rows : List.of(users, careerManagers, departmentManagers, teamManagers,
+                userPositions, teamMembers, userSkills, evaluations)) {
+            rows.flush();
+        }
+        log.info("Generated large org {}: {} users, {} team members, {} user skills, {} evaluations in {} ms",
+                size, users.written, teamMembers.written, userSkills.written, evaluations.written,
+                System.currentTimeMillis() - started);
+
+        scopeClosureService.rebuildAll();
+        orgHierarchyIndex.invalidate();
+        skillRollupService.rebuildAll();
+        if (rebuildSearchIndex) {
+            userSearchIndexService.rebuildAll();
+        }
+        log.info("Large org ready in {} ms", System.currentTimeMillis() - started);
+
+        return new Result(size, careerBase, departmentBase, teamBase, userBase, departmentCareer, teamDepartment);
+    }
+
+    public boolean alreadyGenerated() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email LIKE ?", Integer.class, "%" + EMAIL_DOMAIN);
+        return count != null && count > 0;
+    }
+
+    // ================= SHAPES =================
+
+    // The first `parents` children go one per parent so none is empty; the rest are skewed
+    private static int[] assign(int children, int parents, SplittableRandom random) {
+        Zipf zipf = new Zipf(parents, ORG_SKEW);
+        int[] parentOf = new int[children];
+        for (int i = 0; i < children; i++) {
+            parentOf[i] = i < parents ? i : zipf.next(random);
+        }
+        return parentOf;
+    }
+
+    // Mostly the position's skills, topped up with popular skills from the whole catalogue
+    private static Set<Integer> userSkills(Size size, int[] positionSkills, Zipf popularity,
+            SplittableRandom random) {
+        int target = Math.min(size.skills(), size.skillsPerUser() / 2 + random.nextInt(size.skillsPerUser() + 1));
+        Set<Integer> picked = new LinkedHashSet<>();
+        for (int s : positionSkills) {
+            if (picked.size() >= target * 7 / 10) break;
+            if (random.nextInt(4) != 0) picked.add(s);
+        }
+        for (int attempts = 0; picked.size() < target && attempts < target * 4; attempts++) {
+            picked.add(popularity.next(random));
+        }
+        return picked;
+    }
+
+    private static int[] distinct(int count, Zipf popularity, SplittableRandom random) {
+        Set<Integer> picked = new LinkedHashSet<>();
+        for (int attempts = 0; picked.size() < count && attempts < count * 8; attempts++) {
+            picked.add(popularity.next(random));
+        }
+        return picked.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static String numbered(String[] names, int i) {
+        return names[i % names.length] + " " + (i / names.length + 1);
+    }
+
+    private static String fullName(SplittableRandom random) {
+        return LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+    }
+
+    private static int score(SplittableRandom random) {
+        int r = random.nextInt(100);
+        for (int i = 0; i < SCORE_WEIGHTS.length; i++) {
+            r -= SCORE_WEIGHTS[i];
+            if (r < 0) return i + 1;
+        }
+        return SCORE_WEIGHTS.length;
+    }
+
+    private static Timestamp createdAt(LocalDateTime now, SplittableRandom random) {
+        return Timestamp.valueOf(now.minusMinutes(random.nextLong(HISTORY_DAYS * 24L * 60L)));
+    }
+
+    private long nextId(String table, String column) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + column + ") FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    // Zipf-distributed index in [0, n): index 0 is the most popular
+    private static final class Zipf {
+
+        private final double[] cumulative;
+
+        Zipf(int n, double exponent) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += 1.0 / Math.pow(i + 1, exponent);
+                cumulative[i] = sum;
+            }
+        }
+
+        int next(SplittableRandom random) {
+            double r = random.nextDouble() * cumulative[cumulative.length - 1];
+            int i = Arrays.binarySearch(cumulative, r);
+            return Math.min(i < 0 ? -i - 1 : i, cumulative.length - 1);
+        }
+    }
+
+    // Buffered multi-row INSERT for one table. Full statements of ROWS_PER_STATEMENT rows
+    // are sent STATEMENTS_PER_BATCH at a time; the parent table is flushed first so
+    // foreign keys always point at written rows.
+    private final class Rows {
+
+        private final String prefix;
+        private final String row;
+        private final int columns;
+        private final Rows parent;
+        private final List<Object[]> buffer = new ArrayList<>();
+        private long written;
+
+        Rows(String table, String columnList, Rows parent) {
+            this.prefix = "INSERT INTO " + table + " (" + columnList + ") VALUES ";
+            this.columns = columnList.split(",").length;
+            this.row = "(" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+            this.parent = parent;
+        }
+
+        void add(Object... values) {
+            buffer.add(values);
+            if (buffer.size() >= ROWS_PER_STATEMENT * STATEMENTS_PER_BATCH) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (parent != null) parent.flush();
+            if (buffer.isEmpty()) return;
+            int full = buffer.size() / ROWS_PER_STATEMENT;
+            if (full > 0) {
+                List<Object[]> statements = new ArrayList<>(full);
+                for (int i = 0; i < full; i++) {
+                    statements.add(params(buffer.subList(i * ROWS_PER_STATEMENT, (i + 1) * ROWS_PER_STATEMENT)));
+                }
+                jdbcTemplate.batchUpdate(sql(ROWS_PER_STATEMENT), statements);
+            }
+            List<Object[]> tail = buffer.subList(full * ROWS_PER_STATEMENT, buffer.size());
+            if (!tail.isEmpty()) {
+                jdbcTemplate.update(sql(tail.size()), params(tail));
+            }
+            written += buffer.size();
+            buffer.clear();
+        }
+
+        private String sql(int rows) {
+            return prefix + String.join(", ", Collections.nCopies(rows, row));
+        }
+
+        private Object[] params(List<Object[]> rows) {
+            Object[] params = new Object[rows.size() * columns];
+            int p = 0;
+            for (Object[] values : rows) {
+                System.arraycopy(values, 0, params, p, columns);
+                p += columns;
+            }
+            return params;
+        }
+    }
+}
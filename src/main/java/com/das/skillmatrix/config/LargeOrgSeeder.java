@@ -0,0 +1,39 @@
+package com.das.skillmatrix.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Loads a synthetic large org on startup: --spring.profiles.active=large-org
+// Sizes come from seed.large-org.* (see application.properties). For MySQL, add
+// rewriteBatchedStatements=true to the datasource URL to send each batch in one round trip.
+@Slf4j
+@Configuration
+@Profile("large-org")
+public class LargeOrgSeeder {
+
+    @Bean
+    CommandLineRunner seedLargeOrg(LargeOrgGenerator generator,
+            @Value("${seed.large-org.careers:20}") int careers,
+            @Value("${seed.large-org.departments:200}") int departments,
+            @Value("${seed.large-org.teams:2000}") int teams,
+            @Value("${seed.large-org.users:100000}") int users,
+            @Value("${seed.large-org.positions:40}") int positions,
+            @Value("${seed.large-org.skills:500}") int skills,
+            @Value("${seed.large-org.skills-per-user:8}") int skillsPerUser,
+            @Value("${seed.large-org.seed:42}") long seed,
+            @Value("${seed.large-org.search-index:true}") boolean searchIndex) {
+        return args -> {
+            if (generator.alreadyGenerated()) {
+                log.info("Large org already generated, skipping");
+                return;
+            }
+            generator.generate(new LargeOrgGenerator.Size(careers, departments, teams, users,
+                    positions, skills, skillsPerUser, seed), searchIndex);
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.das.skillmatrix.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Open-in-view for every endpoint except /api/auth/**. The request's EntityManager keeps the
+// JDBC connection of its first query until the response is written, so under open-in-view a
+// login would hold a pooled connection while it waits for BCrypt. Boot's own interceptor
+// (spring.jpa.open-in-view) cannot exclude paths, so it is turned off and this one registered.
+@Configuration
+public class OpenEntityManagerInViewConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    public OpenEntityManagerInViewConfig(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        entityManagerFactory.ifAvailable(emf -> {
+            OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+            interceptor.setEntityManagerFactory(emf);
+            registry.addWebRequestInterceptor(interceptor).excludePathPatterns("/api/auth/**");
+        });
+    }
+}
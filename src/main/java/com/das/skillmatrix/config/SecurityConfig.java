@@ -1,5 +1,6 @@
 package com.das.skillmatrix.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -13,6 +14,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import com.das.skillmatrix.exception.CustomAccessDeniedHandler;
 import com.das.skillmatrix.exception.CustomAuthenticationEntryPoint;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -40,6 +42,8 @@ public class SecurityConfig {
                 .csrf().disable()
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(WHITELIST).permitAll() // whitelist these
+                        // streamed exports finish on an async dispatch; the request was authorized already
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated() // everything else needs JWT
                 )
                 .exceptionHandling(e -> e
@@ -52,8 +56,9 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // Cost applies to new hashes; older ones are upgraded on login (AuthService)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password-hashing.bcrypt-cost:10}") int cost) {
+        return new BCryptPasswordEncoder(cost);
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.das.skillmatrix.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.das.skillmatrix.dto.request.AuditLogFilterRequest;
+import com.das.skillmatrix.dto.request.CursorPageRequest;
+import com.das.skillmatrix.dto.response.ApiResponse;
+import com.das.skillmatrix.dto.response.AuditLogDetailResponse;
+import com.das.skillmatrix.dto.response.AuditLogResponse;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
+import com.das.skillmatrix.export.ExportFormat;
+import com.das.skillmatrix.service.AuditLogQueryService;
+import com.das.skillmatrix.service.AuditLogQueryService.LogSource;
+import com.das.skillmatrix.service.ExportService;
+
+import lombok.RequiredArgsConstructor;
+
+// source: audit (audit_logs) or change (business_change_logs)
+@RestController
+@RequestMapping("/api/logs")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class AuditLogController {
+
+    private final AuditLogQueryService auditLogQueryService;
+    private final ExportService exportService;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/{source}")
+    public ResponseEntity<ApiResponse<CursorPageResponse<AuditLogResponse>>> search(
+            @PathVariable String source,
+            @ModelAttribute AuditLogFilterRequest filter,
+            @ModelAttribute CursorPageRequest page) {
+        return ResponseEntity.ok(new ApiResponse<>(
+                auditLogQueryService.search(LogSource.from(source), filter, page), true, null));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/{source}/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String source,
+            @ModelAttribute AuditLogFilterRequest filter,
+            @RequestParam(defaultValue = "csv") String format) {
+        LogSource logSource = LogSource.from(source);
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return exportFormat.response(logSource.table(), exportService.logs(logSource, filter, exportFormat));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/{source}/{id}")
+    public ResponseEntity<ApiResponse<AuditLogDetailResponse>> detail(@PathVariable String source, @PathVariable Long id) {
+        return ResponseEntity.ok(new ApiResponse<>(auditLogQueryService.detail(LogSource.from(source), id), true, null));
+    }
+}
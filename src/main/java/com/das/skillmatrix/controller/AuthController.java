@@ -54,7 +54,13 @@ public class AuthController {
             @Valid @RequestBody RefreshTokenRequest request) throws AuthException {
 
         RefreshTokenResponse response = authService.refreshToken(request);
-        return ResponseEntity.ok(new ApiResponse<>(response, true, null));
+        // The presented token is spent; hand out its replacement the same way login does
+        ResponseCookie springCookie = ResponseCookie.from("refresh_token", response.getRefreshToken()).httpOnly(true)
+                .secure(true)
+                .path("/")
+                .maxAge(refreshExpiration)
+                .build();
+        return ResponseEntity.ok().header(HttpHeaders.SET_COOKIE, springCookie.toString()).body(new ApiResponse<>(response, true, null));
     }
     
     @PreAuthorize("isAuthenticated()")
@@ -3,6 +3,7 @@ package com.das.skillmatrix.controller;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -18,9 +19,11 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 
 import com.das.skillmatrix.dto.request.CareerFilterRequest;
 import com.das.skillmatrix.dto.request.CareerRequest;
+import com.das.skillmatrix.dto.request.CursorPageRequest;
 import com.das.skillmatrix.dto.response.ApiResponse;
 import com.das.skillmatrix.dto.response.CareerDetailResponse;
 import com.das.skillmatrix.dto.response.CareerResponse;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
 import com.das.skillmatrix.dto.response.PageResponse;
 import com.das.skillmatrix.service.CareerService;
 
@@ -64,6 +67,15 @@ public class CareerController {
         return ResponseEntity.ok(new ApiResponse<>(careerService.list(filter, pageable), true, null));
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<CareerResponse>>> listByCursor(
+            @ModelAttribute CareerFilterRequest filter,
+            @ModelAttribute CursorPageRequest page,
+            @SortDefault(sort = "name", direction = Sort.Direction.ASC) Sort sort) {
+        return ResponseEntity.ok(new ApiResponse<>(careerService.listByCursor(filter, page, sort), true, null));
+    }
+
     @PreAuthorize("@permissionService.checkCareerAccess(#id)")
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<CareerDetailResponse>> detail(@PathVariable Long id) {
@@ -3,6 +3,7 @@ package com.das.skillmatrix.controller;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,9 +17,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.das.skillmatrix.dto.request.CursorPageRequest;
 import com.das.skillmatrix.dto.request.DepartmentFilterRequest;
 import com.das.skillmatrix.dto.request.DepartmentRequest;
 import com.das.skillmatrix.dto.response.ApiResponse;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
 import com.das.skillmatrix.dto.response.DepartmentDetailResponse;
 import com.das.skillmatrix.dto.response.DepartmentResponse;
 import com.das.skillmatrix.dto.response.PageResponse;
@@ -63,6 +66,16 @@ public class DepartmentController {
         return ResponseEntity.ok(new ApiResponse<>(departmentService.list(careerId, filter, pageable), true, null));
     }
 
+    @PreAuthorize("@permissionService.canViewDepartmentList(#careerId)")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<DepartmentResponse>>> listByCursor(
+            @RequestParam Long careerId,
+            @ModelAttribute DepartmentFilterRequest filter,
+            @ModelAttribute CursorPageRequest page,
+            @SortDefault(sort = "name", direction = Sort.Direction.ASC) Sort sort) {
+        return ResponseEntity.ok(new ApiResponse<>(departmentService.listByCursor(careerId, filter, page, sort), true, null));
+    }
+
     @PreAuthorize("@permissionService.canViewDepartmentDetail(#id)")
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<DepartmentDetailResponse>> detail(@PathVariable Long id) {
@@ -0,0 +1,52 @@
+package com.das.skillmatrix.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.das.skillmatrix.dto.request.CursorPageRequest;
+import com.das.skillmatrix.dto.response.ApiResponse;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
+import com.das.skillmatrix.dto.response.RevisionResponse;
+import com.das.skillmatrix.dto.response.TeamMembershipResponse;
+import com.das.skillmatrix.service.EntityHistoryService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/history")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class HistoryController {
+
+    private final EntityHistoryService entityHistoryService;
+
+    // type: user, team, department, career or team-member; newest revision first
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/{type}/{id}")
+    public ResponseEntity<ApiResponse<CursorPageResponse<RevisionResponse>>> history(
+            @PathVariable String type,
+            @PathVariable Long id,
+            @ModelAttribute CursorPageRequest page) {
+        return ResponseEntity.ok(new ApiResponse<>(
+                entityHistoryService.history(EntityHistoryService.HistoryType.from(type), id, page), true, null));
+    }
+
+    @PreAuthorize("@permissionService.checkTeamViewAccess(#teamId)")
+    @GetMapping("/team/{teamId}/members")
+    public ResponseEntity<ApiResponse<List<TeamMembershipResponse>>> teamMembersAsOf(
+            @PathVariable Long teamId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return ResponseEntity.ok(new ApiResponse<>(entityHistoryService.teamMembersAsOf(teamId, at), true, null));
+    }
+}
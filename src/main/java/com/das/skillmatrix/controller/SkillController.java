@@ -1,12 +1,15 @@
 package com.das.skillmatrix.controller;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -14,8 +17,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.das.skillmatrix.dto.request.CursorPageRequest;
 import com.das.skillmatrix.dto.request.SkillRequest;
 import com.das.skillmatrix.dto.response.ApiResponse;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
 import com.das.skillmatrix.dto.response.PageResponse;
 import com.das.skillmatrix.dto.response.SkillResponse;
 import com.das.skillmatrix.service.SkillService;
@@ -64,4 +69,12 @@ public class SkillController {
         PageResponse<SkillResponse> pageResponse = skillService.listSkills(pageable);
         return ResponseEntity.ok(new ApiResponse<>(pageResponse, true, null));
     }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<SkillResponse>>> getAllSkillsByCursor(
+            @ModelAttribute CursorPageRequest page,
+            @SortDefault(sort = "skillId", direction = Sort.Direction.ASC) Sort sort) {
+        return ResponseEntity.ok(new ApiResponse<>(skillService.listSkillsByCursor(page, sort), true, null));
+    }
 }
@@ -0,0 +1,109 @@
+package com.das.skillmatrix.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.das.skillmatrix.dto.response.ApiResponse;
+import com.das.skillmatrix.dto.response.SkillMatrixResponse;
+import com.das.skillmatrix.dto.response.SkillRollupResponse;
+import com.das.skillmatrix.entity.ScopeAccessLevel;
+import com.das.skillmatrix.export.ExportFormat;
+import com.das.skillmatrix.service.ExportService;
+import com.das.skillmatrix.service.SkillMatrixService;
+import com.das.skillmatrix.service.SkillRollupService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/skill-matrix")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class SkillMatrixController {
+
+    private final SkillMatrixService skillMatrixService;
+    private final SkillRollupService skillRollupService;
+    private final ExportService exportService;
+
+    @PreAuthorize("@permissionService.checkTeamViewAccess(#teamId)")
+    @GetMapping("/teams/{teamId}")
+    public ResponseEntity<ApiResponse<SkillMatrixResponse>> team(@PathVariable Long teamId) {
+        return ResponseEntity.ok(new ApiResponse<>(skillMatrixService.teamMatrix(teamId), true, null));
+    }
+
+    @PreAuthorize("@permissionService.checkDepartmentAccess(#departmentId)")
+    @GetMapping("/departments/{departmentId}")
+    public ResponseEntity<ApiResponse<SkillMatrixResponse>> department(@PathVariable Long departmentId) {
+        return ResponseEntity.ok(new ApiResponse<>(skillMatrixService.departmentMatrix(departmentId), true, null));
+    }
+
+    @PreAuthorize("@permissionService.checkCareerAccess(#careerId)")
+    @GetMapping("/careers/{careerId}")
+    public ResponseEntity<ApiResponse<SkillMatrixResponse>> career(@PathVariable Long careerId) {
+        return ResponseEntity.ok(new ApiResponse<>(skillMatrixService.careerMatrix(careerId), true, null));
+    }
+
+    @PreAuthorize("@permissionService.checkTeamViewAccess(#teamId)")
+    @GetMapping("/teams/{teamId}/export")
+    public ResponseEntity<StreamingResponseBody> exportTeam(
+            @PathVariable Long teamId, @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return exportFormat.response("team-" + teamId + "-skill-matrix", exportService.teamMatrix(teamId, exportFormat));
+    }
+
+    @PreAuthorize("@permissionService.checkDepartmentAccess(#departmentId)")
+    @GetMapping("/departments/{departmentId}/export")
+    public ResponseEntity<StreamingResponseBody> exportDepartment(
+            @PathVariable Long departmentId, @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return exportFormat.response("department-" + departmentId + "-skill-matrix",
+                exportService.departmentMatrix(departmentId, exportFormat));
+    }
+
+    @PreAuthorize("@permissionService.checkCareerAccess(#careerId)")
+    @GetMapping("/careers/{careerId}/export")
+    public ResponseEntity<StreamingResponseBody> exportCareer(
+            @PathVariable Long careerId, @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return exportFormat.response("career-" + careerId + "-skill-matrix",
+                exportService.careerMatrix(careerId, exportFormat));
+    }
+
+    // Per-skill score distribution, served from the rollup table
+    @PreAuthorize("@permissionService.checkTeamViewAccess(#teamId)")
+    @GetMapping("/teams/{teamId}/summary")
+    public ResponseEntity<ApiResponse<List<SkillRollupResponse>>> teamSummary(@PathVariable Long teamId) {
+        return ResponseEntity.ok(new ApiResponse<>(
+                skillRollupService.findByScope(ScopeAccessLevel.TEAM, teamId), true, null));
+    }
+
+    @PreAuthorize("@permissionService.checkDepartmentAccess(#departmentId)")
+    @GetMapping("/departments/{departmentId}/summary")
+    public ResponseEntity<ApiResponse<List<SkillRollupResponse>>> departmentSummary(@PathVariable Long departmentId) {
+        return ResponseEntity.ok(new ApiResponse<>(
+                skillRollupService.findByScope(ScopeAccessLevel.DEPARTMENT, departmentId), true, null));
+    }
+
+    @PreAuthorize("@permissionService.checkCareerAccess(#careerId)")
+    @GetMapping("/careers/{careerId}/summary")
+    public ResponseEntity<ApiResponse<List<SkillRollupResponse>>> careerSummary(@PathVariable Long careerId) {
+        return ResponseEntity.ok(new ApiResponse<>(
+                skillRollupService.findByScope(ScopeAccessLevel.CAREER, careerId), true, null));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<ApiResponse<Void>> rebuildRollups() {
+        skillRollupService.rebuildAll();
+        return ResponseEntity.ok(new ApiResponse<>(null, true, null));
+    }
+}
@@ -3,6 +3,7 @@ package com.das.skillmatrix.controller;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -16,9 +17,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.das.skillmatrix.dto.request.CursorPageRequest;
 import com.das.skillmatrix.dto.request.TeamFilterRequest;
 import com.das.skillmatrix.dto.request.TeamRequest;
 import com.das.skillmatrix.dto.response.ApiResponse;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
 import com.das.skillmatrix.dto.response.PageResponse;
 import com.das.skillmatrix.dto.response.TeamDetailResponse;
 import com.das.skillmatrix.dto.response.TeamResponse;
@@ -64,6 +67,15 @@ public class TeamController {
         return ResponseEntity.ok(new ApiResponse<>(teamService.list(filter, pageable), true, null));
     }
 
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER_DEPARTMENT', 'MANAGER_CAREER', 'MANAGER_TEAM')")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TeamResponse>>> listByCursor(
+            @ModelAttribute TeamFilterRequest filter,
+            @ModelAttribute CursorPageRequest page,
+            @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC) Sort sort) {
+        return ResponseEntity.ok(new ApiResponse<>(teamService.listByCursor(filter, page, sort), true, null));
+    }
+
     @PreAuthorize("@permissionService.checkTeamViewAccess(#id)")
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<TeamDetailResponse>> detail(@PathVariable Long id) {
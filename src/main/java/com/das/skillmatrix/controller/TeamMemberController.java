@@ -5,11 +5,13 @@ import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -17,13 +19,18 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.das.skillmatrix.dto.request.AddMemberByTeamRequest;
 import com.das.skillmatrix.dto.request.AddMemberByUserRequest;
+import com.das.skillmatrix.dto.request.CursorPageRequest;
 import com.das.skillmatrix.dto.request.EditMemberRequest;
 import com.das.skillmatrix.dto.response.ApiResponse;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
 import com.das.skillmatrix.dto.response.PageResponse;
 import com.das.skillmatrix.dto.response.TeamMemberResponse;
+import com.das.skillmatrix.export.ExportFormat;
+import com.das.skillmatrix.service.ExportService;
 import com.das.skillmatrix.service.TeamMemberService;
 
 import jakarta.validation.Valid;
@@ -36,6 +43,7 @@ import lombok.RequiredArgsConstructor;
 public class TeamMemberController {
 
     private final TeamMemberService teamMemberService;
+    private final ExportService exportService;
 
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER_CAREER', 'MANAGER_DEPARTMENT', 'MANAGER_TEAM') and @permissionService.checkMultiTeamAccess(#req.assignments.![teamId])")
     @PostMapping("/by-user")
@@ -73,4 +81,22 @@ public class TeamMemberController {
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
         return ResponseEntity.ok(new ApiResponse<>(teamMemberService.listByTeam(teamId, pageable), true, null));
     }
+
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER_CAREER', 'MANAGER_DEPARTMENT', 'MANAGER_TEAM') and @permissionService.checkTeamAccess(#teamId)")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TeamMemberResponse>>> listByTeamByCursor(
+            @RequestParam Long teamId,
+            @ModelAttribute CursorPageRequest page,
+            @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC) Sort sort) {
+        return ResponseEntity.ok(new ApiResponse<>(teamMemberService.listByTeamByCursor(teamId, page, sort), true, null));
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER_CAREER', 'MANAGER_DEPARTMENT', 'MANAGER_TEAM') and @permissionService.checkTeamAccess(#teamId)")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam Long teamId,
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return exportFormat.response("team-" + teamId + "-members", exportService.teamMembers(teamId, exportFormat));
+    }
 }
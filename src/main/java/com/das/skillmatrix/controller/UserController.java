@@ -1,9 +1,14 @@
 package com.das.skillmatrix.controller;
 
+import java.io.InputStream;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -13,17 +18,26 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.das.skillmatrix.dto.request.CreateUserRequest;
+import com.das.skillmatrix.dto.request.CursorPageRequest;
 import com.das.skillmatrix.dto.request.DeactivateUserRequest;
 import com.das.skillmatrix.dto.request.UpdateUserRequest;
 import com.das.skillmatrix.dto.request.UserFilterRequest;
 import com.das.skillmatrix.dto.response.ApiResponse;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
 import com.das.skillmatrix.dto.response.PageResponse;
 import com.das.skillmatrix.dto.response.UserDetailResponse;
+import com.das.skillmatrix.dto.response.UserImportResponse;
 import com.das.skillmatrix.dto.response.UserResponse;
+import com.das.skillmatrix.export.ExportFormat;
+import com.das.skillmatrix.service.ExportService;
+import com.das.skillmatrix.service.UserImportService;
 import com.das.skillmatrix.service.UserService;
 
 import jakarta.validation.Valid;
@@ -36,6 +50,8 @@ import lombok.RequiredArgsConstructor;
 public class UserController {
 
     private final UserService userService;
+    private final ExportService exportService;
+    private final UserImportService userImportService;
 
     @PreAuthorize("hasAnyRole('ADMIN','MANAGER_CAREER','MANAGER_DEPARTMENT','MANAGER_TEAM')")
     @GetMapping
@@ -46,6 +62,25 @@ public class UserController {
         return ResponseEntity.ok(new ApiResponse<>(pageRes, true, null));
     }
 
+    @PreAuthorize("hasAnyRole('ADMIN','MANAGER_CAREER','MANAGER_DEPARTMENT','MANAGER_TEAM')")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<UserResponse>>> listByCursor(
+            @ModelAttribute UserFilterRequest filter,
+            @ModelAttribute CursorPageRequest page,
+            @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC) Sort sort) {
+        return ResponseEntity.ok(new ApiResponse<>(userService.listByCursor(filter, page, sort), true, null));
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN','MANAGER_CAREER','MANAGER_DEPARTMENT','MANAGER_TEAM')")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @ModelAttribute UserFilterRequest filter,
+            @RequestParam(defaultValue = "csv") String format,
+            @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC) Sort sort) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return exportFormat.response("users", exportService.users(filter, sort, exportFormat));
+    }
+
     @PreAuthorize("@permissionService.checkTeamViewAccess(#teamId)")
     @GetMapping("/by-team/{teamId}")
     public ResponseEntity<ApiResponse<PageResponse<UserResponse>>> listByTeam(
@@ -63,6 +98,14 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(new ApiResponse<>(response, true, null));
     }
 
+    // Body is CSV with a header row, or a JSON array of the same fields as create
+    @PreAuthorize("hasAnyRole('ADMIN','MANAGER_CAREER','MANAGER_DEPARTMENT')")
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<ApiResponse<UserImportResponse>> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body) {
+        return ResponseEntity.ok(new ApiResponse<>(userImportService.importUsers(body, contentType), true, null));
+    }
+
     @PreAuthorize("@permissionService.canManageUser(#id)")
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<UserResponse>> update(
@@ -0,0 +1,19 @@
+package com.das.skillmatrix.dto.request;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.Data;
+
+@Data
+public class AuditLogFilterRequest {
+    private String action;
+    private String entityType;
+    private Long entityId; // only together with entityType
+    private Long userId;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from; // inclusive
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to; // exclusive
+}
@@ -0,0 +1,10 @@
+package com.das.skillmatrix.dto.request;
+
+import lombok.Data;
+
+@Data
+public class CursorPageRequest {
+    private String cursor;
+    private int size = 10;
+    private boolean withTotal;
+}
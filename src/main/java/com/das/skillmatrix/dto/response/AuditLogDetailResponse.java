@@ -0,0 +1,23 @@
+package com.das.skillmatrix.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogDetailResponse {
+    private Long id;
+    private Long userId;
+    private String userEmail;
+    private String action;
+    private String entityType;
+    private Long entityId;
+    private LocalDateTime createdAt;
+    private String ipAddress; // audit logs only
+    private String reason; // change logs only
+    private String payload; // JSON: audit metadata or the field changes
+}
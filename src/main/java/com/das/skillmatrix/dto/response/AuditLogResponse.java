@@ -0,0 +1,20 @@
+package com.das.skillmatrix.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogResponse {
+    private Long id;
+    private Long userId;
+    private String userEmail;
+    private String action;
+    private String entityType;
+    private Long entityId;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,17 @@
+package com.das.skillmatrix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+    // Only filled when the caller asked for it (withTotal=true)
+    private Long totalElements;
+}
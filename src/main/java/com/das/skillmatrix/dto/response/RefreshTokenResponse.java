@@ -11,4 +11,7 @@ public class RefreshTokenResponse {
     
     private String accessToken;
 
+    // Replaces the presented refresh token, which is no longer valid
+    private String refreshToken;
+
 }
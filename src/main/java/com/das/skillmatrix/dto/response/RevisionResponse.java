@@ -0,0 +1,18 @@
+package com.das.skillmatrix.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevisionResponse {
+    private Long revision;
+    private LocalDateTime revisionAt;
+    private String revisionType; // ADD | MOD | DEL
+    private Map<String, Object> values; // audited columns as of this revision
+}
@@ -0,0 +1,16 @@
+package com.das.skillmatrix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SkillMatrixCell {
+    private int skill;              // column index
+    private Integer managerScore;   // latest MANAGER evaluation
+    private Integer selfScore;      // latest SELF evaluation
+    private Integer requiredLevel;  // null when no position of the user requires the skill
+    private Integer gap;            // requiredLevel minus the manager (else self) score, floored at 0
+}
@@ -0,0 +1,16 @@
+package com.das.skillmatrix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SkillMatrixColumn {
+    private Long skillId;
+    private String name;
+    private int requiredCount;
+    private Double averageManagerScore;
+    private Double averageSelfScore;
+}
@@ -0,0 +1,19 @@
+package com.das.skillmatrix.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Users × skills grid for one scope. Rows only carry the non-empty cells; each cell
+// points at its column by index into `skills`.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SkillMatrixResponse {
+    private String scopeType;
+    private Long scopeId;
+    private List<SkillMatrixColumn> skills;
+    private List<SkillMatrixRow> users;
+}
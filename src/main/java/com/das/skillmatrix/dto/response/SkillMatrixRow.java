@@ -0,0 +1,20 @@
+package com.das.skillmatrix.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SkillMatrixRow {
+    private Long userId;
+    private String fullName;
+    private String email;
+    private int requiredSkills;
+    private int missingSkills;   // required but not scored by anyone
+    private int totalGap;
+    private List<SkillMatrixCell> cells;
+}
@@ -0,0 +1,19 @@
+package com.das.skillmatrix.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SkillRollupResponse {
+    private Long skillId;
+    private String skillName;
+    private String evaluationType;
+    private int count;
+    private Double average;
+    private List<Integer> histogram; // number of users at score 1..5
+}
@@ -0,0 +1,17 @@
+package com.das.skillmatrix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamMembershipResponse {
+    private Long teamMemberId;
+    private Long userId;
+    private String fullName; // current name; null when the user no longer exists
+    private String email;
+    private Long positionId;
+    private Long revision; // revision that put the membership in this state
+}
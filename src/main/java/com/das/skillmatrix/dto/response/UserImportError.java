@@ -0,0 +1,14 @@
+package com.das.skillmatrix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportError {
+    private int row; // 1-based data row, header excluded
+    private String email;
+    private String error; // same codes as single-user create, e.g. EMAIL_ALREADY_EXISTS
+}
@@ -0,0 +1,17 @@
+package com.das.skillmatrix.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportResponse {
+    private int total;
+    private int created;
+    private int failed;
+    private List<UserImportError> errors;
+}
@@ -5,13 +5,22 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+// Partitioned by month on created_at (see LogPartitionManager); the indexes serve activity
+// per entity (or entity type), user and action, newest first
 @Entity
-@Table(name = "audit_logs")
+@Table(name = "audit_logs", indexes = {
+        @Index(name = "idx_audit_logs_entity", columnList = "entity_type, entity_id, created_at"),
+        @Index(name = "idx_audit_logs_entity_type", columnList = "entity_type, created_at"),
+        @Index(name = "idx_audit_logs_user", columnList = "user_id, created_at"),
+        @Index(name = "idx_audit_logs_action", columnList = "action, created_at"),
+        @Index(name = "idx_audit_logs_created_at", columnList = "created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -5,13 +5,21 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+// Monthly partitions on created_at, same layout as audit_logs
 @Entity
-@Table(name = "business_change_logs")
+@Table(name = "business_change_logs", indexes = {
+        @Index(name = "idx_business_change_logs_entity", columnList = "entity_type, entity_id, created_at"),
+        @Index(name = "idx_business_change_logs_entity_type", columnList = "entity_type, created_at"),
+        @Index(name = "idx_business_change_logs_user", columnList = "user_id, created_at"),
+        @Index(name = "idx_business_change_logs_action", columnList = "action, created_at"),
+        @Index(name = "idx_business_change_logs_created_at", columnList = "created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
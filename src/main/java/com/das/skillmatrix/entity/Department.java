@@ -17,6 +17,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -31,6 +32,8 @@ import lombok.Setter;
 @Entity
 @Table(name = "departments", uniqueConstraints = {
         @UniqueConstraint(columnNames = { "name", "career_id" })
+}, indexes = {
+        @Index(name = "idx_departments_status_deleted_at", columnList = "status, deleted_at")
 })
 @Audited
 @Getter
@@ -29,4 +29,9 @@ public class PositionSkill extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "skill_id", nullable = false)
     private Skill skill;
+
+    // Target score (1–5) for holders of the position; null means DEFAULT_REQUIRED_LEVEL
+    private Integer requiredLevel;
+
+    public static final int DEFAULT_REQUIRED_LEVEL = 3;
 }
\ No newline at end of file
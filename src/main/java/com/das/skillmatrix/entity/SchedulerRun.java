@@ -0,0 +1,51 @@
+package com.das.skillmatrix.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// History of scheduled job runs on the node that held the lock
+@Entity
+@Table(name = "scheduler_runs", indexes = {
+        @Index(name = "idx_scheduler_runs_job_started", columnList = "job_name, started_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class SchedulerRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 64)
+    private String jobName;
+
+    @Column(nullable = false)
+    private String node;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "duration_ms", nullable = false)
+    private long durationMs;
+
+    // Rows the job deleted or updated
+    @Column(name = "rows_affected", nullable = false)
+    private long rowsAffected;
+
+    @Column(nullable = false, length = 16)
+    private String status; // SUCCESS, FAILED
+
+    @Column(length = 1000)
+    private String error;
+}
@@ -0,0 +1,5 @@
+package com.das.skillmatrix.entity;
+
+public enum ScopeAccessLevel {
+    CAREER, DEPARTMENT, TEAM
+}
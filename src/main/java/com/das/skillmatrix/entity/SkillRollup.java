@@ -0,0 +1,74 @@
+package com.das.skillmatrix.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Per-scope, per-skill aggregate of the latest score each member holds, one row per
+// evaluation type. A user counts once per scope (team members, plus for departments and
+// careers the users whose home department is inside). Maintained by SkillRollupService.
+@Entity
+@Table(name = "skill_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_skill_rollup",
+                columnNames = { "scope_type", "scope_id", "skill_id", "evaluation_type" })
+}, indexes = {
+        @Index(name = "idx_skill_rollup_skill", columnList = "skill_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class SkillRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope_type", nullable = false, length = 16)
+    private ScopeAccessLevel scopeType;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    @Column(name = "skill_id", nullable = false)
+    private Long skillId;
+
+    @Column(name = "evaluation_type", nullable = false, length = 16)
+    private String evaluationType;
+
+    @Column(name = "score_count", nullable = false)
+    private int scoreCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;
+
+    // Histogram of latest scores 1..5
+    @Column(name = "score1", nullable = false)
+    private int score1;
+
+    @Column(name = "score2", nullable = false)
+    private int score2;
+
+    @Column(name = "score3", nullable = false)
+    private int score3;
+
+    @Column(name = "score4", nullable = false)
+    private int score4;
+
+    @Column(name = "score5", nullable = false)
+    private int score5;
+
+    public Double getAverage() {
+        return scoreCount == 0 ? null : (double) scoreSum / scoreCount;
+    }
+}
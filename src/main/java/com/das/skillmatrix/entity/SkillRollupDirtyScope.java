@@ -0,0 +1,38 @@
+package com.das.skillmatrix.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Scopes whose skill_rollups rows changed while a full rebuild was building its shadow table.
+// Written by SkillRollupService's incremental paths only during a rebuild, and re-derived
+// (then cleared) once the shadow table has been swapped in.
+@Entity
+@Table(name = "skill_rollup_dirty_scopes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_skill_rollup_dirty_scope", columnNames = { "scope_type", "scope_id" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class SkillRollupDirtyScope {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope_type", nullable = false, length = 16)
+    private ScopeAccessLevel scopeType;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+}
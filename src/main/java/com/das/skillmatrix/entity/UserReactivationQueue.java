@@ -0,0 +1,34 @@
+package com.das.skillmatrix.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// One row per temporarily deactivated user, due when deactive_until passes. Written by
+// UserService on deactivation and drained by UserReactivationService, so finding the users to
+// reactivate is a range read on due_at instead of a scan of users.
+@Entity
+@Table(name = "user_reactivation_queue", indexes = {
+        @Index(name = "idx_urq_due_at", columnList = "due_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserReactivationQueue {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+}
@@ -0,0 +1,52 @@
+package com.das.skillmatrix.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Precomputed manager scope: one row per (manager, node) pair the manager can reach.
+// A career manager gets a career row (department/team null), a row per department and a row
+// per team underneath; a department manager gets the department row plus its teams; a team
+// manager gets the team row only. Maintained by ScopeClosureService.
+@Entity
+@Table(name = "user_scope_closure", indexes = {
+        @Index(name = "idx_usc_user_team", columnList = "user_id, team_id"),
+        @Index(name = "idx_usc_user_department", columnList = "user_id, department_id"),
+        @Index(name = "idx_usc_user_career", columnList = "user_id, career_id"),
+        @Index(name = "idx_usc_team", columnList = "team_id"),
+        @Index(name = "idx_usc_department", columnList = "department_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserScopeClosure {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "career_id", nullable = false)
+    private Long careerId;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(name = "team_id")
+    private Long teamId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "access_level", nullable = false, length = 16)
+    private ScopeAccessLevel accessLevel;
+}
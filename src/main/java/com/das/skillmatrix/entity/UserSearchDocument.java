@@ -0,0 +1,26 @@
+package com.das.skillmatrix.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Lower-cased text a user can be found by: email, full name, id, team names and
+// position names, one value per line. Maintained by UserSearchIndexService.
+@Entity
+@Table(name = "user_search_documents")
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserSearchDocument {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "document", nullable = false, columnDefinition = "TEXT")
+    private String document;
+}
@@ -0,0 +1,38 @@
+package com.das.skillmatrix.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Trigram postings over user_search_documents: one row per distinct trigram per user.
+// gram is compared byte-wise so the unique index agrees with the Java-side dedup; the
+// default accent- and case-insensitive collation would treat distinct grams as duplicates.
+// Tables created before the collation was declared are converted on startup by
+// UserSearchIndexService.ensureGramCollation(), since ddl-auto=update leaves columns alone.
+@Entity
+@Table(name = "user_search_grams", indexes = {
+        @Index(name = "idx_usg_gram_user", columnList = "gram, user_id", unique = true),
+        @Index(name = "idx_usg_user", columnList = "user_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserSearchGram {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "gram", nullable = false, columnDefinition = "varchar(3) COLLATE utf8mb4_bin")
+    private String gram;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+}
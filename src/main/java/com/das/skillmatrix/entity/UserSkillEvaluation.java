@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -16,7 +17,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "user_skill_evaluations")
+@Table(name = "user_skill_evaluations", indexes = {
+        @Index(name = "idx_use_latest", columnList = "user_id, skill_id, evaluation_type, created_at")
+})
 @Audited
 @Getter
 @Setter
@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -160,6 +161,54 @@ public class GlobalExceptionHandler {
                 userMessage = "Cannot reactivate: user is not deactivated";
                 status = HttpStatus.BAD_REQUEST;
                 break;
+            case "INVALID_CURSOR":
+                userMessage = "Cursor is invalid or does not match the requested sort";
+                status = HttpStatus.BAD_REQUEST;
+                break;
+            case "INVALID_SORT":
+                userMessage = "Cursor pagination supports a single sort property";
+                status = HttpStatus.BAD_REQUEST;
+                break;
+            case "INVALID_PAGE_SIZE":
+                userMessage = "Page size must be at least 1";
+                status = HttpStatus.BAD_REQUEST;
+                break;
+            case "INVALID_LOG_SOURCE":
+                userMessage = "Log source must be audit or change";
+                status = HttpStatus.BAD_REQUEST;
+                break;
+            case "ENTITY_TYPE_REQUIRED":
+                userMessage = "Filtering by entity id requires an entity type";
+                status = HttpStatus.BAD_REQUEST;
+                break;
+            case "INVALID_TIME_RANGE":
+                userMessage = "The start of the time range must be before its end";
+                status = HttpStatus.BAD_REQUEST;
+                break;
+            case "INVALID_HISTORY_TYPE":
+                userMessage = "History type must be user, team, department, career or team-member";
+                status = HttpStatus.BAD_REQUEST;
+                break;
+            case "INVALID_SCORE":
+                userMessage = "Score must be between 1 and 5";
+                status = HttpStatus.BAD_REQUEST;
+                break;
+            case "INVALID_EVALUATION_TYPE":
+                userMessage = "Evaluation type must be SELF or MANAGER";
+                status = HttpStatus.BAD_REQUEST;
+                break;
+            case "INVALID_EXPORT_FORMAT":
+                userMessage = "Export format must be csv or xlsx";
+                status = HttpStatus.BAD_REQUEST;
+                break;
+            case "INVALID_IMPORT_FILE":
+                userMessage = "Import file must be CSV with email and role columns, or a JSON array";
+                status = HttpStatus.BAD_REQUEST;
+                break;
+            case "IMPORT_TOO_LARGE":
+                userMessage = "Import file has too many rows";
+                status = HttpStatus.PAYLOAD_TOO_LARGE;
+                break;
             default:
                 userMessage = e.getMessage() != null ? e.getMessage() : "Bad request";
                 status = HttpStatus.BAD_REQUEST;
@@ -225,6 +274,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiResponse<Object>> handleServiceOverloadedException(ServiceOverloadedException e) {
+        log.warn("Service overloaded - Error: {}", e.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse("Server is busy, please retry shortly", 503);
+        ApiResponse<Object> response = new ApiResponse<>(null, false, errorResponse);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(response);
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ApiResponse<Object>> handleResourceNotFoundException(ResourceNotFoundException e) {
         log.error("Resource not found - Error: {}", e.getMessage());
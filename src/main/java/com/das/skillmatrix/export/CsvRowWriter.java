@@ -0,0 +1,57 @@
+package com.das.skillmatrix.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+// RFC 4180 CSV in UTF-8 with a BOM, so spreadsheet tools pick the right encoding.
+// Text starting with a formula character is prefixed with ' to stop it being evaluated.
+final class CsvRowWriter extends RowWriter {
+
+    private final Writer out;
+
+    CsvRowWriter(OutputStream stream) throws IOException {
+        this.out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+        out.write('\uFEFF');
+    }
+
+    @Override
+    protected void write(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) out.write(',');
+            Object value = values[i];
+            if (value == null) continue;
+            if (value instanceof Number) {
+                out.write(value.toString());
+            } else {
+                out.write(quote(value.toString()));
+            }
+        }
+        out.write("\r\n");
+    }
+
+    @Override
+    protected void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.flush();
+    }
+
+    static String quote(String text) {
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        boolean quoted = false;
+        for (int i = 0; i < text.length() && !quoted; i++) {
+            char c = text.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quoted ? '"' + text.replace("\"", "\"\"") + '"' : text;
+    }
+}
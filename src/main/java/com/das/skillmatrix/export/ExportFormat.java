@@ -0,0 +1,43 @@
+package com.das.skillmatrix.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public enum ExportFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static ExportFormat of(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) return format;
+        }
+        throw new IllegalArgumentException("INVALID_EXPORT_FORMAT");
+    }
+
+    public RowWriter open(OutputStream out) throws IOException {
+        return this == CSV ? new CsvRowWriter(out) : new XlsxRowWriter(out);
+    }
+
+    // Attachment response named "<baseName>.<extension>"
+    public ResponseEntity<StreamingResponseBody> response(String baseName, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(contentType))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(baseName + "." + extension).build().toString())
+                .body(body);
+    }
+}
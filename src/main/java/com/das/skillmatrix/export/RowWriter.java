@@ -0,0 +1,31 @@
+package com.das.skillmatrix.export;
+
+import java.io.IOException;
+
+// Forward-only tabular writer. Cells are written as they arrive: null is an empty cell,
+// a Number is numeric, anything else is its toString(). The underlying stream is
+// flushed every FLUSH_EVERY rows so the client receives the file while it is produced.
+public abstract class RowWriter {
+
+    static final int FLUSH_EVERY = 500;
+
+    private long rows;
+
+    public final void row(Object... values) throws IOException {
+        write(values);
+        if (++rows % FLUSH_EVERY == 0) {
+            flush();
+        }
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    // Completes the file; the stream itself is left open for the caller
+    public abstract void finish() throws IOException;
+
+    protected abstract void write(Object[] values) throws IOException;
+
+    protected abstract void flush() throws IOException;
+}
@@ -1,6 +1,5 @@
 package com.das.skillmatrix.repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +33,5 @@ public interface CareerRepository extends JpaRepository<Career, Long>, JpaSpecif
                             com.das.skillmatrix.entity.GeneralStatus.DEACTIVE)
             """)
     Page<CareerResponse> findCareerResponses(Pageable pageable);
-    List<Career> findByStatusAndDeletedAtBefore(GeneralStatus status, LocalDateTime cutoff);
     boolean existsByCareerIdAndManagers_UserId(Long careerId, Long userId);
 }
@@ -1,6 +1,5 @@
 package com.das.skillmatrix.repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,8 +25,9 @@ public interface DepartmentRepository extends JpaRepository<Department, Long>, J
     boolean existsByDepartmentIdAndManagers_UserId(Long departmentId, Long userId);
     @Query("SELECT d.career.careerId FROM Department d WHERE d.departmentId = :departmentId")
     Optional<Long> findCareerIdByDepartmentId(Long departmentId);
-    List<Department> findByStatusAndDeletedAtBefore(GeneralStatus status, LocalDateTime dateTime);
     List<Department> findByManagers_UserId(Long userId);
+    @Query("SELECT d.departmentId, d.career.careerId FROM Department d")
+    List<Object[]> findAllCareerLinks();
     @Query("""
             select new com.das.skillmatrix.dto.response.DepartmentBrief(
                 d.departmentId,
@@ -1,12 +1,32 @@
 package com.das.skillmatrix.repository;
 
+import java.time.LocalDateTime;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.das.skillmatrix.entity.RefreshToken;
 import com.das.skillmatrix.entity.User;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long>{
-	void deleteByUser(User user);
+
+	@Modifying
+	@Query("DELETE FROM RefreshToken r WHERE r.user = :user")
+	int deleteByUser(@Param("user") User user);
+
+	// Consumes a live token: 1 when it existed and had not expired, 0 when revoked or already used
+	@Modifying
+	@Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash AND r.expiresAt > :now")
+	int consume(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+	// One chunk of the expiry purge, committed on its own
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM refresh_tokens WHERE expires_at <= :now LIMIT :limit", nativeQuery = true)
+	int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
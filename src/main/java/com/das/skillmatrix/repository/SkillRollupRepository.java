@@ -0,0 +1,15 @@
+package com.das.skillmatrix.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.das.skillmatrix.entity.ScopeAccessLevel;
+import com.das.skillmatrix.entity.SkillRollup;
+
+@Repository
+public interface SkillRollupRepository extends JpaRepository<SkillRollup, Long> {
+
+    List<SkillRollup> findByScopeTypeAndScopeIdOrderBySkillIdAscEvaluationTypeAsc(ScopeAccessLevel scopeType, Long scopeId);
+}
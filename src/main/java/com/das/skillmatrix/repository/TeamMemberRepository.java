@@ -7,13 +7,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.das.skillmatrix.entity.Team;
 import com.das.skillmatrix.entity.TeamMember;
 
 @Repository
-public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
+public interface TeamMemberRepository extends JpaRepository<TeamMember, Long>, JpaSpecificationExecutor<TeamMember> {
     boolean existsByTeam_TeamIdAndUser_UserId(Long teamId, Long userId);
     void deleteAllByTeam(Team team);
     boolean existsByTeam_TeamId(Long teamId);
@@ -22,4 +25,7 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
     Page<TeamMember> findByTeam_TeamId(Long teamId, Pageable pageable);
     List<TeamMember> findByUser_UserId(Long userId);
     Optional<TeamMember> findByTeam_TeamIdAndUser_UserId(Long teamId, Long userId);
+
+    @Query("SELECT tm.team.teamId FROM TeamMember tm WHERE tm.id = :teamMemberId")
+    Optional<Long> findTeamIdById(@Param("teamMemberId") Long teamMemberId);
 }
@@ -1,6 +1,5 @@
 package com.das.skillmatrix.repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +22,8 @@ public interface TeamRepository extends JpaRepository<Team, Long>, JpaSpecificat
     Optional<Long> findDepartmentIdByTeamId(Long teamId);
     @Query("SELECT t.department.career.careerId FROM Team t WHERE t.teamId = :teamId")
     Optional<Long> findCareerIdByTeamId(Long teamId);
+    @Query("SELECT t.teamId, t.department.departmentId FROM Team t")
+    List<Object[]> findAllDepartmentLinks();
 
     boolean existsByNameIgnoreCaseAndDepartment_DepartmentIdAndStatusIn(
             String name,
@@ -41,5 +42,4 @@ public interface TeamRepository extends JpaRepository<Team, Long>, JpaSpecificat
             @Param("departmentId") Long departmentId,
             @Param("excludeTeamId") Long excludeTeamId,
             @Param("statuses") List<GeneralStatus> statuses);
-    List<Team> findByStatusAndDeletedAtBefore(GeneralStatus status, LocalDateTime cutoff);
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.das.skillmatrix.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.das.skillmatrix.entity.UserReactivationQueue;
+
+@Repository
+public interface UserReactivationQueueRepository extends JpaRepository<UserReactivationQueue, Long> {
+
+    boolean existsByDueAtLessThanEqual(LocalDateTime now);
+
+    @Query("SELECT q.userId FROM UserReactivationQueue q WHERE q.dueAt <= :now ORDER BY q.dueAt")
+    List<Long> findDueUserIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM UserReactivationQueue q WHERE q.userId IN :userIds AND q.dueAt <= :now")
+    int deleteDue(@Param("userIds") Collection<Long> userIds, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM UserReactivationQueue q WHERE q.userId = :userId")
+    int deleteByUser(@Param("userId") Long userId);
+
+    // Queues temporary deactivations made before the queue existed
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO user_reactivation_queue (user_id, due_at)
+            SELECT u.user_id, u.deactive_until FROM users u
+             WHERE u.deactive_type = 'TEMPORARY' AND u.deactive_until IS NOT NULL
+            """, nativeQuery = true)
+    int enqueueMissing();
+}
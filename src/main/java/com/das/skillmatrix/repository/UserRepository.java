@@ -1,9 +1,16 @@
 package com.das.skillmatrix.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 
 import com.das.skillmatrix.entity.User;
 
@@ -12,6 +19,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.das.skillmatrix.entity.GeneralStatus;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
 import org.springframework.data.jpa.repository.Modifying;
 
@@ -19,12 +27,43 @@ import org.springframework.data.jpa.repository.Modifying;
 public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     User findUserByEmail(String email);
 
+    // Row lock on the user for the rest of the transaction; serializes per-user read-modify-write
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.userId = :userId")
+    Optional<User> findByIdForUpdate(@Param("userId") Long userId);
+
+    @Override
+    @EntityGraph(attributePaths = {"department"})
+    Page<User> findAll(Specification<User> spec, Pageable pageable);
+
+    // (userId, positionId, positionName) for a whole page of users in one query
+    @Query("SELECT u.userId, p.positionId, p.name FROM User u JOIN u.positions p " +
+           "WHERE u.userId IN :userIds ORDER BY u.userId, p.positionId")
+    List<Object[]> findPositionRowsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // (kind, id, name) for every scope the user holds: managed careers, departments and teams,
+    // plus team memberships, in one round trip
+    @Query(value = "SELECT 'CAREER', c.career_id, c.name FROM career_managers m " +
+           "JOIN careers c ON c.career_id = m.career_id WHERE m.user_id = :userId " +
+           "UNION ALL SELECT 'DEPARTMENT', d.department_id, d.name FROM department_managers m " +
+           "JOIN departments d ON d.department_id = m.department_id WHERE m.user_id = :userId " +
+           "UNION ALL SELECT 'TEAM', t.team_id, t.name FROM team_managers m " +
+           "JOIN teams t ON t.team_id = m.team_id WHERE m.user_id = :userId " +
+           "UNION ALL SELECT 'MEMBER', t.team_id, t.name FROM team_members tm " +
+           "JOIN teams t ON t.team_id = tm.team_id WHERE tm.user_id = :userId",
+           nativeQuery = true)
+    List<Object[]> findScopeRows(@Param("userId") Long userId);
+
     @Query("SELECT CASE WHEN COUNT(u) > 0 THEN true ELSE false END " +
            "FROM User u JOIN u.department ud JOIN ud.career uc, Team t JOIN t.department td JOIN td.career tc " +
            "WHERE u.userId = :userId AND t.teamId = :teamId AND uc.careerId = tc.careerId")
     boolean checkUserInSameCareerWithTeam(@Param("userId") Long userId, @Param("teamId") Long teamId);
 
     boolean existsByEmailIgnoreCase(String email);
+
+    // Which of these emails are taken; the column collation makes the match case-insensitive
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
     
     boolean existsByEmailIgnoreCaseAndUserIdNot(String email, Long userId);
     
@@ -34,4 +73,16 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     @Query("UPDATE User u SET u.status = :activeStatus, u.deactiveType = null, u.deactiveUntil = null, u.deActiveAt = null " +
            "WHERE u.deactiveType = 'TEMPORARY' AND u.deactiveUntil <= :now")
     int reactivateExpiredUsers(@Param("now") LocalDateTime now, @Param("activeStatus") GeneralStatus activeStatus);
-}
\ No newline at end of file
+
+    @Modifying
+    @Query("UPDATE User u SET u.status = :activeStatus, u.deactiveType = null, u.deactiveUntil = null, u.deActiveAt = null " +
+           "WHERE u.userId IN :userIds AND u.deactiveType = 'TEMPORARY' AND u.deactiveUntil <= :now")
+    int reactivateExpiredUsers(@Param("userIds") Collection<Long> userIds, @Param("now") LocalDateTime now,
+            @Param("activeStatus") GeneralStatus activeStatus);
+
+    // Login hash upgrade; only applies while the hash is still the one the login verified
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :newHash WHERE u.userId = :userId AND u.passwordHash = :oldHash")
+    int updatePasswordHash(@Param("userId") Long userId, @Param("oldHash") String oldHash,
+            @Param("newHash") String newHash);
+}
@@ -0,0 +1,101 @@
+package com.das.skillmatrix.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.das.skillmatrix.entity.ScopeAccessLevel;
+import com.das.skillmatrix.entity.UserScopeClosure;
+
+@Repository
+public interface UserScopeClosureRepository extends JpaRepository<UserScopeClosure, Long> {
+
+    @Query("""
+            SELECT COUNT(c) > 0 FROM UserScopeClosure c
+            WHERE c.userId = :userId AND c.careerId = :careerId
+              AND c.departmentId IS NULL AND c.accessLevel IN :levels
+            """)
+    boolean existsCareerScope(@Param("userId") Long userId,
+            @Param("careerId") Long careerId,
+            @Param("levels") Collection<ScopeAccessLevel> levels);
+
+    @Query("""
+            SELECT COUNT(c) > 0 FROM UserScopeClosure c
+            WHERE c.userId = :userId AND c.careerId = :careerId
+              AND c.accessLevel IN :levels
+            """)
+    boolean existsAnyScopeInCareer(@Param("userId") Long userId,
+            @Param("careerId") Long careerId,
+            @Param("levels") Collection<ScopeAccessLevel> levels);
+
+    @Query("""
+            SELECT COUNT(c) > 0 FROM UserScopeClosure c
+            WHERE c.userId = :userId AND c.accessLevel IN :levels
+              AND c.careerId = (SELECT d.career.careerId FROM Department d WHERE d.departmentId = :departmentId)
+            """)
+    boolean existsAnyScopeInCareerOfDepartment(@Param("userId") Long userId,
+            @Param("departmentId") Long departmentId,
+            @Param("levels") Collection<ScopeAccessLevel> levels);
+
+    @Query("""
+            SELECT COUNT(c) > 0 FROM UserScopeClosure c
+            WHERE c.userId = :userId AND c.departmentId = :departmentId
+              AND c.teamId IS NULL AND c.accessLevel IN :levels
+            """)
+    boolean existsDepartmentScope(@Param("userId") Long userId,
+            @Param("departmentId") Long departmentId,
+            @Param("levels") Collection<ScopeAccessLevel> levels);
+
+    @Query("""
+            SELECT COUNT(c) > 0 FROM UserScopeClosure c
+            WHERE c.userId = :userId AND c.teamId = :teamId AND c.accessLevel IN :levels
+            """)
+    boolean existsTeamScope(@Param("userId") Long userId,
+            @Param("teamId") Long teamId,
+            @Param("levels") Collection<ScopeAccessLevel> levels);
+
+    @Query("""
+            SELECT COUNT(DISTINCT c.careerId) FROM UserScopeClosure c
+            WHERE c.userId = :userId AND c.careerId IN :careerIds
+              AND c.departmentId IS NULL AND c.accessLevel IN :levels
+            """)
+    long countCareerScopes(@Param("userId") Long userId,
+            @Param("careerIds") Collection<Long> careerIds,
+            @Param("levels") Collection<ScopeAccessLevel> levels);
+
+    @Query("""
+            SELECT COUNT(DISTINCT c.departmentId) FROM UserScopeClosure c
+            WHERE c.userId = :userId AND c.departmentId IN :departmentIds
+              AND c.teamId IS NULL AND c.accessLevel IN :levels
+            """)
+    long countDepartmentScopes(@Param("userId") Long userId,
+            @Param("departmentIds") Collection<Long> departmentIds,
+            @Param("levels") Collection<ScopeAccessLevel> levels);
+
+    @Query("""
+            SELECT COUNT(DISTINCT c.teamId) FROM UserScopeClosure c
+            WHERE c.userId = :userId AND c.teamId IN :teamIds
+            """)
+    long countTeamScopes(@Param("userId") Long userId,
+            @Param("teamIds") Collection<Long> teamIds);
+
+    @Modifying
+    @Query("DELETE FROM UserScopeClosure c WHERE c.userId = :userId")
+    int deleteByUser(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM UserScopeClosure c WHERE c.teamId IN :teamIds")
+    int deleteByTeams(@Param("teamIds") Collection<Long> teamIds);
+
+    @Modifying
+    @Query("DELETE FROM UserScopeClosure c WHERE c.departmentId IN :departmentIds")
+    int deleteByDepartments(@Param("departmentIds") Collection<Long> departmentIds);
+
+    @Modifying
+    @Query("DELETE FROM UserScopeClosure c WHERE c.careerId IN :careerIds")
+    int deleteByCareers(@Param("careerIds") Collection<Long> careerIds);
+}
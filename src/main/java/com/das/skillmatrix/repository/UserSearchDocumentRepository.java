@@ -0,0 +1,19 @@
+package com.das.skillmatrix.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.das.skillmatrix.entity.UserSearchDocument;
+
+@Repository
+public interface UserSearchDocumentRepository extends JpaRepository<UserSearchDocument, Long> {
+
+    @Modifying
+    @Query("DELETE FROM UserSearchDocument d WHERE d.userId IN :userIds")
+    int deleteByUsers(@Param("userIds") Collection<Long> userIds);
+}
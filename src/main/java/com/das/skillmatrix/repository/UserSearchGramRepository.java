@@ -0,0 +1,19 @@
+package com.das.skillmatrix.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.das.skillmatrix.entity.UserSearchGram;
+
+@Repository
+public interface UserSearchGramRepository extends JpaRepository<UserSearchGram, Long> {
+
+    @Modifying
+    @Query("DELETE FROM UserSearchGram g WHERE g.userId IN :userIds")
+    int deleteByUsers(@Param("userIds") Collection<Long> userIds);
+}
@@ -1,11 +1,20 @@
 package com.das.skillmatrix.repository;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
 import com.das.skillmatrix.entity.UserSkillEvaluation;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface UserSkillEvaluationRepository extends JpaRepository<UserSkillEvaluation, Long> {
-    
+
+    // Locking read: sees the latest committed row rather than the transaction's snapshot
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<UserSkillEvaluation> findFirstByUser_UserIdAndSkill_SkillIdAndEvaluationTypeOrderByCreatedAtDescEvaluationIdDesc(
+            Long userId, Long skillId, String evaluationType);
 }
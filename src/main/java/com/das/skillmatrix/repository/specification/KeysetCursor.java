@@ -0,0 +1,35 @@
+package com.das.skillmatrix.repository.specification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+
+// Opaque position of the last row of a keyset page: the sort property and direction it
+// was produced for, the sort value of that row and its id as tie-breaker. Encoded as
+// URL-safe Base64 of "property|ASC|id|=value" ("property|ASC|id|" when the value is null).
+public record KeysetCursor(String property, Sort.Direction direction, Long id, String value) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        String raw = property + '|' + direction.name() + '|' + id + '|' + (value == null ? "" : "=" + value);
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("INVALID_CURSOR");
+            }
+            String value = parts[3].isEmpty() ? null : parts[3].substring(1);
+            return new KeysetCursor(parts[0], Sort.Direction.valueOf(parts[1]), Long.valueOf(parts[2]), value);
+        } catch (IllegalArgumentException e) {
+            // Covers bad Base64, unknown direction and non-numeric id
+            throw new IllegalArgumentException("INVALID_CURSOR");
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.das.skillmatrix.repository.specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.util.StringUtils;
+
+import com.das.skillmatrix.dto.request.CursorPageRequest;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+// Seek pagination on top of any entity Specification. Rows are ordered by one sort
+// property plus the id as tie-breaker; the next page starts strictly after the
+// (value, id) pair carried by the cursor, so the database never skips rows with OFFSET.
+// One extra row is fetched to know whether another page exists, and the COUNT query
+// only runs when the caller asks for the total.
+public final class KeysetSpecification {
+
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private KeysetSpecification() {
+    }
+
+    public static <T, R> CursorPageResponse<R> page(
+            JpaSpecificationExecutor<T> repository,
+            Specification<T> spec,
+            Sort sort,
+            String idProperty,
+            CursorPageRequest request,
+            Function<T, R> mapper,
+            String... fetchPaths
+    ) {
+        if (request.getSize() < 1) {
+            throw new IllegalArgumentException("INVALID_PAGE_SIZE");
+        }
+        int size = Math.min(request.getSize(), MAX_PAGE_SIZE);
+        Sort.Order order = singleOrder(sort, idProperty);
+
+        Specification<T> seek = spec;
+        if (StringUtils.hasText(request.getCursor())) {
+            KeysetCursor cursor = KeysetCursor.decode(request.getCursor());
+            // A cursor is only valid for the ordering it was produced with
+            if (!cursor.property().equals(order.getProperty()) || cursor.direction() != order.getDirection()) {
+                throw new IllegalArgumentException("INVALID_CURSOR");
+            }
+            seek = spec.and(after(cursor, idProperty));
+        }
+
+        Sort keysetSort = order.getProperty().equals(idProperty)
+                ? Sort.by(order)
+                : Sort.by(order, new Sort.Order(order.getDirection(), idProperty));
+        List<T> rows = repository.findBy(seek, q -> {
+            var query = q.sortBy(keysetSort).limit(size + 1);
+            return fetchPaths.length > 0 ? query.project(fetchPaths).all() : query.all();
+        });
+
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf(content.get(content.size() - 1), order, idProperty) : null;
+        Long total = request.isWithTotal() ? repository.count(spec) : null;
+
+        return new CursorPageResponse<>(content.stream().map(mapper).toList(), size, nextCursor, hasNext, total);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <T> Specification<T> after(KeysetCursor cursor, String idProperty) {
+        return (root, query, cb) -> {
+            boolean asc = cursor.direction().isAscending();
+            Path<Long> id = root.get(idProperty);
+            Predicate idAfter = asc ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+            if (cursor.property().equals(idProperty)) {
+                return idAfter;
+            }
+
+            Path<Comparable> path = (Path<Comparable>) path(root, cursor.property());
+            // MySQL sorts NULLs first ascending and last descending
+            if (cursor.value() == null) {
+                return asc
+                        ? cb.or(cb.and(cb.isNull(path), idAfter), cb.isNotNull(path))
+                        : cb.and(cb.isNull(path), idAfter);
+            }
+            Comparable value = parse(cursor.value(), path.getJavaType());
+            Predicate beyond = asc ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+            Predicate tie = cb.and(cb.equal(path, value), idAfter);
+            return asc ? cb.or(beyond, tie) : cb.or(beyond, tie, cb.isNull(path));
+        };
+    }
+
+    private static Sort.Order singleOrder(Sort sort, String idProperty) {
+        List<Sort.Order> orders = sort.stream()
+                .filter(o -> !o.getProperty().equals(idProperty))
+                .toList();
+        if (orders.size() > 1) {
+            throw new IllegalArgumentException("INVALID_SORT");
+        }
+        if (orders.isEmpty()) {
+            Sort.Order byId = sort.getOrderFor(idProperty);
+            return byId != null ? byId : Sort.Order.asc(idProperty);
+        }
+        return orders.get(0);
+    }
+
+    private static String cursorOf(Object entity, Sort.Order order, String idProperty) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+        Long id = (Long) wrapper.getPropertyValue(idProperty);
+        Object value = wrapper.getPropertyValue(order.getProperty());
+        String raw = value == null ? null : value instanceof Enum<?> e ? e.name() : value.toString();
+        return new KeysetCursor(order.getProperty(), order.getDirection(), id, raw).encode();
+    }
+
+    private static Path<?> path(Root<?> root, String property) {
+        Path<?> path = root;
+        for (String part : property.split("\\.")) {
+            path = path.get(part);
+        }
+        return path;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Comparable parse(String raw, Class<?> type) {
+        try {
+            if (type == String.class) return raw;
+            if (type == LocalDateTime.class) return LocalDateTime.parse(raw);
+            if (type == LocalDate.class) return LocalDate.parse(raw);
+            if (type == Long.class || type == long.class) return Long.valueOf(raw);
+            if (type == Integer.class || type == int.class) return Integer.valueOf(raw);
+            if (type == Boolean.class || type == boolean.class) return Boolean.valueOf(raw);
+            if (type.isEnum()) return Enum.valueOf((Class<Enum>) type, raw);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("INVALID_CURSOR");
+        }
+        throw new IllegalArgumentException("INVALID_SORT");
+    }
+}
@@ -3,21 +3,23 @@ package com.das.skillmatrix.repository.specification;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
 import com.das.skillmatrix.dto.request.UserFilterRequest;
-import com.das.skillmatrix.entity.Career;
-import com.das.skillmatrix.entity.Department;
 import com.das.skillmatrix.entity.GeneralStatus;
 import com.das.skillmatrix.entity.Team;
 import com.das.skillmatrix.entity.TeamMember;
 import com.das.skillmatrix.entity.User;
+import com.das.skillmatrix.entity.UserSearchDocument;
+import com.das.skillmatrix.entity.UserSearchGram;
+import com.das.skillmatrix.service.UserSearchIndexService;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
@@ -28,32 +30,11 @@ public class UserSpecification {
                                                  List<Long> scopeIds, 
                                                  String currentUserRole) {
         return (root, query, cb) -> {
-            // Use distinct to avoid duplicates due to joins
-            query.distinct(true);
-
             List<Predicate> predicates = new ArrayList<>();
 
-            // 1. Keyword search (email, fullName, userId, team name)
+            // 1. Keyword search (email, fullName, userId, team and position names) via the search index
             if (StringUtils.hasText(filter.getKeyword())) {
-                String likePattern = "%" + filter.getKeyword().trim().toLowerCase() + "%";
-                Predicate emailPredicate = cb.like(cb.lower(root.get("email")), likePattern);
-                Predicate namePredicate = cb.like(cb.lower(root.get("fullName")), likePattern);
-                
-                // Search by userId (cast Long to String for LIKE)
-                Predicate userIdPredicate = cb.like(
-                    root.get("userId").as(String.class), likePattern);
-                
-                // Search by Team Name (via TeamMember subquery)
-                Subquery<Long> teamNameSubquery = query.subquery(Long.class);
-                Root<TeamMember> tmNameRoot = teamNameSubquery.from(TeamMember.class);
-                Join<TeamMember, User> tmNameUser = tmNameRoot.join("user");
-                Join<TeamMember, Team> tmNameTeam = tmNameRoot.join("team");
-                teamNameSubquery.select(tmNameUser.get("userId"))
-                    .where(cb.like(cb.lower(tmNameTeam.get("name")), likePattern));
-                
-                Predicate teamNamePredicate = root.get("userId").in(teamNameSubquery);
-                
-                predicates.add(cb.or(emailPredicate, namePredicate, userIdPredicate, teamNamePredicate));
+                predicates.add(root.get("userId").in(keywordMatches(query, cb, filter.getKeyword())));
             }
 
             // 2. Status filter
@@ -89,6 +70,28 @@ public class UserSpecification {
         };
     }
 
+    // User ids whose search document contains the keyword. The trigram postings narrow the
+    // candidates through an index; the LIKE on the (small) document confirms the substring.
+    private static Subquery<Long> keywordMatches(CriteriaQuery<?> query, CriteriaBuilder cb, String keyword) {
+        String normalized = UserSearchIndexService.normalize(keyword);
+        Subquery<Long> matches = query.subquery(Long.class);
+        Root<UserSearchDocument> doc = matches.from(UserSearchDocument.class);
+        List<Predicate> conditions = new ArrayList<>();
+        conditions.add(cb.like(doc.get("document"), "%" + normalized + "%"));
+
+        Set<String> grams = UserSearchIndexService.keywordGrams(normalized);
+        if (!grams.isEmpty()) {
+            Subquery<Long> candidates = query.subquery(Long.class);
+            Root<UserSearchGram> gram = candidates.from(UserSearchGram.class);
+            candidates.select(gram.<Long>get("userId"))
+                    .where(gram.get("gram").in(grams))
+                    .groupBy(gram.get("userId"))
+                    .having(cb.equal(cb.count(gram), (long) grams.size()));
+            conditions.add(doc.get("userId").in(candidates));
+        }
+        return matches.select(doc.<Long>get("userId")).where(conditions.toArray(new Predicate[0]));
+    }
+
     private static void applyDateFilter(Root<User> root, CriteriaBuilder cb, 
                                        List<Predicate> predicates, String dateModified) {
         if (!StringUtils.hasText(dateModified) || "any time".equalsIgnoreCase(dateModified.trim())) {
@@ -127,7 +130,7 @@ public class UserSpecification {
     }
 
     private static void applyScopeFilter(Root<User> root, 
-                                        jakarta.persistence.criteria.CriteriaQuery<?> query,
+                                        CriteriaQuery<?> query,
                                         CriteriaBuilder cb, 
                                         List<Predicate> predicates, 
                                         List<Long> scopeIds, 
@@ -141,60 +144,24 @@ public class UserSpecification {
             return;
         }
 
+        // scopeIds are already expanded through OrgHierarchyIndex by UserService:
+        // department ids for career/department managers, team ids for team managers and staff
         switch (currentUserRole) {
             case "MANAGER_CAREER":
-                // Can see users belonging to Departments within their managed Careers
-                Join<User, Department> deptJoin = root.join("department", JoinType.LEFT);
-                Join<Department, Career> careerJoin = deptJoin.join("career", JoinType.LEFT);
-                predicates.add(careerJoin.get("careerId").in(scopeIds));
-                break;
-
             case "MANAGER_DEPARTMENT":
-                // Can see users belonging to Departments within the same Careers as their managed Departments
-                Join<User, Department> userDeptJoin = root.join("department", JoinType.LEFT);
-                Join<Department, Career> userCareerJoin = userDeptJoin.join("career", JoinType.LEFT);
-                
-                Subquery<Long> careerSubquery = query.subquery(Long.class);
-                Root<Department> deptRoot = careerSubquery.from(Department.class);
-                Join<Department, Career> deptCareerJoin = deptRoot.join("career");
-                careerSubquery.select(deptCareerJoin.get("careerId"))
-                             .where(deptRoot.get("departmentId").in(scopeIds));
-                
-                predicates.add(userCareerJoin.get("careerId").in(careerSubquery));
+                // Can see users belonging to the Departments in scope
+                predicates.add(root.get("department").get("departmentId").in(scopeIds));
                 break;
 
             case "MANAGER_TEAM":
-                // Can see users belonging to Teams within the same Departments as their managed Teams
-                // Users are linked to Teams via TeamMember
+            case "STAFF":
+                // Can see users who are members of the Teams in scope
                 Subquery<Long> teamMemberSubquery = query.subquery(Long.class);
                 Root<TeamMember> tmRoot = teamMemberSubquery.from(TeamMember.class);
-                Join<TeamMember, User> tmUser = tmRoot.join("user");
-                Join<TeamMember, Team> tmTeam = tmRoot.join("team");
-                Join<Team, Department> teamDept = tmTeam.join("department");
-                
-                Subquery<Long> deptSubquery = query.subquery(Long.class);
-                Root<Team> teamRoot = deptSubquery.from(Team.class);
-                Join<Team, Department> tDept = teamRoot.join("department");
-                deptSubquery.select(tDept.get("departmentId"))
-                           .where(teamRoot.get("teamId").in(scopeIds));
-                           
-                teamMemberSubquery.select(tmUser.get("userId"))
-                                .where(teamDept.get("departmentId").in(deptSubquery));
-                
-                predicates.add(root.get("userId").in(teamMemberSubquery));
-                break;
+                teamMemberSubquery.select(tmRoot.get("user").<Long>get("userId"))
+                                .where(tmRoot.get("team").get("teamId").in(scopeIds));
 
-            case "STAFF":
-                // Usually Staff can only see users in their own Teams
-                Subquery<Long> staffTeamMemberSubq = query.subquery(Long.class);
-                Root<TeamMember> slmRoot = staffTeamMemberSubq.from(TeamMember.class);
-                Join<TeamMember, User> sTmUser = slmRoot.join("user");
-                Join<TeamMember, Team> sTmTeam = slmRoot.join("team");
-                
-                staffTeamMemberSubq.select(sTmUser.get("userId"))
-                                .where(sTmTeam.get("teamId").in(scopeIds));
-                
-                predicates.add(root.get("userId").in(staffTeamMemberSubq));
+                predicates.add(root.get("userId").in(teamMemberSubquery));
                 break;
         }
     }
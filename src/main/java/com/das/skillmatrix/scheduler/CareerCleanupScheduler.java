@@ -1,27 +1,35 @@
 package com.das.skillmatrix.scheduler;
 
-import com.das.skillmatrix.entity.GeneralStatus;
-import com.das.skillmatrix.repository.CareerRepository;
+import com.das.skillmatrix.service.OrgHierarchyIndex;
+import com.das.skillmatrix.service.ScopeClosureService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CareerCleanupScheduler {
 
-    private final CareerRepository careerRepository;
+    private final PurgeEngine purgeEngine;
+    private final JobLock jobLock;
+    private final ScopeClosureService scopeClosureService;
+    private final OrgHierarchyIndex orgHierarchyIndex;
 
-    @Transactional
-    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Ho_Chi_Minh")
+    @Scheduled(cron = "${scheduler.cron.career-cleanup:0 30 0 * * *}", zone = "Asia/Ho_Chi_Minh")
     public void hardDeleteCareersAfter30Days() {
-        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
-        var candidates = careerRepository.findByStatusAndDeletedAtBefore(GeneralStatus.DELETED, cutoff);
-        if (candidates.isEmpty()) return;
-        candidates.forEach(careerRepository::delete);
+        jobLock.run("career-cleanup", () -> {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+            PurgeEngine.Result result = purgeEngine.purgeDeleted(new PurgeEngine.Plan("careers", "career_id", List.of(
+                    "DELETE FROM career_managers WHERE career_id IN (:ids)",
+                    "DELETE FROM skill_rollups WHERE scope_type = 'CAREER' AND scope_id IN (:ids)"),
+                    scopeClosureService::removeCareers), cutoff);
+            if (result.deleted() == 0) return 0;
+            orgHierarchyIndex.invalidate();
+            return result.deleted();
+        });
     }
-}
\ No newline at end of file
+}
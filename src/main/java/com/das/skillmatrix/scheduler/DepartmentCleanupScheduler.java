@@ -1,11 +1,11 @@
 package com.das.skillmatrix.scheduler;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import com.das.skillmatrix.entity.GeneralStatus;
-import com.das.skillmatrix.repository.DepartmentRepository;
+import com.das.skillmatrix.service.OrgHierarchyIndex;
+import com.das.skillmatrix.service.ScopeClosureService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -14,14 +14,22 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class DepartmentCleanupScheduler {
 
-    private final DepartmentRepository departmentRepository;
+    private final PurgeEngine purgeEngine;
+    private final JobLock jobLock;
+    private final ScopeClosureService scopeClosureService;
+    private final OrgHierarchyIndex orgHierarchyIndex;
 
-    @Transactional
-    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Ho_Chi_Minh")
+    @Scheduled(cron = "${scheduler.cron.department-cleanup:0 20 0 * * *}", zone = "Asia/Ho_Chi_Minh")
     public void hardDeleteDepartmentsAfter30Days() {
-        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
-        var candidates = departmentRepository.findByStatusAndDeletedAtBefore(GeneralStatus.DELETED, cutoff);
-        if (candidates.isEmpty()) return;
-        candidates.forEach(departmentRepository::delete);
+        jobLock.run("department-cleanup", () -> {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+            PurgeEngine.Result result = purgeEngine.purgeDeleted(new PurgeEngine.Plan("departments", "department_id", List.of(
+                    "DELETE FROM department_managers WHERE department_id IN (:ids)",
+                    "DELETE FROM skill_rollups WHERE scope_type = 'DEPARTMENT' AND scope_id IN (:ids)"),
+                    scopeClosureService::removeDepartments), cutoff);
+            if (result.deleted() == 0) return 0;
+            orgHierarchyIndex.invalidate();
+            return result.deleted();
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,166 @@
+package com.das.skillmatrix.scheduler;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Leader lock for @Scheduled jobs across instances, on the scheduler_locks table. A node runs
+// a job only after moving its row's locked_until into the future with a conditional UPDATE
+// (or the first INSERT); the others see no row change and skip that run. The lease is renewed
+// while the job runs, and on release it is kept until at least at-least after the start, so a
+// node whose clock fires a little later does not run the job a second time. Every run on the
+// lock holder is recorded in scheduler_runs.
+@Slf4j
+@Component
+public class JobLock {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Duration lease;
+    private final Duration lockAtLeast;
+    private final int historyRetentionDays;
+    private final String node;
+    private final ScheduledExecutorService renewer;
+
+    public JobLock(NamedParameterJdbcTemplate jdbcTemplate,
+                   @Value("${scheduler.lock.lease:PT10M}") Duration lease,
+                   @Value("${scheduler.lock.at-least:PT5M}") Duration lockAtLeast,
+                   @Value("${scheduler.history.retention-days:90}") int historyRetentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lease = lease;
+        this.lockAtLeast = lockAtLeast;
+        this.historyRetentionDays = historyRetentionDays;
+        this.node = ManagementFactory.getRuntimeMXBean().getName(); // pid@host
+        this.renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "job-lock-renewal");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    // Runs the job when this node wins the lock; the job returns the rows it touched.
+    // Returns false when another node holds the lock.
+    public boolean run(String name, IntSupplier job) {
+        return run(name, lockAtLeast, job);
+    }
+
+    // Same, with a shorter at-least for jobs polled every few seconds rather than daily
+    public boolean run(String name, Duration lockAtLeast, IntSupplier job) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (!acquire(name, startedAt)) {
+            log.debug("Skipping job {}: locked by another node", name);
+            return false;
+        }
+        long period = Math.max(1, lease.toMillis() / 3);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(name), period, period, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        String status = "FAILED";
+        String error = null;
+        long rows = 0;
+        try {
+            rows = job.getAsInt();
+            status = "SUCCESS";
+            return true;
+        } catch (RuntimeException e) {
+            error = e.toString();
+            throw e;
+        } finally {
+            renewal.cancel(false);
+            record(name, startedAt, (System.nanoTime() - start) / 1_000_000, rows, status, error);
+            release(name, startedAt, lockAtLeast);
+        }
+    }
+
+    boolean acquire(String name, LocalDateTime now) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", name);
+        params.put("now", now);
+        params.put("until", now.plus(lease));
+        params.put("node", node);
+        if (jdbcTemplate.update("""
+                UPDATE scheduler_locks SET locked_until = :until, locked_at = :now, locked_by = :node
+                 WHERE name = :name AND locked_until <= :now
+                """, params) == 1) {
+            return true;
+        }
+        try {
+            jdbcTemplate.update("""
+                    INSERT INTO scheduler_locks (name, locked_until, locked_at, locked_by)
+                    VALUES (:name, :until, :now, :node)
+                    """, params);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private void renew(String name) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int renewed = jdbcTemplate.update("""
+                    UPDATE scheduler_locks SET locked_until = :until
+                     WHERE name = :name AND locked_by = :node AND locked_until > :now
+                    """, Map.of("name", name, "node", node, "now", now, "until", now.plus(lease)));
+            if (renewed == 0) {
+                log.warn("Lease on job {} expired before renewal; another node may start it", name);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to renew lease on job {}: {}", name, e.getMessage());
+        }
+    }
+
+    private void release(String name, LocalDateTime startedAt, Duration lockAtLeast) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime earliest = startedAt.plus(lockAtLeast);
+        try {
+            jdbcTemplate.update("UPDATE scheduler_locks SET locked_until = :until WHERE name = :name AND locked_by = :node",
+                    Map.of("name", name, "node", node, "until", earliest.isAfter(now) ? earliest : now));
+        } catch (DataAccessException e) {
+            log.warn("Failed to release job {}; it stays locked until its lease ends: {}", name, e.getMessage());
+        }
+    }
+
+    private void record(String name, LocalDateTime startedAt, long durationMs, long rows, String status, String error) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", name);
+        params.put("node", node);
+        params.put("startedAt", startedAt);
+        params.put("durationMs", durationMs);
+        params.put("rows", rows);
+        params.put("status", status);
+        params.put("error", error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH));
+        params.put("keepAfter", startedAt.minusDays(historyRetentionDays));
+        try {
+            jdbcTemplate.update("""
+                    INSERT INTO scheduler_runs (job_name, node, started_at, duration_ms, rows_affected, status, error)
+                    VALUES (:name, :node, :startedAt, :durationMs, :rows, :status, :error)
+                    """, params);
+            jdbcTemplate.update("DELETE FROM scheduler_runs WHERE job_name = :name AND started_at < :keepAfter", params);
+        } catch (DataAccessException e) {
+            log.warn("Failed to record run of job {}: {}", name, e.getMessage());
+        }
+        log.info("Job {} {} in {} ms, {} rows", name, status, durationMs, rows);
+    }
+}
@@ -0,0 +1,228 @@
+package com.das.skillmatrix.scheduler;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Monthly RANGE COLUMNS (created_at) partitions for the append-only log tables. Partition
+// pYYYYMM holds one month, pmax catches anything past the last one. Maintenance keeps
+// months-ahead empty partitions split off pmax, and retires months older than the table's
+// retention by writing them to a gzipped JSON-lines file in archive-dir and then dropping the
+// whole partition, so expiry never runs row deletes. A partition whose archive fails is kept
+// for the next run.
+@Slf4j
+@Component
+public class LogPartitionManager {
+
+    record LogTable(String name, String idColumn, int retentionMonths) {
+    }
+
+    static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final Path archiveDir;
+    private final List<LogTable> tables;
+
+    public LogPartitionManager(JdbcTemplate jdbcTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${log-retention.enabled:true}") boolean enabled,
+                               @Value("${log-retention.months-ahead:3}") int monthsAhead,
+                               @Value("${log-retention.audit-logs.months:12}") int auditLogMonths,
+                               @Value("${log-retention.business-change-logs.months:24}") int changeLogMonths,
+                               @Value("${log-retention.archive-dir:logs/archive}") String archiveDir) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.archiveDir = StringUtils.hasText(archiveDir) ? Path.of(archiveDir) : null;
+        this.tables = List.of(
+                new LogTable("audit_logs", "log_id", auditLogMonths),
+                new LogTable("business_change_logs", "change_log_id", changeLogMonths));
+    }
+
+    // Partitions tables created before partitioning and adds the coming months, without
+    // retiring any; run on startup under the log-retention lock (see LogRetentionScheduler).
+    // Returns the number of tables converted.
+    public int prepare() {
+        if (!enabled) return 0;
+        YearMonth current = YearMonth.now();
+        int converted = 0;
+        for (LogTable table : tables) {
+            try {
+                List<String> partitions = partitions(table);
+                if (partitions.isEmpty()) {
+                    convert(table, current);
+                    converted++;
+                } else {
+                    addAhead(table, partitions, current);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Could not partition {}: {}", table.name(), e.getMessage());
+            }
+        }
+        return converted;
+    }
+
+    // Returns the number of partitions dropped
+    public int maintain() {
+        return maintain(YearMonth.now());
+    }
+
+    int maintain(YearMonth current) {
+        if (!enabled) return 0;
+        int dropped = 0;
+        for (LogTable table : tables) {
+            List<String> partitions = partitions(table);
+            if (partitions.isEmpty()) {
+                convert(table, current);
+                partitions = partitions(table);
+            }
+            addAhead(table, partitions, current);
+            YearMonth keepFrom = current.minusMonths(table.retentionMonths());
+            for (String partition : partitions) {
+                YearMonth month = monthOf(partition);
+                if (month == null || !month.isBefore(keepFrom)) continue;
+                try {
+                    archive(table, partition);
+                    jdbcTemplate.execute("ALTER TABLE " + table.name() + " DROP PARTITION " + partition);
+                    dropped++;
+                } catch (IOException | UncheckedIOException | DataAccessException e) {
+                    log.warn("Kept partition {} of {}, archive or drop failed: {}", partition, table.name(), e.getMessage());
+                }
+            }
+        }
+        return dropped;
+    }
+
+    // ================= DDL =================
+
+    List<String> partitions(LogTable table) {
+        return jdbcTemplate.queryForList("""
+                SELECT partition_name FROM information_schema.partitions
+                 WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL
+                 ORDER BY partition_ordinal_position
+                """, String.class, table.name());
+    }
+
+    // MySQL needs the partitioning column in every unique key, so the primary key becomes
+    // (id, created_at); the id stays unique on its own through AUTO_INCREMENT.
+    private void convert(LogTable table, YearMonth current) {
+        String name = table.name();
+        jdbcTemplate.update("UPDATE " + name + " SET created_at = COALESCE(updated_at, NOW(6)) WHERE created_at IS NULL");
+        jdbcTemplate.execute("ALTER TABLE " + name + " MODIFY created_at DATETIME(6) NOT NULL,"
+                + " DROP PRIMARY KEY, ADD PRIMARY KEY (" + table.idColumn() + ", created_at)");
+        LocalDateTime oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM " + name, LocalDateTime.class);
+        YearMonth from = oldest != null ? YearMonth.from(oldest) : current;
+        jdbcTemplate.execute("ALTER TABLE " + name + " PARTITION BY RANGE COLUMNS (created_at) ("
+                + definitions(months(from, current.plusMonths(monthsAhead))) + ")");
+        log.info("Partitioned {} by month from {}", name, from);
+    }
+
+    private void addAhead(LogTable table, List<String> partitions, YearMonth current) {
+        YearMonth last = partitions.stream()
+                .map(LogPartitionManager::monthOf)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(current.minusMonths(1));
+        List<YearMonth> missing = months(last.plusMonths(1), current.plusMonths(monthsAhead));
+        if (missing.isEmpty()) return;
+        jdbcTemplate.execute("ALTER TABLE " + table.name() + " REORGANIZE PARTITION " + MAX_PARTITION
+                + " INTO (" + definitions(missing) + ")");
+    }
+
+    static List<YearMonth> months(YearMonth from, YearMonth to) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth m = from; !m.isAfter(to); m = m.plusMonths(1)) {
+            months.add(m);
+        }
+        return months;
+    }
+
+    static String definitions(List<YearMonth> months) {
+        return months.stream()
+                .map(m -> "PARTITION " + m.format(PARTITION_NAME)
+                        + " VALUES LESS THAN ('" + m.plusMonths(1).atDay(1) + "')")
+                .collect(Collectors.joining(", ", "", ", PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)"));
+    }
+
+    static YearMonth monthOf(String partition) {
+        try {
+            return YearMonth.parse(partition, PARTITION_NAME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // ================= ARCHIVE =================
+
+    // Written to a temporary file and renamed once complete, so a file in archive-dir is
+    // always a whole partition
+    private void archive(LogTable table, String partition) throws IOException {
+        if (archiveDir == null) return;
+        Path dir = archiveDir.resolve(table.name());
+        Files.createDirectories(dir);
+        Path target = dir.resolve(table.name() + "-" + partition.substring(1) + ".jsonl.gz");
+        Path temp = dir.resolve(target.getFileName() + ".tmp");
+        ColumnMapRowMapper columns = new ColumnMapRowMapper();
+        long[] rows = { 0 };
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+            RowCallbackHandler handler = rs -> {
+                Map<String, Object> row = columns.mapRow(rs, 0);
+                try {
+                    out.write(objectMapper.writeValueAsString(row));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            };
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement("SELECT * FROM " + table.name()
+                        + " PARTITION (" + partition + ") ORDER BY " + table.idColumn());
+                ps.setFetchSize(FETCH_SIZE);
+                return ps;
+            }, handler);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Archived {} rows of {} partition {} to {}", rows[0], table.name(), partition, target);
+    }
+}
@@ -0,0 +1,34 @@
+package com.das.skillmatrix.scheduler;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class LogRetentionScheduler {
+
+    private static final String JOB = "log-retention";
+
+    private final LogPartitionManager logPartitionManager;
+    private final JobLock jobLock;
+
+    // On startup: partition unpartitioned log tables (a copy of the whole table) on one node
+    // only, under the daily job's lock; nodes starting meanwhile skip it. No at-least, so the
+    // daily run is not held back by a startup shortly before it.
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareLogPartitions() {
+        jobLock.run(JOB, Duration.ZERO, logPartitionManager::prepare);
+    }
+
+    // Daily: add the coming months' partitions, archive and drop the expired ones
+    @Scheduled(cron = "${scheduler.cron.log-retention:0 0 1 * * *}", zone = "Asia/Ho_Chi_Minh")
+    public void maintainLogPartitions() {
+        jobLock.run(JOB, logPartitionManager::maintain);
+    }
+}
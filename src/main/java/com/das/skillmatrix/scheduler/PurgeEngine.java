@@ -0,0 +1,111 @@
+package com.das.skillmatrix.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Hard-deletes soft-deleted rows (status DELETED, deleted_at before a cutoff) in keyset
+// chunks of batch-size ids, each chunk in its own short transaction: dependents first, then
+// one DELETE ... WHERE id IN (...). Nothing is kept between runs, the rows left over are the
+// progress, so an interrupted or failed run simply continues on the next one. A chunk that
+// fails is logged and skipped so it cannot block the rest of the table.
+@Slf4j
+@Component
+public class PurgeEngine {
+
+    // dependentDeletes are SQL statements taking :ids, run before the rows themselves
+    public record Plan(String table, String idColumn, List<String> dependentDeletes,
+                       Consumer<List<Long>> beforeDelete) {
+    }
+
+    public record Result(int deleted, int failedChunks) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTransaction;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+
+    private volatile boolean stopping;
+
+    public PurgeEngine(NamedParameterJdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${purge.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+    }
+
+    // Stop between chunks on shutdown; the next run picks up what is left
+    @PreDestroy
+    void stop() {
+        stopping = true;
+    }
+
+    public Result purgeDeleted(Plan plan, LocalDateTime cutoff) {
+        String candidates = "SELECT " + plan.idColumn() + " FROM " + plan.table()
+                + " WHERE status = 'DELETED' AND deleted_at < :cutoff AND " + plan.idColumn() + " > :after"
+                + " ORDER BY " + plan.idColumn() + " LIMIT :limit";
+        Map<String, Object> params = new HashMap<>();
+        params.put("cutoff", cutoff);
+        params.put("after", 0L);
+        params.put("limit", batchSize);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int deleted = 0;
+        int failedChunks = 0;
+        while (!stopping) {
+            List<Long> ids = jdbcTemplate.queryForList(candidates, params, Long.class);
+            if (ids.isEmpty()) break;
+            params.put("after", ids.get(ids.size() - 1));
+            try {
+                int rows = chunkTransaction.execute(status -> deleteChunk(plan, ids, cutoff));
+                deleted += rows;
+                meterRegistry.counter("skillmatrix.purge.rows", "table", plan.table()).increment(rows);
+            } catch (DataAccessException e) {
+                failedChunks++;
+                meterRegistry.counter("skillmatrix.purge.failed.chunks", "table", plan.table()).increment();
+                log.warn("Purge of {} ids {}..{} failed, left for the next run: {}",
+                        plan.table(), ids.get(0), ids.get(ids.size() - 1), e.getMessage());
+            }
+            if (ids.size() < batchSize) break;
+        }
+        long nanos = sample.stop(meterRegistry.timer("skillmatrix.purge.duration", "table", plan.table()));
+        if (deleted > 0 || failedChunks > 0) {
+            log.info("Purged {} rows from {} in {} ms ({} failed chunks{})", deleted, plan.table(),
+                    nanos / 1_000_000, failedChunks, stopping ? ", stopped early" : "");
+        }
+        return new Result(deleted, failedChunks);
+    }
+
+    private int deleteChunk(Plan plan, List<Long> candidates, LocalDateTime cutoff) {
+        // Re-check under a row lock: anything restored since the candidate scan is left alone
+        List<Long> ids = jdbcTemplate.queryForList("SELECT " + plan.idColumn() + " FROM " + plan.table()
+                        + " WHERE " + plan.idColumn() + " IN (:ids) AND status = 'DELETED' AND deleted_at < :cutoff"
+                        + " FOR UPDATE",
+                Map.of("ids", candidates, "cutoff", cutoff), Long.class);
+        if (ids.isEmpty()) return 0;
+        plan.beforeDelete().accept(ids);
+        Map<String, Object> params = Map.of("ids", ids);
+        for (String sql : plan.dependentDeletes()) {
+            jdbcTemplate.update(sql, params);
+        }
+        return jdbcTemplate.update("DELETE FROM " + plan.table() + " WHERE " + plan.idColumn() + " IN (:ids)", params);
+    }
+}
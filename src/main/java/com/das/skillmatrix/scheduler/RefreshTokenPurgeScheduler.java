@@ -0,0 +1,42 @@
+package com.das.skillmatrix.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.das.skillmatrix.repository.RefreshTokenRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeScheduler {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JobLock jobLock;
+
+    @Value("${refresh-token.purge.batch-size:1000}")
+    private int batchSize;
+
+    // Hourly; every chunk commits on its own so the purge never holds long locks
+    @Scheduled(cron = "${refresh-token.purge.cron:0 15 * * * *}", zone = "Asia/Ho_Chi_Minh")
+    public void purgeExpiredTokens() {
+        jobLock.run("refresh-token-purge", () -> {
+            LocalDateTime now = LocalDateTime.now();
+            int total = 0;
+            int deleted;
+            do {
+                deleted = refreshTokenRepository.deleteExpired(now, batchSize);
+                total += deleted;
+            } while (deleted == batchSize);
+            if (total > 0) {
+                log.info("Purged {} expired refresh tokens", total);
+            }
+            return total;
+        });
+    }
+}
@@ -1,14 +1,14 @@
 package com.das.skillmatrix.scheduler;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import com.das.skillmatrix.entity.GeneralStatus;
-import com.das.skillmatrix.repository.TeamRepository;
+import com.das.skillmatrix.service.OrgHierarchyIndex;
+import com.das.skillmatrix.service.ScopeClosureService;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,15 +16,23 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @RequiredArgsConstructor
 public class TeamCleanupScheduler {
-    private final TeamRepository teamRepository;
+    private final PurgeEngine purgeEngine;
+    private final JobLock jobLock;
+    private final ScopeClosureService scopeClosureService;
+    private final OrgHierarchyIndex orgHierarchyIndex;
 
-    @Transactional
-    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Ho_Chi_Minh")
+    @Scheduled(cron = "${scheduler.cron.team-cleanup:0 10 0 * * *}", zone = "Asia/Ho_Chi_Minh")
     public void hardDeleteTeamsAfter30Days() {
-        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
-        var candidates = teamRepository.findByStatusAndDeletedAtBefore(GeneralStatus.DELETED, cutoff);
-        if (candidates.isEmpty()) return;
-        candidates.forEach(teamRepository::delete);
-        log.info("Hard deleted {} teams after 30 days", candidates.size());
+        jobLock.run("team-cleanup", () -> {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+            PurgeEngine.Result result = purgeEngine.purgeDeleted(new PurgeEngine.Plan("teams", "team_id", List.of(
+                    "DELETE FROM team_managers WHERE team_id IN (:ids)",
+                    "DELETE FROM skill_rollups WHERE scope_type = 'TEAM' AND scope_id IN (:ids)"),
+                    scopeClosureService::removeTeams), cutoff);
+            if (result.deleted() == 0) return 0;
+            orgHierarchyIndex.invalidate();
+            log.info("Hard deleted {} teams after 30 days", result.deleted());
+            return result.deleted();
+        });
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,17 @@
 package com.das.skillmatrix.scheduler;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.das.skillmatrix.entity.GeneralStatus;
 import com.das.skillmatrix.repository.UserRepository;
+import com.das.skillmatrix.security.AuthenticationCache;
+import com.das.skillmatrix.service.UserReactivationService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,17 +21,51 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class UserDeactivationScheduler {
 
+    private static final Duration POLL_LOCK_AT_LEAST = Duration.ofSeconds(10);
+
     private final UserRepository userRepository;
+    private final AuthenticationCache authenticationCache;
+    private final JobLock jobLock;
+    private final PlatformTransactionManager transactionManager;
+    private final UserReactivationService userReactivationService;
 
-    @Transactional
-    // Run daily at midnight (Asia/Ho_Chi_Minh timezone)
-    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Ho_Chi_Minh")
-    public void autoReactivateExpiredUsers() {
-        log.info("Starting scheduled task: autoReactivateExpiredUsers");
-        
+    // Drains user_reactivation_queue so users come back within one poll interval of
+    // deactive_until. The indexed due check runs first, so idle polls never touch the lock.
+    @Scheduled(fixedDelayString = "${user-reactivation.poll-interval-ms:30000}",
+               initialDelayString = "${user-reactivation.poll-interval-ms:30000}")
+    public void reactivateDueUsers() {
         LocalDateTime now = LocalDateTime.now();
-        int updatedCount = userRepository.reactivateExpiredUsers(now, GeneralStatus.ACTIVE);
-        
-        log.info("Finished scheduled task: autoReactivateExpiredUsers. Reactivated {} users.", updatedCount);
+        if (!userReactivationService.hasDue(now)) return;
+        jobLock.run("user-reactivation-queue", POLL_LOCK_AT_LEAST, () -> {
+            int reactivated = 0;
+            UserReactivationService.Batch batch;
+            do {
+                batch = userReactivationService.reactivateDueBatch(now);
+                reactivated += batch.reactivated();
+            } while (batch.more());
+            return reactivated;
+        });
+    }
+
+    // Nightly safety net for anything the queue missed, e.g. rows written outside UserService.
+    // Runs daily at midnight (Asia/Ho_Chi_Minh timezone). The transaction is opened inside
+    // the job lock so the lock row is never held by the update itself.
+    @Scheduled(cron = "${scheduler.cron.user-reactivation:0 0 0 * * *}", zone = "Asia/Ho_Chi_Minh")
+    public void autoReactivateExpiredUsers() {
+        jobLock.run("user-reactivation", () -> {
+            log.info("Starting scheduled task: autoReactivateExpiredUsers");
+
+            int updatedCount = new TransactionTemplate(transactionManager).execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                int updated = userRepository.reactivateExpiredUsers(now, GeneralStatus.ACTIVE);
+                if (updated > 0) {
+                    authenticationCache.clear();
+                }
+                return updated;
+            });
+
+            log.info("Finished scheduled task: autoReactivateExpiredUsers. Reactivated {} users.", updatedCount);
+            return updatedCount;
+        });
     }
 }
@@ -0,0 +1,60 @@
+package com.das.skillmatrix.security;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.das.skillmatrix.entity.Career;
+import com.das.skillmatrix.entity.Department;
+import com.das.skillmatrix.entity.Team;
+import com.das.skillmatrix.entity.User;
+
+import lombok.Getter;
+
+// Principal stored in the SecurityContext by JwtAuthenticationFilter.
+// Holds the loaded account and its managed scope IDs so the rest of the request
+// (permission checks, audit logging) never has to look the user up again.
+@Getter
+public class AuthenticatedUser extends org.springframework.security.core.userdetails.User {
+
+    private final transient User account;
+    private final Set<Long> managedCareerIds;
+    private final Set<Long> managedDepartmentIds;
+    private final Set<Long> managedTeamIds;
+
+    public AuthenticatedUser(User account, Set<Long> managedCareerIds,
+            Set<Long> managedDepartmentIds, Set<Long> managedTeamIds) {
+        super(account.getEmail(),
+                account.getPasswordHash() != null ? account.getPasswordHash() : "",
+                account.getRole() != null
+                        ? List.of(new SimpleGrantedAuthority("ROLE_" + account.getRole()))
+                        : List.of());
+        this.account = account;
+        this.managedCareerIds = Set.copyOf(managedCareerIds);
+        this.managedDepartmentIds = Set.copyOf(managedDepartmentIds);
+        this.managedTeamIds = Set.copyOf(managedTeamIds);
+    }
+
+    // Must be called while the account's managed collections can still be initialized.
+    public static AuthenticatedUser of(User account) {
+        return new AuthenticatedUser(
+                account,
+                account.getManagedCareers().stream().map(Career::getCareerId).collect(Collectors.toSet()),
+                account.getManagedDepartments().stream().map(Department::getDepartmentId).collect(Collectors.toSet()),
+                account.getManagedTeams().stream().map(Team::getTeamId).collect(Collectors.toSet()));
+    }
+
+    public Long getUserId() {
+        return account.getUserId();
+    }
+
+    public String getRole() {
+        return account.getRole();
+    }
+
+    public boolean isAdmin() {
+        return "ADMIN".equals(account.getRole());
+    }
+}
@@ -0,0 +1,121 @@
+package com.das.skillmatrix.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+// Verified access tokens -> principal, keyed by SHA-256 of the token.
+// Entries expire with the token itself and are evicted whenever the user's role,
+// status or managed scope changes, so a hit never serves stale authorities.
+@Component
+public class AuthenticationCache implements MeterBinder {
+
+    private record Entry(AuthenticatedUser principal, long expiresAtMillis) {
+    }
+
+    private final Map<String, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public AuthenticationCache(@Value("${jwt.cache.max-entries:10000}") int maxEntries) {
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public AuthenticatedUser get(String token) {
+        String key = hash(token);
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAtMillis() > System.currentTimeMillis()) {
+                hits.increment();
+                return entry.principal();
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(String token, long expiresAtMillis, AuthenticatedUser principal) {
+        String key = hash(token);
+        synchronized (entries) {
+            entries.put(key, new Entry(principal, expiresAtMillis));
+        }
+    }
+
+    // Runs after the surrounding transaction commits so a concurrent request cannot
+    // re-cache the pre-change state in between.
+    public void evictUser(Long userId) {
+        if (userId == null) return;
+        afterCommit(() -> {
+            synchronized (entries) {
+                entries.values().removeIf(e -> userId.equals(e.principal().getUserId()));
+            }
+        });
+    }
+
+    public void clear() {
+        afterCommit(() -> {
+            synchronized (entries) {
+                entries.clear();
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("skillmatrix.auth.cache.hits", hits, LongAdder::sum)
+                .description("Authenticated requests served without parsing the token or loading the user")
+                .register(registry);
+        FunctionCounter.builder("skillmatrix.auth.cache.misses", misses, LongAdder::sum)
+                .register(registry);
+        Gauge.builder("skillmatrix.auth.cache.size", this, c -> {
+                    synchronized (c.entries) {
+                        return c.entries.size();
+                    }
+                })
+                .register(registry);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
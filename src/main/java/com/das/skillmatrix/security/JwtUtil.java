@@ -7,11 +7,13 @@ import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
 
     private final Key key;
+    private final JwtParser parser;
     private final long accessExpiration;
     private final long refreshExpiration;
 
@@ -19,6 +21,7 @@ public class JwtUtil {
                    @Value("${jwt.access.expiration}") long accessExpiration,
                    @Value("${jwt.refresh.expiration}") long refreshExpiration) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         this.accessExpiration = accessExpiration;
         this.refreshExpiration = refreshExpiration;
     }
@@ -36,8 +39,10 @@ public class JwtUtil {
                 .compact();
     }
 
+    // The random id keeps two tokens issued in the same second distinct (they are stored by hash)
     public String generateRefreshToken(String email) {
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(email)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + refreshExpiration))
@@ -62,7 +67,8 @@ public class JwtUtil {
     // ==========================
     public boolean validateAccessToken(String token, String email) {
         try {
-            return extractEmail(token).equals(email) && !isExpired(token);
+            Claims claims = getClaims(token);
+            return claims.getSubject().equals(email) && !claims.getExpiration().before(new Date());
         } catch (JwtException e) {
             return false;
         }
@@ -83,11 +89,8 @@ public class JwtUtil {
         return getClaims(token).getExpiration().before(new Date());
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // Verifies signature and expiry once; JwtParser is immutable and thread-safe
+    public Claims getClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 }
@@ -0,0 +1,107 @@
+package com.das.skillmatrix.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.das.skillmatrix.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+// Runs CPU-bound password hashing (BCrypt) off the request threads, on a pool sized to the
+// cores. With shedding on, a full queue or a wait past max-wait-ms fails fast with
+// ServiceOverloadedException (503) instead of parking more Tomcat threads behind the hashes;
+// with it off, callers wait as long as it takes and hash the overflow themselves.
+@Component
+public class PasswordHashingPool implements MeterBinder {
+
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+    private final boolean shedWhenFull;
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    public PasswordHashingPool(@Value("${password-hashing.threads:0}") int threads,
+                               @Value("${password-hashing.queue-capacity:64}") int queueCapacity,
+                               @Value("${password-hashing.max-wait-ms:2000}") long maxWaitMillis,
+                               @Value("${password-hashing.shed-when-full:true}") boolean shedWhenFull) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + sequence.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                shedWhenFull ? new ThreadPoolExecutor.AbortPolicy() : new ThreadPoolExecutor.CallerRunsPolicy());
+        this.maxWaitMillis = maxWaitMillis;
+        this.shedWhenFull = shedWhenFull;
+    }
+
+    public <T> T call(Callable<T> work) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitNanos.add(System.nanoTime() - submitted);
+                waitCount.increment();
+                return work.call();
+            });
+        } catch (RejectedExecutionException e) {
+            shed.increment();
+            throw new ServiceOverloadedException("PASSWORD_HASHING_BUSY");
+        }
+        try {
+            return shedWhenFull ? future.get(maxWaitMillis, TimeUnit.MILLISECONDS) : future.get();
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            shed.increment();
+            throw new ServiceOverloadedException("PASSWORD_HASHING_BUSY");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("skillmatrix.password.hashing.queue", executor, e -> e.getQueue().size())
+                .description("Password hashes waiting for a pool thread")
+                .register(registry);
+        Gauge.builder("skillmatrix.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+        FunctionCounter.builder("skillmatrix.password.hashing.shed", shed, LongAdder::sum)
+                .description("Hash requests refused with 503 because the pool was saturated")
+                .register(registry);
+        FunctionTimer.builder("skillmatrix.password.hashing.wait", this,
+                        p -> p.waitCount.sum(), p -> p.waitNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("Time a hash spent queued before a pool thread picked it up")
+                .register(registry);
+    }
+}
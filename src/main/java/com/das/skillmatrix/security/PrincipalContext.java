@@ -0,0 +1,30 @@
+package com.das.skillmatrix.security;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public final class PrincipalContext {
+
+    private static final LongAdder SAVED_LOOKUPS = new LongAdder();
+
+    private PrincipalContext() {
+    }
+
+    // Returns the principal resolved once by JwtAuthenticationFilter, or null when the
+    // current authentication was not created by the filter (tests, anonymous, schedulers).
+    // Every hit is a user lookup the caller would otherwise have sent to the database.
+    public static AuthenticatedUser current() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && auth.getPrincipal() instanceof AuthenticatedUser principal) {
+            SAVED_LOOKUPS.increment();
+            return principal;
+        }
+        return null;
+    }
+
+    public static long savedLookups() {
+        return SAVED_LOOKUPS.sum();
+    }
+}
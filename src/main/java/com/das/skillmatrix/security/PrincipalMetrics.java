@@ -0,0 +1,19 @@
+package com.das.skillmatrix.security;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Component
+public class PrincipalMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("skillmatrix.principal.lookups.saved", PrincipalContext.class,
+                        c -> PrincipalContext.savedLookups())
+                .description("User lookups served from the request principal instead of the database")
+                .register(registry);
+    }
+}
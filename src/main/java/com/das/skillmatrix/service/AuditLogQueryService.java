@@ -0,0 +1,266 @@
+package com.das.skillmatrix.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import com.das.skillmatrix.dto.request.AuditLogFilterRequest;
+import com.das.skillmatrix.dto.request.CursorPageRequest;
+import com.das.skillmatrix.dto.response.AuditLogDetailResponse;
+import com.das.skillmatrix.dto.response.AuditLogResponse;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
+import com.das.skillmatrix.exception.ResourceNotFoundException;
+import com.das.skillmatrix.repository.specification.KeysetCursor;
+import com.das.skillmatrix.repository.specification.KeysetSpecification;
+
+// Search over audit_logs and business_change_logs, newest first, seeking on (created_at, id).
+// One filter drives the query through its index: entity (type, id) or entity type alone,
+// else user, else action, else just created_at. Each of those indexes is the equality
+// columns followed by created_at (and the implicit primary key), so the range, the seek and
+// the ORDER BY stay on the index and LIMIT stops the read.
+// The driving index is read for at most scan-limit rows per request and the other filters
+// are applied to those rows. When the scan limit is hit before the page fills, the page comes
+// back short with a cursor at the last row scanned, and the next request continues there.
+// Lists carry summary columns only; the metadata / changes TEXT is read by detail() alone.
+@Service
+@Transactional(readOnly = true)
+public class AuditLogQueryService {
+
+    public enum LogSource {
+        AUDIT("audit_logs", "log_id", "metadata", "ip_address"),
+        CHANGE("business_change_logs", "change_log_id", "changes", "reason");
+
+        private final String table;
+        private final String idColumn;
+        private final String payloadColumn;
+        private final String extraColumn;
+
+        LogSource(String table, String idColumn, String payloadColumn, String extraColumn) {
+            this.table = table;
+            this.idColumn = idColumn;
+            this.payloadColumn = payloadColumn;
+            this.extraColumn = extraColumn;
+        }
+
+        public String table() {
+            return table;
+        }
+
+        // Path form: audit, change
+        public static LogSource from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("INVALID_LOG_SOURCE");
+            }
+        }
+    }
+
+    // Filtered SELECT of the summary columns plus the source's extra column, for exports
+    public record LogQuery(String sql, Map<String, Object> params) {
+    }
+
+    private static final String CURSOR_PROPERTY = "createdAt";
+    private static final Predicate<AuditLogResponse> ALL = r -> true;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int scanLimit;
+
+    public AuditLogQueryService(NamedParameterJdbcTemplate jdbcTemplate,
+                                @Value("${audit-query.scan-limit:5000}") int scanLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.scanLimit = scanLimit;
+    }
+
+    public CursorPageResponse<AuditLogResponse> search(LogSource source, AuditLogFilterRequest filter,
+                                                       CursorPageRequest page) {
+        if (page.getSize() < 1) {
+            throw new IllegalArgumentException("INVALID_PAGE_SIZE");
+        }
+        int size = Math.min(page.getSize(), KeysetSpecification.MAX_PAGE_SIZE);
+        validate(filter);
+
+        List<String> where = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+        Predicate<AuditLogResponse> residual = ALL;
+        if (StringUtils.hasText(filter.getEntityType())) {
+            where.add("entity_type = :entityType");
+            params.put("entityType", filter.getEntityType());
+            if (filter.getEntityId() != null) {
+                where.add("entity_id = :entityId");
+                params.put("entityId", filter.getEntityId());
+            }
+            residual = userAndAction(filter);
+        } else if (filter.getUserId() != null) {
+            where.add("user_id = :userId");
+            params.put("userId", filter.getUserId());
+            residual = action(filter);
+        } else if (StringUtils.hasText(filter.getAction())) {
+            where.add("action = :action");
+            params.put("action", filter.getAction());
+        }
+        range(filter, where, params);
+        if (StringUtils.hasText(page.getCursor())) {
+            KeysetCursor cursor = KeysetCursor.decode(page.getCursor());
+            if (!CURSOR_PROPERTY.equals(cursor.property()) || cursor.direction() != Sort.Direction.DESC
+                    || cursor.value() == null) {
+                throw new IllegalArgumentException("INVALID_CURSOR");
+            }
+            where.add("(created_at < :afterAt OR (created_at = :afterAt AND " + source.idColumn + " < :afterId))");
+            params.put("afterAt", parseCursorTime(cursor.value()));
+            params.put("afterId", cursor.id());
+        }
+        boolean filtered = residual != ALL;
+        int limit = filtered ? Math.max(scanLimit, size + 1) : size + 1;
+        params.put("limit", limit);
+
+        List<AuditLogResponse> scanned = jdbcTemplate.query("SELECT " + summaryColumns(source)
+                        + " FROM " + source.table + where(where)
+                        + " ORDER BY created_at DESC, " + source.idColumn + " DESC LIMIT :limit",
+                params, (rs, i) -> toResponse(rs));
+
+        List<AuditLogResponse> matched = new ArrayList<>(size + 1);
+        for (AuditLogResponse row : scanned) {
+            if (!residual.test(row)) continue;
+            matched.add(row);
+            if (matched.size() > size) break;
+        }
+        String nextCursor = null;
+        boolean hasNext = false;
+        if (matched.size() > size) {
+            matched = matched.subList(0, size);
+            hasNext = true;
+            nextCursor = cursorOf(matched.get(size - 1));
+        } else if (filtered && scanned.size() >= limit) {
+            hasNext = true;
+            nextCursor = cursorOf(scanned.get(scanned.size() - 1));
+        }
+        // No total even when asked for: counting would read every match, past the scan limit
+        return new CursorPageResponse<>(matched, size, nextCursor, hasNext, null);
+    }
+
+    public AuditLogDetailResponse detail(LogSource source, Long id) {
+        List<AuditLogDetailResponse> rows = jdbcTemplate.query("SELECT " + summaryColumns(source)
+                        + ", " + source.extraColumn + " AS extra, " + source.payloadColumn + " AS payload"
+                        + " FROM " + source.table + " WHERE " + source.idColumn + " = :id",
+                Map.of("id", id), (rs, i) -> {
+                    AuditLogResponse summary = toResponse(rs);
+                    String extra = rs.getString("extra");
+                    return new AuditLogDetailResponse(summary.getId(), summary.getUserId(), summary.getUserEmail(),
+                            summary.getAction(), summary.getEntityType(), summary.getEntityId(), summary.getCreatedAt(),
+                            source == LogSource.AUDIT ? extra : null,
+                            source == LogSource.CHANGE ? extra : null,
+                            rs.getString("payload"));
+                });
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("LOG_NOT_FOUND");
+        }
+        return rows.get(0);
+    }
+
+    // All filters in SQL: exports stream every match, so there is no scan limit to apply
+    public LogQuery exportQuery(LogSource source, AuditLogFilterRequest filter) {
+        validate(filter);
+        List<String> where = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+        if (StringUtils.hasText(filter.getEntityType())) {
+            where.add("entity_type = :entityType");
+            params.put("entityType", filter.getEntityType());
+        }
+        if (filter.getEntityId() != null) {
+            where.add("entity_id = :entityId");
+            params.put("entityId", filter.getEntityId());
+        }
+        if (filter.getUserId() != null) {
+            where.add("user_id = :userId");
+            params.put("userId", filter.getUserId());
+        }
+        if (StringUtils.hasText(filter.getAction())) {
+            where.add("action = :action");
+            params.put("action", filter.getAction());
+        }
+        range(filter, where, params);
+        return new LogQuery("SELECT " + summaryColumns(source) + ", " + source.extraColumn + " AS extra"
+                + " FROM " + source.table + where(where)
+                + " ORDER BY created_at DESC, " + source.idColumn + " DESC", params);
+    }
+
+    // ================= HELPERS =================
+
+    private static void validate(AuditLogFilterRequest filter) {
+        if (filter.getEntityId() != null && !StringUtils.hasText(filter.getEntityType())) {
+            throw new IllegalArgumentException("ENTITY_TYPE_REQUIRED");
+        }
+        if (filter.getFrom() != null && filter.getTo() != null && !filter.getFrom().isBefore(filter.getTo())) {
+            throw new IllegalArgumentException("INVALID_TIME_RANGE");
+        }
+    }
+
+    private static void range(AuditLogFilterRequest filter, List<String> where, Map<String, Object> params) {
+        if (filter.getFrom() != null) {
+            where.add("created_at >= :from");
+            params.put("from", filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            where.add("created_at < :to");
+            params.put("to", filter.getTo());
+        }
+    }
+
+    private static Predicate<AuditLogResponse> userAndAction(AuditLogFilterRequest filter) {
+        Predicate<AuditLogResponse> action = action(filter);
+        if (filter.getUserId() == null) return action;
+        Predicate<AuditLogResponse> user = r -> filter.getUserId().equals(r.getUserId());
+        return action == ALL ? user : user.and(action);
+    }
+
+    private static Predicate<AuditLogResponse> action(AuditLogFilterRequest filter) {
+        if (!StringUtils.hasText(filter.getAction())) return ALL;
+        return r -> filter.getAction().equals(r.getAction());
+    }
+
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static String summaryColumns(LogSource source) {
+        return source.idColumn + " AS id, user_id, user_email, action, entity_type, entity_id, created_at";
+    }
+
+    private static AuditLogResponse toResponse(ResultSet rs) throws SQLException {
+        return new AuditLogResponse(
+                rs.getLong("id"),
+                rs.getObject("user_id", Long.class),
+                rs.getString("user_email"),
+                rs.getString("action"),
+                rs.getString("entity_type"),
+                rs.getObject("entity_id", Long.class),
+                rs.getObject("created_at", LocalDateTime.class));
+    }
+
+    private static String cursorOf(AuditLogResponse row) {
+        return new KeysetCursor(CURSOR_PROPERTY, Sort.Direction.DESC, row.getId(), row.getCreatedAt().toString()).encode();
+    }
+
+    private static LocalDateTime parseCursorTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("INVALID_CURSOR");
+        }
+    }
+}
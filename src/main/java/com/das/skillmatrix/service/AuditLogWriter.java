@@ -0,0 +1,292 @@
+package com.das.skillmatrix.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import com.das.skillmatrix.entity.AuditLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// Takes audit_logs rows off the request thread. Rows are queued in memory and a single
+// background thread writes them with JDBC batch inserts once batchSize rows are waiting
+// or lingerMs has passed. When the queue is full the overflow policy decides whether the
+// caller blocks, the oldest row is dropped, or the row is spilled to a local file that is
+// replayed on the next start.
+@Slf4j
+@Component
+public class AuditLogWriter implements SmartLifecycle {
+
+    public enum OverflowPolicy {
+        BLOCK, DROP_OLDEST, SPILL
+    }
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_logs (user_id, user_email, action, entity_type, entity_id,
+                                    metadata, ip_address, created_at, updated_at)
+            VALUES (:userId, :userEmail, :action, :entityType, :entityId,
+                    :metadata, :ipAddress, :createdAt, :createdAt)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<AuditLog> queue;
+    private final int batchSize;
+    private final long lingerMs;
+    private final OverflowPolicy overflowPolicy;
+    private final Path spillFile;
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogWriter(NamedParameterJdbcTemplate jdbcTemplate,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${audit.writer.queue-capacity:10000}") int queueCapacity,
+                          @Value("${audit.writer.batch-size:200}") int batchSize,
+                          @Value("${audit.writer.linger-ms:200}") long lingerMs,
+                          @Value("${audit.writer.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+                          @Value("${audit.writer.spill-file:logs/audit-spill.jsonl}") String spillFile) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerMs = lingerMs;
+        this.overflowPolicy = overflowPolicy;
+        this.spillFile = Path.of(spillFile);
+
+        Gauge.builder("skillmatrix.audit.queue.depth", queue, BlockingQueue::size)
+                .description("Audit rows waiting to be written")
+                .register(meterRegistry);
+        FunctionCounter.builder("skillmatrix.audit.dropped", dropped, LongAdder::sum)
+                .description("Audit rows discarded because the queue was full or the write failed")
+                .register(meterRegistry);
+        FunctionCounter.builder("skillmatrix.audit.spilled", spilled, LongAdder::sum)
+                .register(meterRegistry);
+        FunctionCounter.builder("skillmatrix.audit.written", written, LongAdder::sum)
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("skillmatrix.audit.flush.latency")
+                .description("Time to write one batch of audit rows")
+                .register(meterRegistry);
+    }
+
+    public void submit(AuditLog auditLog) {
+        if (auditLog.getCreatedAt() == null) {
+            auditLog.setCreatedAt(LocalDateTime.now());
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    queue.put(auditLog);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(auditLog)) {
+                    if (queue.poll() != null) {
+                        dropped.increment();
+                    }
+                }
+            }
+            case SPILL -> {
+                if (!queue.offer(auditLog)) {
+                    spill(List.of(auditLog));
+                }
+            }
+        }
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    // ================= LIFECYCLE =================
+
+    @Override
+    public void start() {
+        running = true;
+        replaySpillFile();
+        worker = new Thread(this::drainLoop, "audit-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker == null) return;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            List<AuditLog> rest = new ArrayList<>();
+            queue.drainTo(rest);
+            spill(rest);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditLog first = queue.poll(lingerMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) break;
+                    AuditLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // ================= WRITE =================
+
+    void flush(List<AuditLog> batch) {
+        if (batch.isEmpty()) return;
+        try {
+            flushTimer.record(() -> {
+                resolveUserIds(batch);
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch.stream()
+                        .map(AuditLogWriter::toParams)
+                        .toArray(SqlParameterSource[]::new));
+            });
+            written.add(batch.size());
+        } catch (Exception e) {
+            log.error("Failed to write {} audit rows: {}", batch.size(), e.getMessage());
+            if (overflowPolicy == OverflowPolicy.SPILL) {
+                spill(batch);
+            } else {
+                dropped.add(batch.size());
+            }
+        }
+    }
+
+    // Rows logged before authentication (login) only carry the email; resolve ids for the
+    // whole batch with one query instead of one lookup per request.
+    private void resolveUserIds(List<AuditLog> batch) {
+        List<String> emails = batch.stream()
+                .filter(a -> a.getUserId() == null && a.getUserEmail() != null)
+                .map(AuditLog::getUserEmail)
+                .distinct()
+                .toList();
+        if (emails.isEmpty()) return;
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT user_id, email FROM users WHERE email IN (:emails)",
+                new MapSqlParameterSource("emails", emails),
+                rs -> {
+                    ids.put(rs.getString("email").toLowerCase(), rs.getLong("user_id"));
+                });
+        for (AuditLog a : batch) {
+            if (a.getUserId() == null && a.getUserEmail() != null) {
+                a.setUserId(ids.get(a.getUserEmail().toLowerCase()));
+            }
+        }
+    }
+
+    private static SqlParameterSource toParams(AuditLog a) {
+        return new MapSqlParameterSource()
+                .addValue("userId", a.getUserId())
+                .addValue("userEmail", a.getUserEmail())
+                .addValue("action", a.getAction())
+                .addValue("entityType", a.getEntityType())
+                .addValue("entityId", a.getEntityId())
+                .addValue("metadata", a.getMetadata())
+                .addValue("ipAddress", a.getIpAddress())
+                .addValue("createdAt", Timestamp.valueOf(a.getCreatedAt()));
+    }
+
+    // ================= SPILL =================
+
+    private synchronized void spill(List<AuditLog> rows) {
+        try {
+            if (spillFile.getParent() != null) {
+                Files.createDirectories(spillFile.getParent());
+            }
+            try (BufferedWriter out = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (AuditLog row : rows) {
+                    out.write(objectMapper.writeValueAsString(row));
+                    out.newLine();
+                }
+            }
+            spilled.add(rows.size());
+        } catch (IOException e) {
+            log.error("Failed to spill {} audit rows to {}: {}", rows.size(), spillFile, e.getMessage());
+            dropped.add(rows.size());
+        }
+    }
+
+    private synchronized void replaySpillFile() {
+        if (!Files.exists(spillFile)) return;
+        try {
+            List<AuditLog> rows = new ArrayList<>();
+            for (String line : Files.readAllLines(spillFile, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    rows.add(objectMapper.readValue(line, AuditLog.class));
+                }
+            }
+            Files.delete(spillFile);
+            for (int i = 0; i < rows.size(); i += batchSize) {
+                flush(new ArrayList<>(rows.subList(i, Math.min(i + batchSize, rows.size()))));
+            }
+            log.info("Replayed {} spilled audit rows", rows.size());
+        } catch (IOException e) {
+            log.error("Failed to replay audit spill file {}: {}", spillFile, e.getMessage());
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.das.skillmatrix.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.das.skillmatrix.annotation.LogActivity;
 import com.das.skillmatrix.dto.request.LoginRequest;
@@ -14,9 +21,11 @@ import com.das.skillmatrix.dto.response.LoginResponse;
 import com.das.skillmatrix.dto.response.RefreshTokenResponse;
 import com.das.skillmatrix.entity.RefreshToken;
 import com.das.skillmatrix.entity.User;
+import com.das.skillmatrix.exception.ServiceOverloadedException;
 import com.das.skillmatrix.repository.RefreshTokenRepository;
 import com.das.skillmatrix.repository.UserRepository;
 import com.das.skillmatrix.security.JwtUtil;
+import com.das.skillmatrix.security.PasswordHashingPool;
 
 import jakarta.security.auth.message.AuthException;
 
@@ -26,35 +35,48 @@ public class AuthService {
     @Value("${jwt.refresh.expiration}")
     private long refreshExpiration;
 
+    // Re-hash on a successful login when the stored hash is below the configured BCrypt cost
+    @Value("${password-hashing.rehash-on-login:true}")
+    private boolean rehashOnLogin;
+
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtUtil jwtUtil;
+    private final PasswordHashingPool passwordHashingPool;
+    private final TransactionTemplate loginTemplate;
 
     public AuthService(PasswordEncoder passwordEncoder,
             UserRepository userRepository,
             RefreshTokenRepository refreshTokenRepository,
-            JwtUtil jwtUtil) {
+            JwtUtil jwtUtil,
+            PasswordHashingPool passwordHashingPool,
+            PlatformTransactionManager transactionManager) {
         this.passwordEncoder = passwordEncoder;
         this.userRepository = userRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.jwtUtil = jwtUtil;
+        this.passwordHashingPool = passwordHashingPool;
+        this.loginTemplate = new TransactionTemplate(transactionManager);
     }
 
+    // No transaction while BCrypt runs: the lookup gives its connection back at once, so logins
+    // waiting on the hashing pool hold no database connection. The refresh token and a hash
+    // upgrade are written afterwards in one short transaction.
     @LogActivity(action = "LOGIN", entityType = "USER")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest loginRequest) throws AuthException {
         User user = findByEmail(loginRequest.getEmail());
-        RefreshToken refreshTokenInDB = new RefreshToken();
         comparePassword(loginRequest.getPassword(), user.getPasswordHash());
+        String upgradedHash = upgradedPasswordHash(user, loginRequest.getPassword());
 
         String accessToken = jwtUtil.generateAccessToken(user.getEmail(), user.getRole());
-
-        String refreshToken = jwtUtil.generateRefreshToken(user.getEmail());
-        // Save refresh_token into DB
-        refreshTokenInDB.setUser(user);
-        refreshTokenInDB.setRefreshToken(refreshToken);
-        refreshTokenInDB.setExpiresAt(LocalDateTime.now().plusSeconds(refreshExpiration));
-        this.refreshTokenRepository.save(refreshTokenInDB);
+        String refreshToken = loginTemplate.execute(status -> {
+            if (upgradedHash != null) {
+                userRepository.updatePasswordHash(user.getUserId(), user.getPasswordHash(), upgradedHash);
+            }
+            return issueRefreshToken(user);
+        });
 
         return new LoginResponse(accessToken, refreshToken);
     }
@@ -65,6 +87,10 @@ public class AuthService {
         if (!jwtUtil.validateRefreshToken(refreshToken)) {
             throw new AuthException("Invalid or expired refresh token");
         }
+        // Rotation: each refresh token works once. A logged-out or already used token has no row left
+        if (refreshTokenRepository.consume(hash(refreshToken), LocalDateTime.now()) == 0) {
+            throw new AuthException("Invalid or expired refresh token");
+        }
 
         String emailUser = jwtUtil.extractEmail(refreshToken);
 
@@ -72,7 +98,27 @@ public class AuthService {
 
         String newAccessToken = jwtUtil.generateAccessToken(user.getEmail(), user.getRole());
 
-        return new RefreshTokenResponse(newAccessToken);
+        return new RefreshTokenResponse(newAccessToken, issueRefreshToken(user));
+    }
+
+    // Only the SHA-256 of the token is kept, looked up through its unique index
+    private String issueRefreshToken(User user) {
+        String refreshToken = jwtUtil.generateRefreshToken(user.getEmail());
+        RefreshToken refreshTokenInDB = new RefreshToken();
+        refreshTokenInDB.setUser(user);
+        refreshTokenInDB.setTokenHash(hash(refreshToken));
+        refreshTokenInDB.setExpiresAt(LocalDateTime.now().plusSeconds(refreshExpiration));
+        this.refreshTokenRepository.save(refreshTokenInDB);
+        return refreshToken;
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     private User findByEmail(String email) throws AuthException {
@@ -84,11 +130,24 @@ public class AuthService {
     }
 
     private void comparePassword(String rawPassword, String hashedPassword) throws AuthException {
-        if (!passwordEncoder.matches(rawPassword, hashedPassword)) {
+        if (!passwordHashingPool.call(() -> passwordEncoder.matches(rawPassword, hashedPassword))) {
             throw new AuthException("WRONG_PASSWORD");
         }
     }
 
+    // The stronger hash to store, or null when the stored one is kept
+    private String upgradedPasswordHash(User user, String rawPassword) {
+        if (!rehashOnLogin || !passwordEncoder.upgradeEncoding(user.getPasswordHash())) {
+            return null;
+        }
+        try {
+            return passwordHashingPool.call(() -> passwordEncoder.encode(rawPassword));
+        } catch (ServiceOverloadedException e) {
+            // The login itself succeeded; try again on a quieter login
+            return null;
+        }
+    }
+
     @LogActivity(action = "LOGOUT", entityType = "USER")
     public String logout(String email) throws AuthException {
         User user = findByEmail(email);
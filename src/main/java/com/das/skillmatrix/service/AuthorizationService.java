@@ -20,6 +20,8 @@ import com.das.skillmatrix.repository.UpskillDocumentRepository;
 import com.das.skillmatrix.repository.UserRepository;
 import com.das.skillmatrix.repository.UserSkillEvaluationRepository;
 import com.das.skillmatrix.repository.UserUpskillProgressRepository;
+import com.das.skillmatrix.security.AuthenticatedUser;
+import com.das.skillmatrix.security.PrincipalContext;
 
 import lombok.RequiredArgsConstructor;
 
@@ -40,7 +42,7 @@ public class AuthorizationService {
         if (isAdmin())
             return true;
         Authentication authentication = getAuthenticationOrThrow();
-        User user = userRepository.findUserByEmail(authentication.getName());
+        User user = resolveCurrentUser(authentication);
         return user != null && user.getUserId().equals(userId);
     }
 
@@ -55,7 +57,7 @@ public class AuthorizationService {
         if (isAdmin())
             return true;
         Authentication authentication = getAuthenticationOrThrow();
-        User user = userRepository.findUserByEmail(authentication.getName());
+        User user = resolveCurrentUser(authentication);
         // if notification not found, return false
         Notification notification = notificationRepository.findById(notificationId).orElse(null);
         if (user == null)
@@ -76,7 +78,7 @@ public class AuthorizationService {
         if (isAdmin())
             return true;
         Authentication authentication = getAuthenticationOrThrow();
-        User user = userRepository.findUserByEmail(authentication.getName());
+        User user = resolveCurrentUser(authentication);
         // if user or progress not found, return false
         UserUpskillProgress progress = userUpskillProgressRepository.findById(userUpskillProgressId).orElse(null);
         if (user == null)
@@ -97,7 +99,7 @@ public class AuthorizationService {
         if (isAdmin())
             return true;
         Authentication authentication = getAuthenticationOrThrow();
-        User user = userRepository.findUserByEmail(authentication.getName());
+        User user = resolveCurrentUser(authentication);
         // if user or document not found, return false
         UpskillDocument document = upskillDocumentRepository.findById(documentId).orElse(null);
         if (user == null)
@@ -118,7 +120,7 @@ public class AuthorizationService {
         if (isAdmin())
             return true;
         Authentication authentication = getAuthenticationOrThrow();
-        User user = userRepository.findUserByEmail(authentication.getName());
+        User user = resolveCurrentUser(authentication);
         // if user or team not found, return false
         Team team = teamRepository.findById(teamId).orElse(null);
         if (user == null)
@@ -142,7 +144,7 @@ public class AuthorizationService {
         if (isTeamManagerOwner(teamId))
             return true;
         Authentication authentication = getAuthenticationOrThrow();
-        User user = userRepository.findUserByEmail(authentication.getName());
+        User user = resolveCurrentUser(authentication);
         // if user or team not found, return false
         Team team = teamRepository.findById(teamId).orElse(null);
         if (user == null || user.getUserId() == null)
@@ -163,7 +165,7 @@ public class AuthorizationService {
         if (isAdmin())
             return true;
         Authentication authentication = getAuthenticationOrThrow();
-        User user = userRepository.findUserByEmail(authentication.getName());
+        User user = resolveCurrentUser(authentication);
         // if user or evaluation not found, return false
         UserSkillEvaluation evaluation = userSkillEvaluationRepository.findById(evaluationId).orElse(null);
         if (user == null)
@@ -191,6 +193,13 @@ public class AuthorizationService {
                 .anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals("ROLE_" + role));
     }
 
+    private User resolveCurrentUser(Authentication authentication) {
+        AuthenticatedUser principal = PrincipalContext.current();
+        if (principal != null)
+            return principal.getAccount();
+        return userRepository.findUserByEmail(authentication.getName());
+    }
+
     private Authentication getAuthenticationOrThrow() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null
@@ -1,28 +1,54 @@
 package com.das.skillmatrix.service;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.das.skillmatrix.entity.BusinessChangeLog;
-import com.das.skillmatrix.entity.User;
-import com.das.skillmatrix.repository.BusinessChangeLogRepository;
-import com.das.skillmatrix.repository.UserRepository;
-
-import lombok.RequiredArgsConstructor;
+import com.das.skillmatrix.security.AuthenticatedUser;
+import com.das.skillmatrix.security.PrincipalContext;
 
+// Change records are buffered per transaction and written with one JDBC batch
+// after the business transaction commits (in a new transaction of their own).
+// Outside a transaction each call is written immediately.
 @Service
-@RequiredArgsConstructor
 public class BusinessChangeLogService {
 
     private static final Logger log = LoggerFactory.getLogger(BusinessChangeLogService.class);
 
-    private final BusinessChangeLogRepository repository;
-    private final UserRepository userRepository;
+    private static final String INSERT_SQL = """
+            INSERT INTO business_change_logs (user_id, user_email, action, entity_type, entity_id,
+                                              changes, created_at, updated_at)
+            VALUES (:userId, :userEmail, :action, :entityType, :entityId,
+                    :changes, :createdAt, :createdAt)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTemplate;
+
+    public BusinessChangeLogService(NamedParameterJdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     public record FieldChange(String field, String oldValue, String newValue) {
     }
@@ -41,9 +67,10 @@ public class BusinessChangeLogService {
             changeLog.setAction(action);
             changeLog.setEntityType(entityType);
             changeLog.setEntityId(entityId);
-            changeLog.setChanges(toJson(changes));
+            changeLog.setChanges(ChangeLogEncoder.encode(changes));
+            changeLog.setCreatedAt(LocalDateTime.now());
             populateUserInfo(changeLog);
-            repository.save(changeLog);
+            enqueue(changeLog);
 
             log.debug("Business change logged: action={}, entityType={}, entityId={}",
                     action, entityType, entityId);
@@ -53,37 +80,87 @@ public class BusinessChangeLogService {
         }
     }
 
+    private void enqueue(BusinessChangeLog changeLog) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(List.of(changeLog));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<BusinessChangeLog> pending = (List<BusinessChangeLog>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<BusinessChangeLog> buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write(buffer);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(BusinessChangeLogService.this);
+                }
+            });
+            pending = buffer;
+        }
+        pending.add(changeLog);
+    }
+
+    private void write(List<BusinessChangeLog> changeLogs) {
+        if (changeLogs.isEmpty()) return;
+        try {
+            writeTemplate.executeWithoutResult(status -> {
+                resolveUserIds(changeLogs);
+                jdbcTemplate.batchUpdate(INSERT_SQL, changeLogs.stream()
+                        .map(BusinessChangeLogService::toParams)
+                        .toArray(SqlParameterSource[]::new));
+            });
+        } catch (Exception e) {
+            log.error("Failed to write {} business change logs: {}", changeLogs.size(), e.getMessage(), e);
+        }
+    }
+
     private void populateUserInfo(BusinessChangeLog changeLog) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getPrincipal())) {
-            String email = auth.getName();
-            changeLog.setUserEmail(email);
-            User user = userRepository.findUserByEmail(email);
-            if (user != null) {
-                changeLog.setUserId(user.getUserId());
+            changeLog.setUserEmail(auth.getName());
+            AuthenticatedUser principal = PrincipalContext.current();
+            if (principal != null) {
+                changeLog.setUserId(principal.getUserId());
             }
         }
     }
 
-    private String toJson(List<FieldChange> changes) {
-        StringBuilder sb = new StringBuilder("[");
-        for (int i = 0; i < changes.size(); i++) {
-            FieldChange fc = changes.get(i);
-            if (i > 0)
-                sb.append(",");
-            sb.append("{")
-                    .append("\"field\":\"").append(escape(fc.field())).append("\",")
-                    .append("\"oldValue\":\"").append(escape(fc.oldValue())).append("\",")
-                    .append("\"newValue\":\"").append(escape(fc.newValue())).append("\"")
-                    .append("}");
+    // Authentications not created by JwtAuthenticationFilter only carry the email;
+    // resolve their ids for the whole batch with one query.
+    private void resolveUserIds(List<BusinessChangeLog> changeLogs) {
+        List<String> emails = changeLogs.stream()
+                .filter(c -> c.getUserId() == null && c.getUserEmail() != null)
+                .map(BusinessChangeLog::getUserEmail)
+                .distinct()
+                .toList();
+        if (emails.isEmpty()) return;
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT user_id, email FROM users WHERE email IN (:emails)",
+                new MapSqlParameterSource("emails", emails),
+                rs -> {
+                    ids.put(rs.getString("email").toLowerCase(), rs.getLong("user_id"));
+                });
+        for (BusinessChangeLog c : changeLogs) {
+            if (c.getUserId() == null && c.getUserEmail() != null) {
+                c.setUserId(ids.get(c.getUserEmail().toLowerCase()));
+            }
         }
-        sb.append("]");
-        return sb.toString();
     }
 
-    private String escape(String value) {
-        if (value == null)
-            return "null";
-        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    private static SqlParameterSource toParams(BusinessChangeLog c) {
+        return new MapSqlParameterSource()
+                .addValue("userId", c.getUserId())
+                .addValue("userEmail", c.getUserEmail())
+                .addValue("action", c.getAction())
+                .addValue("entityType", c.getEntityType())
+                .addValue("entityId", c.getEntityId())
+                .addValue("changes", c.getChanges())
+                .addValue("createdAt", Timestamp.valueOf(c.getCreatedAt()));
     }
 }
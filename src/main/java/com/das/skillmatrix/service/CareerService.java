@@ -4,14 +4,17 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.das.skillmatrix.annotation.LogActivity;
 import com.das.skillmatrix.dto.request.CareerFilterRequest;
 import com.das.skillmatrix.dto.request.CareerRequest;
+import com.das.skillmatrix.dto.request.CursorPageRequest;
 import com.das.skillmatrix.dto.response.CareerDetailResponse;
 import com.das.skillmatrix.dto.response.CareerResponse;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
 import com.das.skillmatrix.dto.response.DepartmentBrief;
 import com.das.skillmatrix.dto.response.PageResponse;
 import com.das.skillmatrix.entity.Career;
@@ -21,6 +24,7 @@ import com.das.skillmatrix.repository.CareerRepository;
 import com.das.skillmatrix.repository.DepartmentRepository;
 import com.das.skillmatrix.repository.UserRepository;
 import com.das.skillmatrix.repository.specification.CareerSpecification;
+import com.das.skillmatrix.repository.specification.KeysetSpecification;
 
 
 import lombok.RequiredArgsConstructor;
@@ -34,6 +38,8 @@ public class CareerService {
     private final DepartmentRepository departmentRepository;
     private final UserRepository userRepository;
     private final BusinessChangeLogService businessChangeLogService;
+    private final ScopeClosureService scopeClosureService;
+    private final OrgHierarchyIndex orgHierarchyIndex;
 
     @LogActivity(action = "CREATE_CAREER", entityType = "CAREER")
     public CareerResponse create(CareerRequest req) {
@@ -46,6 +52,7 @@ public class CareerService {
         c.setCareerType(req.getCareerType());
         c.setDescription(req.getDescription());
         c = careerRepository.save(c);
+        orgHierarchyIndex.invalidate();
         return new CareerResponse(c.getCareerId(), c.getName(), c.getCareerType(), c.getDescription(), c.getStatus(), c.getCreatedAt());
     }
 
@@ -60,6 +67,7 @@ public class CareerService {
         c.setCareerType(req.getCareerType());
         c.setDescription(req.getDescription());
         careerRepository.save(c);
+        orgHierarchyIndex.invalidate();
         return new CareerResponse(c.getCareerId(), c.getName(), c.getCareerType(), c.getDescription(), c.getStatus(), c.getCreatedAt());
     }
 
@@ -76,6 +84,7 @@ public class CareerService {
             c.setDeletedAt(LocalDateTime.now());
         }
         careerRepository.save(c);
+        orgHierarchyIndex.invalidate();
         businessChangeLogService.log(
                 "CHANGE_CAREER_STATUS", "CAREER", id,
                 "status", oldStatus, c.getStatus().name());
@@ -106,6 +115,20 @@ public class CareerService {
                 page.hasPrevious());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CareerResponse> listByCursor(CareerFilterRequest filter, CursorPageRequest page, Sort sort) {
+        var spec = CareerSpecification.filterCareers(filter);
+        return KeysetSpecification.page(careerRepository, spec, sort, "careerId", page,
+            c -> new CareerResponse(
+                c.getCareerId(),
+                c.getName(),
+                c.getCareerType(),
+                c.getDescription(),
+                c.getStatus(),
+                c.getCreatedAt()
+            ));
+    }
+
     @Transactional(readOnly = true)
     public CareerDetailResponse detail(Long id) {
         Career c = getVisibleCareerOrThrow(id);
@@ -155,6 +178,7 @@ public class CareerService {
         if (!alreadyManager) {
             career.getManagers().add(user);
             careerRepository.save(career);
+            scopeClosureService.refreshUser(userId);
             businessChangeLogService.log(
                     "ADD_CAREER_MANAGER", "CAREER", careerId,
                     "managerId", null, userId.toString());
@@ -167,6 +191,7 @@ public class CareerService {
         boolean removed = career.getManagers().removeIf(u -> u.getUserId().equals(userId));
         if (removed) {
             careerRepository.save(career);
+            scopeClosureService.refreshUser(userId);
             businessChangeLogService.log(
                     "REMOVE_CAREER_MANAGER", "CAREER", careerId,
                     "managerId", userId.toString(), null);
@@ -0,0 +1,59 @@
+package com.das.skillmatrix.service;
+
+import java.util.List;
+
+import com.das.skillmatrix.service.BusinessChangeLogService.FieldChange;
+
+// Compact JSON for business_change_logs.changes:
+// [{"field":"status","oldValue":"ACTIVE","newValue":null}]
+// Nulls are written as JSON null and all control characters are escaped.
+public final class ChangeLogEncoder {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private ChangeLogEncoder() {
+    }
+
+    public static String encode(List<FieldChange> changes) {
+        StringBuilder sb = new StringBuilder(32 + changes.size() * 64);
+        sb.append('[');
+        for (int i = 0; i < changes.size(); i++) {
+            FieldChange fc = changes.get(i);
+            if (i > 0) sb.append(',');
+            sb.append("{\"field\":");
+            appendString(sb, fc.field());
+            sb.append(",\"oldValue\":");
+            appendString(sb, fc.oldValue());
+            sb.append(",\"newValue\":");
+            appendString(sb, fc.newValue());
+            sb.append('}');
+        }
+        return sb.append(']').toString();
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -4,9 +4,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.das.skillmatrix.entity.User;
 import com.das.skillmatrix.repository.UserRepository;
+import com.das.skillmatrix.security.AuthenticatedUser;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,15 +18,14 @@ public class CustomUserDetailsService implements UserDetailsService{
 
 	private final UserRepository userRepository;
 	
+	// Resolves the account and its managed scopes once per request; the result becomes
+	// the SecurityContext principal and is reused by PermissionService and the audit loggers.
 	@Override
+	@Transactional(readOnly = true)
 	public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {	
 		User userInDB = this.userRepository.findUserByEmail(email);
 		if (userInDB == null) throw new UsernameNotFoundException("User isn't found");
-		return org.springframework.security.core.userdetails.User
-				.withUsername(userInDB.getEmail())
-                .password(userInDB.getPasswordHash())
-                .roles(userInDB.getRole())
-                .build();
+		return AuthenticatedUser.of(userInDB);
 	}
 	
 }
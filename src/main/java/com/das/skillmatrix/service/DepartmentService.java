@@ -4,13 +4,16 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.das.skillmatrix.annotation.LogActivity;
+import com.das.skillmatrix.dto.request.CursorPageRequest;
 import com.das.skillmatrix.dto.request.DepartmentFilterRequest;
 import com.das.skillmatrix.dto.request.DepartmentRequest;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
 import com.das.skillmatrix.dto.response.DepartmentDetailResponse;
 import com.das.skillmatrix.dto.response.DepartmentResponse;
 import com.das.skillmatrix.dto.response.PageResponse;
@@ -23,6 +26,7 @@ import com.das.skillmatrix.repository.DepartmentRepository;
 import com.das.skillmatrix.repository.TeamRepository;
 import com.das.skillmatrix.repository.UserRepository;
 import com.das.skillmatrix.repository.specification.DepartmentSpecification;
+import com.das.skillmatrix.repository.specification.KeysetSpecification;
 
 import lombok.RequiredArgsConstructor;
 
@@ -37,8 +41,11 @@ public class DepartmentService {
     private final PermissionService permissionService;
     private final TeamRepository teamRepository;
     private final BusinessChangeLogService businessChangeLogService;
+    private final ScopeClosureService scopeClosureService;
+    private final OrgHierarchyIndex orgHierarchyIndex;
+    private final SkillRollupService skillRollupService;
 
-    @LogActivity(action = "CREATE_DEPARTMENT", entityType = "DEPARTMENT")
+    @LogActivity(action = "CREATE_DEPARTMENT", entityType = "DEPARTMENT", entityId = "result.departmentId")
     public DepartmentResponse create(DepartmentRequest req) {
         String name = normalizeName(req.getName());
         Long careerId = req.getCareerId();
@@ -53,6 +60,8 @@ public class DepartmentService {
         department.setDescription(req.getDescription());
         department.setCareer(career);
         department = departmentRepository.save(department);
+        scopeClosureService.refreshDepartment(department.getDepartmentId());
+        orgHierarchyIndex.invalidate();
         return new DepartmentResponse(
                 department.getDepartmentId(),
                 department.getName(),
@@ -63,7 +72,7 @@ public class DepartmentService {
                 department.getCreatedAt());
     }
 
-    @LogActivity(action = "UPDATE_DEPARTMENT", entityType = "DEPARTMENT")
+    @LogActivity(action = "UPDATE_DEPARTMENT", entityType = "DEPARTMENT", entityId = "id")
     public DepartmentResponse update(Long id, DepartmentRequest req) {
         Department department = getActiveDepartmentOrThrow(id);
         Long oldCareerId = department.getCareer().getCareerId();
@@ -89,7 +98,10 @@ public class DepartmentService {
         }
         department.setDescription(req.getDescription());
         department = departmentRepository.save(department);
+        orgHierarchyIndex.invalidate();
         if (!oldCareerId.equals(newCareerId)) {
+            scopeClosureService.refreshDepartment(id);
+            skillRollupService.refreshDepartmentMove(id, oldCareerId);
             businessChangeLogService.log(
                     "MIGRATE_DEPARTMENT_CAREER", "DEPARTMENT", id,
                     "careerId", oldCareerId.toString(), newCareerId.toString());
@@ -121,6 +133,7 @@ public class DepartmentService {
             department.setDeletedAt(LocalDateTime.now());
         }
         departmentRepository.save(department);
+        orgHierarchyIndex.invalidate();
         businessChangeLogService.log(
                 "CHANGE_DEPARTMENT_STATUS", "DEPARTMENT", id,
                 "status", oldStatus, department.getStatus().name());
@@ -145,6 +158,22 @@ public class DepartmentService {
                 page.getTotalElements(), page.getTotalPages(), page.hasNext(), page.hasPrevious());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<DepartmentResponse> listByCursor(Long careerId, DepartmentFilterRequest filter,
+            CursorPageRequest page, Sort sort) {
+        Career career = careerRepository.findById(careerId)
+                .orElseThrow(() -> new IllegalArgumentException("CAREER_NOT_FOUND"));
+        if (career.getStatus() == GeneralStatus.DELETED) {
+            throw new IllegalArgumentException("CAREER_NOT_FOUND");
+        }
+        var spec = DepartmentSpecification.filterDepartmentsByCareer(careerId, filter);
+        return KeysetSpecification.page(departmentRepository, spec, sort, "departmentId", page,
+                d -> new DepartmentResponse(
+                        d.getDepartmentId(), d.getName(), d.getDescription(),
+                        d.getCareer().getCareerId(), d.getCareer().getName(),
+                        d.getStatus(), d.getCreatedAt()));
+    }
+
     @Transactional(readOnly = true)
     public DepartmentDetailResponse detail(Long id) {
         Department department = getVisibleDepartmentOrThrow(id);
@@ -176,6 +205,7 @@ public class DepartmentService {
         if (!alreadyManager) {
             department.getManagers().add(user);
             departmentRepository.save(department);
+            scopeClosureService.refreshUser(userId);
             businessChangeLogService.log(
                     "ADD_DEPARTMENT_MANAGER", "DEPARTMENT", departmentId,
                     "managerId", null, userId.toString());
@@ -188,6 +218,7 @@ public class DepartmentService {
         boolean removed = department.getManagers().removeIf(u -> u.getUserId().equals(userId));
         if (removed) {
             departmentRepository.save(department);
+            scopeClosureService.refreshUser(userId);
             businessChangeLogService.log(
                     "REMOVE_DEPARTMENT_MANAGER", "DEPARTMENT", departmentId,
                     "managerId", userId.toString(), null);
@@ -0,0 +1,213 @@
+package com.das.skillmatrix.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import com.das.skillmatrix.dto.request.CursorPageRequest;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
+import com.das.skillmatrix.dto.response.RevisionResponse;
+import com.das.skillmatrix.dto.response.TeamMembershipResponse;
+import com.das.skillmatrix.repository.specification.KeysetCursor;
+import com.das.skillmatrix.repository.specification.KeysetSpecification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Read side of the Envers _AUD tables. Queries go straight to the audit tables with plain
+// SQL and return column values, so no AuditReader entity (and none of its relations) is
+// ever materialised. Revisions are paged newest first by seeking on (id, REV); membership
+// as of a date resolves the date to the last revision before it through REVINFO.REVTSTMP
+// and then reads the latest team_members_AUD row per membership at that revision.
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class EntityHistoryService {
+
+    // Columns are those Envers writes to the _AUD table; BaseEntity (created_at, updated_at)
+    // is not audited, so its columns do not exist there.
+    public enum HistoryType {
+        USER("users_AUD", "user_id", List.of("email", "full_name", "phone", "role", "status",
+                "department_id", "deactive_type", "deactive_until")),
+        TEAM("teams_AUD", "team_id", List.of("name", "description", "status", "department_id", "deleted_at")),
+        DEPARTMENT("departments_AUD", "department_id", List.of("name", "description", "status", "career_id",
+                "deleted_at")),
+        CAREER("careers_AUD", "career_id", List.of("name", "career_type", "description", "status", "deleted_at")),
+        TEAM_MEMBER("team_members_AUD", "id", List.of("team_id", "user_id", "position_id"));
+
+        private final String table;
+        private final String idColumn;
+        private final List<String> columns;
+
+        HistoryType(String table, String idColumn, List<String> columns) {
+            this.table = table;
+            this.idColumn = idColumn;
+            this.columns = columns;
+        }
+
+        // Path form: user, team, department, career, team-member
+        public static HistoryType from(String value) {
+            try {
+                return valueOf(value.replace('-', '_').toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("INVALID_HISTORY_TYPE");
+            }
+        }
+    }
+
+    private static final String[] REVISION_TYPES = { "ADD", "MOD", "DEL" };
+    private static final String CURSOR_PROPERTY = "revision";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CursorPageResponse<RevisionResponse> history(HistoryType type, Long id, CursorPageRequest page) {
+        if (page.getSize() < 1) {
+            throw new IllegalArgumentException("INVALID_PAGE_SIZE");
+        }
+        int size = Math.min(page.getSize(), KeysetSpecification.MAX_PAGE_SIZE);
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", id);
+        params.put("limit", size + 1);
+        String seek = "";
+        if (StringUtils.hasText(page.getCursor())) {
+            KeysetCursor cursor = KeysetCursor.decode(page.getCursor());
+            if (!CURSOR_PROPERTY.equals(cursor.property()) || cursor.direction() != Sort.Direction.DESC) {
+                throw new IllegalArgumentException("INVALID_CURSOR");
+            }
+            params.put("before", cursor.id());
+            seek = " AND a.REV < :before";
+        }
+
+        String columns = type.columns.stream().map(c -> "a." + c).collect(Collectors.joining(", "));
+        List<RevisionResponse> rows = jdbcTemplate.query(
+                "SELECT a.REV, a.REVTYPE, r.REVTSTMP, " + columns
+                        + " FROM " + type.table + " a JOIN REVINFO r ON r.REV = a.REV"
+                        + " WHERE a." + type.idColumn + " = :id" + seek
+                        + " ORDER BY a.REV DESC LIMIT :limit",
+                params, (rs, i) -> toRevision(rs, type));
+
+        boolean hasNext = rows.size() > size;
+        List<RevisionResponse> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+                ? new KeysetCursor(CURSOR_PROPERTY, Sort.Direction.DESC, content.get(size - 1).getRevision(), null).encode()
+                : null;
+        Long total = page.isWithTotal()
+                ? jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + type.table + " WHERE " + type.idColumn + " = :id",
+                        Map.of("id", id), Long.class)
+                : null;
+        return new CursorPageResponse<>(content, size, nextCursor, hasNext, total);
+    }
+
+    public List<TeamMembershipResponse> teamMembersAsOf(Long teamId, LocalDateTime at) {
+        long millis = at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Long revision = jdbcTemplate.queryForObject("SELECT MAX(REV) FROM REVINFO WHERE REVTSTMP <= :at",
+                Map.of("at", millis), Long.class);
+        if (revision == null) return List.of();
+        // A membership counts when its newest row up to the revision is in this team and not
+        // a delete; later rows moving it to another team or deleting it exclude it.
+        return jdbcTemplate.query("""
+                SELECT a.id, a.user_id, a.position_id, a.REV, u.full_name, u.email
+                  FROM team_members_AUD a
+                  LEFT JOIN users u ON u.user_id = a.user_id
+                 WHERE a.team_id = :teamId AND a.REV <= :rev AND a.REVTYPE <> 2
+                   AND NOT EXISTS (SELECT 1 FROM team_members_AUD b
+                                    WHERE b.id = a.id AND b.REV > a.REV AND b.REV <= :rev)
+                 ORDER BY a.user_id
+                """, Map.of("teamId", teamId, "rev", revision), (rs, i) -> new TeamMembershipResponse(
+                rs.getLong("id"),
+                rs.getObject("user_id", Long.class),
+                rs.getString("full_name"),
+                rs.getString("email"),
+                rs.getObject("position_id", Long.class),
+                rs.getLong("REV")));
+    }
+
+    private static RevisionResponse toRevision(ResultSet rs, HistoryType type) throws SQLException {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String column : type.columns) {
+            Object value = rs.getObject(column);
+            values.put(camelCase(column), value instanceof Timestamp ts ? ts.toLocalDateTime() : value);
+        }
+        int revisionType = rs.getInt("REVTYPE");
+        return new RevisionResponse(
+                rs.getLong("REV"),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(rs.getLong("REVTSTMP")), ZoneId.systemDefault()),
+                revisionType >= 0 && revisionType < REVISION_TYPES.length ? REVISION_TYPES[revisionType] : null,
+                values);
+    }
+
+    private static String camelCase(String column) {
+        StringBuilder out = new StringBuilder(column.length());
+        boolean upper = false;
+        for (char c : column.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                out.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return out.toString();
+    }
+
+    // ================= INDEXES =================
+
+    // Envers creates the _AUD tables without secondary indexes. Seeking a history page needs
+    // an index led by (id, REV), the as-of lookup one on REVINFO.REVTSTMP and the membership
+    // scan one on team_members_AUD (team_id, REV). Each is created once, unless an existing
+    // index (usually the primary key) already starts with the same columns.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void ensureIndexes() {
+        for (HistoryType type : HistoryType.values()) {
+            ensureIndex(type.table, "idx_" + type.table.toLowerCase(Locale.ROOT) + "_id_rev", type.idColumn, "REV");
+        }
+        ensureIndex("team_members_AUD", "idx_team_members_aud_team_rev", "team_id", "REV");
+        ensureIndex("REVINFO", "idx_revinfo_timestamp", "REVTSTMP", null);
+    }
+
+    private void ensureIndex(String table, String name, String first, String second) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("table", table);
+        params.put("first", first);
+        params.put("second", second);
+        try {
+            Long covered = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM information_schema.statistics s
+                     WHERE s.table_schema = DATABASE() AND s.table_name = :table
+                       AND s.seq_in_index = 1 AND s.column_name = :first
+                       AND (:second IS NULL OR EXISTS (
+                           SELECT 1 FROM information_schema.statistics t
+                            WHERE t.table_schema = s.table_schema AND t.table_name = s.table_name
+                              AND t.index_name = s.index_name
+                              AND t.seq_in_index = 2 AND t.column_name = :second))
+                    """, params, Long.class);
+            if (covered != null && covered > 0) return;
+            jdbcTemplate.getJdbcOperations().execute("CREATE INDEX " + name + " ON " + table + " ("
+                    + first + (second != null ? ", " + second : "") + ")");
+            log.info("Created index {} on {}", name, table);
+        } catch (DataAccessException e) {
+            log.warn("Could not ensure index {} on {}: {}", name, table, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.das.skillmatrix.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.das.skillmatrix.config.DeferredAuditStrategy;
+import com.das.skillmatrix.config.EnversAuditConfig;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+// Writes Envers _AUD rows deferred by DeferredAuditStrategy (audit.envers.mode=ASYNC). Rows
+// committed by request threads are queued and a single background thread inserts them in
+// batches through a stateless session, one transaction per batch. A full queue blocks the
+// committing thread rather than losing history; a batch that fails to insert is logged and
+// counted, as its revision is already committed. Rows submitted while the writer is not
+// running (a transaction that deferred just before stop() detached the strategy) are
+// written on the submitting thread.
+@Slf4j
+@Component
+public class EnversAuditWriter implements SmartLifecycle {
+
+    private record Row(String entityName, Object data) {
+    }
+
+    private final SessionFactory sessionFactory;
+    private final EnversAuditConfig.Mode mode;
+    private final BlockingQueue<Row> queue;
+    private final int batchSize;
+    private final long lingerMs;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public EnversAuditWriter(EntityManagerFactory entityManagerFactory,
+                             MeterRegistry meterRegistry,
+                             @Value("${audit.envers.mode:SYNC}") EnversAuditConfig.Mode mode,
+                             @Value("${audit.envers.queue-capacity:20000}") int queueCapacity,
+                             @Value("${audit.envers.jdbc-batch-size:50}") int batchSize,
+                             @Value("${audit.envers.linger-ms:100}") long lingerMs) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.mode = mode;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerMs = lingerMs;
+
+        Gauge.builder("skillmatrix.envers.queue.depth", queue, BlockingQueue::size)
+                .description("Envers audit rows committed but not yet written")
+                .register(meterRegistry);
+        FunctionCounter.builder("skillmatrix.envers.written", written, LongAdder::sum)
+                .register(meterRegistry);
+        FunctionCounter.builder("skillmatrix.envers.failed", failed, LongAdder::sum)
+                .description("Envers audit rows lost because their batch failed to insert")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("skillmatrix.envers.flush.latency")
+                .description("Time to write one batch of Envers audit rows")
+                .register(meterRegistry);
+    }
+
+    public void submit(String auditEntityName, Object data) {
+        Row row = new Row(auditEntityName, data);
+        if (!running) {
+            flush(List.of(row));
+            return;
+        }
+        try {
+            queue.put(row);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flush(List.of(row));
+            return;
+        }
+        // stop() may have drained the queue between the check and the put; whoever sees
+        // running false after the put empties the queue, so the row is written either way
+        if (!running) {
+            drainRemaining();
+        }
+    }
+
+    // ================= LIFECYCLE =================
+
+    @Override
+    public boolean isAutoStartup() {
+        return mode == EnversAuditConfig.Mode.ASYNC;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "envers-audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+        DeferredAuditStrategy.attach(this);
+    }
+
+    // Stop deferring first, then let the worker empty the queue
+    @Override
+    public void stop() {
+        DeferredAuditStrategy.detach();
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drainRemaining();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        List<Row> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Row first = queue.poll(lingerMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // ================= WRITE =================
+
+    private void drainRemaining() {
+        List<Row> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        flush(rest);
+    }
+
+    void flush(List<Row> batch) {
+        if (batch.isEmpty()) return;
+        try {
+            flushTimer.record(() -> {
+                try (StatelessSession session = sessionFactory.openStatelessSession()) {
+                    session.setJdbcBatchSize(batchSize);
+                    Transaction tx = session.beginTransaction();
+                    try {
+                        for (Row row : batch) {
+                            session.insert(row.entityName(), row.data());
+                        }
+                        tx.commit();
+                    } catch (RuntimeException e) {
+                        tx.rollback();
+                        throw e;
+                    }
+                }
+            });
+            written.add(batch.size());
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            log.error("Failed to write {} Envers audit rows: {}", batch.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.das.skillmatrix.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.das.skillmatrix.dto.request.AuditLogFilterRequest;
+import com.das.skillmatrix.dto.request.UserFilterRequest;
+import com.das.skillmatrix.entity.Department;
+import com.das.skillmatrix.entity.User;
+import com.das.skillmatrix.export.ExportFormat;
+import com.das.skillmatrix.export.RowWriter;
+import com.das.skillmatrix.repository.TeamRepository;
+import com.das.skillmatrix.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+// Streaming CSV/XLSX exports. Scope and existence checks run on the request thread, so
+// permission errors still come back as normal responses; the body then streams from a
+// forward-only cursor inside its own read-only transaction, a row written per row read.
+// Memory stays flat: users are read as projections and their positions looked up per
+// batch, never as a growing persistence context.
+@Service
+public class ExportService {
+
+    static final int FETCH_SIZE = 1000;
+    static final int BATCH_SIZE = 500;
+
+    private static final Object[] USER_HEADER = {
+            "User ID", "Email", "Full name", "Role", "Status", "Department", "Positions", "Created at" };
+    private static final Object[] TEAM_MEMBER_HEADER = {
+            "Member ID", "User ID", "Email", "Full name", "Status", "Position", "Joined at" };
+    private static final Object[] AUDIT_LOG_HEADER = {
+            "Log ID", "User ID", "User email", "Action", "Entity type", "Entity ID", "Created at", "IP address" };
+    private static final Object[] CHANGE_LOG_HEADER = {
+            "Log ID", "User ID", "User email", "Action", "Entity type", "Entity ID", "Created at", "Reason" };
+
+    private final UserService userService;
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final SkillMatrixService skillMatrixService;
+    private final AuditLogQueryService auditLogQueryService;
+    private final NamedParameterJdbcTemplate cursorJdbcTemplate;
+    private final TransactionTemplate readOnly;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ExportService(UserService userService,
+                         UserRepository userRepository,
+                         TeamRepository teamRepository,
+                         SkillMatrixService skillMatrixService,
+                         AuditLogQueryService auditLogQueryService,
+                         DataSource dataSource,
+                         PlatformTransactionManager transactionManager) {
+        this.userService = userService;
+        this.userRepository = userRepository;
+        this.teamRepository = teamRepository;
+        this.skillMatrixService = skillMatrixService;
+        this.auditLogQueryService = auditLogQueryService;
+        JdbcTemplate cursor = new JdbcTemplate(dataSource);
+        cursor.setFetchSize(FETCH_SIZE);
+        this.cursorJdbcTemplate = new NamedParameterJdbcTemplate(cursor);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    // Users matching the same filters and permission scope as GET /api/users
+    public StreamingResponseBody users(UserFilterRequest filter, Sort sort, ExportFormat format) {
+        Specification<User> spec = userService.scopedSpecification(filter);
+        return stream(format, writer -> writeUsers(spec, sort, writer));
+    }
+
+    public StreamingResponseBody teamMembers(Long teamId, ExportFormat format) {
+        if (!teamRepository.existsById(teamId)) {
+            throw new IllegalArgumentException("TEAM_NOT_FOUND");
+        }
+        return stream(format, writer -> writeTeamMembers(teamId, writer));
+    }
+
+    public StreamingResponseBody teamMatrix(Long teamId, ExportFormat format) {
+        return matrix(skillMatrixService.team(teamId), format);
+    }
+
+    public StreamingResponseBody departmentMatrix(Long departmentId, ExportFormat format) {
+        return matrix(skillMatrixService.department(departmentId), format);
+    }
+
+    public StreamingResponseBody careerMatrix(Long careerId, ExportFormat format) {
+        return matrix(skillMatrixService.career(careerId), format);
+    }
+
+    // Summary columns only, like the search; the metadata / changes payloads are left out
+    public StreamingResponseBody logs(AuditLogQueryService.LogSource source, AuditLogFilterRequest filter,
+                                      ExportFormat format) {
+        AuditLogQueryService.LogQuery query = auditLogQueryService.exportQuery(source, filter);
+        Object[] header = source == AuditLogQueryService.LogSource.AUDIT ? AUDIT_LOG_HEADER : CHANGE_LOG_HEADER;
+        return stream(format, writer -> writeLogs(query, header, writer));
+    }
+
+    private StreamingResponseBody matrix(SkillMatrixService.Scope scope, ExportFormat format) {
+        return stream(format, writer -> skillMatrixService.grid(scope).export(writer));
+    }
+
+    @FunctionalInterface
+    interface Rows {
+        void writeTo(RowWriter writer) throws IOException;
+    }
+
+    private StreamingResponseBody stream(ExportFormat format, Rows rows) {
+        return out -> {
+            RowWriter writer = format.open(out);
+            try {
+                readOnly.executeWithoutResult(status -> {
+                    try {
+                        rows.writeTo(writer);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.finish();
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    void writeUsers(Specification<User> spec, Sort sort, RowWriter writer) throws IOException {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<User> root = query.from(User.class);
+        Join<User, Department> department = root.join("department", JoinType.LEFT);
+        query.multiselect(root.get("userId"), root.get("email"), root.get("fullName"), root.get("role"),
+                root.get("status"), department.get("name"), root.get("createdAt"));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        writer.row(USER_HEADER);
+        Query<Object[]> hql = entityManager.createQuery(query).unwrap(Query.class);
+        try (ScrollableResults<Object[]> results = hql.setReadOnly(true).setFetchSize(FETCH_SIZE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            while (results.next()) {
+                batch.add(results.get());
+                if (batch.size() == BATCH_SIZE) {
+                    writeUserBatch(batch, writer);
+                }
+            }
+            writeUserBatch(batch, writer);
+        }
+    }
+
+    private void writeUserBatch(List<Object[]> batch, RowWriter writer) throws IOException {
+        if (batch.isEmpty()) return;
+        Map<Long, List<String>> positions = new HashMap<>();
+        for (Object[] row : userRepository.findPositionRowsByUserIds(batch.stream().map(r -> (Long) r[0]).toList())) {
+            positions.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[2]);
+        }
+        for (Object[] u : batch) {
+            writer.row(u[0], u[1], u[2], u[3], u[4], u[5],
+                    String.join(", ", positions.getOrDefault((Long) u[0], List.of())), u[6]);
+        }
+        batch.clear();
+    }
+
+    private void writeLogs(AuditLogQueryService.LogQuery query, Object[] header, RowWriter writer) throws IOException {
+        writer.row(header);
+        Object[] line = new Object[header.length];
+        cursorJdbcTemplate.query(query.sql(), new MapSqlParameterSource(query.params()), rs -> {
+            line[0] = rs.getLong("id");
+            line[1] = rs.getObject("user_id");
+            line[2] = rs.getString("user_email");
+            line[3] = rs.getString("action");
+            line[4] = rs.getString("entity_type");
+            line[5] = rs.getObject("entity_id");
+            line[6] = rs.getObject("created_at", LocalDateTime.class);
+            line[7] = rs.getString("extra");
+            try {
+                writer.row(line);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeTeamMembers(Long teamId, RowWriter writer) throws IOException {
+        writer.row(TEAM_MEMBER_HEADER);
+        Object[] line = new Object[TEAM_MEMBER_HEADER.length];
+        cursorJdbcTemplate.query("""
+                SELECT tm.id, u.user_id, u.email, u.full_name, u.status, p.name, tm.created_at
+                  FROM team_members tm
+                  JOIN users u ON u.user_id = tm.user_id
+                  LEFT JOIN positions p ON p.position_id = tm.position_id
+                 WHERE tm.team_id = :teamId
+                 ORDER BY tm.created_at DESC, tm.id DESC
+                """, new MapSqlParameterSource("teamId", teamId), rs -> {
+                    for (int i = 0; i < line.length - 1; i++) {
+                        line[i] = rs.getObject(i + 1);
+                    }
+                    line[line.length - 1] = rs.getObject(line.length, LocalDateTime.class);
+                    try {
+                        writer.row(line);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+}
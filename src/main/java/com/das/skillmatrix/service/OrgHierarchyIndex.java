@@ -0,0 +1,201 @@
+package com.das.skillmatrix.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.das.skillmatrix.repository.DepartmentRepository;
+import com.das.skillmatrix.repository.TeamRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// In-memory copy of the Career -> Department -> Team tree, kept as sorted long arrays.
+// Writers call invalidate(); the version is bumped after their transaction commits and
+// the next reader rebuilds the snapshot with two projection queries. The rebuild runs in
+// its own read-only transaction: a caller's REPEATABLE READ snapshot may predate the commit
+// that bumped the version, and its links must not be cached under the new version.
+@Slf4j
+@Component
+public class OrgHierarchyIndex {
+
+    private final DepartmentRepository departmentRepository;
+    private final TeamRepository teamRepository;
+    private final TransactionTemplate rebuildTemplate;
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public OrgHierarchyIndex(DepartmentRepository departmentRepository,
+                             TeamRepository teamRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.departmentRepository = departmentRepository;
+        this.teamRepository = teamRepository;
+        this.rebuildTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildTemplate.setReadOnly(true);
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        } else {
+            version.incrementAndGet();
+        }
+    }
+
+    public List<Long> departmentsOfCareers(Collection<Long> careerIds) {
+        return current().departments.childrenOf(careerIds);
+    }
+
+    public List<Long> teamsOfDepartments(Collection<Long> departmentIds) {
+        return current().teams.childrenOf(departmentIds);
+    }
+
+    public List<Long> teamsOfCareers(Collection<Long> careerIds) {
+        Snapshot s = current();
+        return s.teams.childrenOf(s.departments.childrenOf(careerIds));
+    }
+
+    public List<Long> careersOfDepartments(Collection<Long> departmentIds) {
+        return current().departments.parentsOf(departmentIds);
+    }
+
+    public List<Long> departmentsOfTeams(Collection<Long> teamIds) {
+        return current().teams.parentsOf(teamIds);
+    }
+
+    public Long careerOfDepartment(Long departmentId) {
+        return current().departments.parentOf(departmentId);
+    }
+
+    public Long departmentOfTeam(Long teamId) {
+        return current().teams.parentOf(teamId);
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null && s.version == version.get()) {
+            return s;
+        }
+        synchronized (this) {
+            s = snapshot;
+            long target = version.get();
+            if (s == null || s.version != target) {
+                s = rebuildTemplate.execute(status -> new Snapshot(target,
+                        Level.of(departmentRepository.findAllCareerLinks()),
+                        Level.of(teamRepository.findAllDepartmentLinks())));
+                snapshot = s;
+                log.debug("Rebuilt org hierarchy index v{}: {} departments, {} teams",
+                        target, s.departments.childIds.length, s.teams.childIds.length);
+            }
+            return s;
+        }
+    }
+
+    private record Snapshot(long version, Level departments, Level teams) {
+    }
+
+    // One parent -> child level. childIds/parentOfChild answer "parent of X" by binary search;
+    // parentIds/childStart/childrenByParent are a CSR adjacency list for "children of X".
+    private static final class Level {
+        final long[] childIds;
+        final long[] parentOfChild;
+        final long[] parentIds;
+        final int[] childStart;
+        final long[] childrenByParent;
+
+        private Level(long[] childIds, long[] parentOfChild, long[] parentIds,
+                int[] childStart, long[] childrenByParent) {
+            this.childIds = childIds;
+            this.parentOfChild = parentOfChild;
+            this.parentIds = parentIds;
+            this.childStart = childStart;
+            this.childrenByParent = childrenByParent;
+        }
+
+        static Level of(List<Object[]> links) {
+            List<long[]> edges = new ArrayList<>(links.size());
+            for (Object[] row : links) {
+                if (row[0] != null && row[1] != null) {
+                    edges.add(new long[] { ((Number) row[0]).longValue(), ((Number) row[1]).longValue() });
+                }
+            }
+            int n = edges.size();
+
+            edges.sort(Comparator.comparingLong(e -> e[0]));
+            long[] childIds = new long[n];
+            long[] parentOfChild = new long[n];
+            for (int i = 0; i < n; i++) {
+                childIds[i] = edges.get(i)[0];
+                parentOfChild[i] = edges.get(i)[1];
+            }
+
+            edges.sort(Comparator.<long[]>comparingLong(e -> e[1]).thenComparingLong(e -> e[0]));
+            long[] childrenByParent = new long[n];
+            long[] parents = new long[n];
+            int[] starts = new int[n + 1];
+            int parentCount = 0;
+            for (int i = 0; i < n; i++) {
+                long[] e = edges.get(i);
+                childrenByParent[i] = e[0];
+                if (parentCount == 0 || parents[parentCount - 1] != e[1]) {
+                    parents[parentCount] = e[1];
+                    starts[parentCount] = i;
+                    parentCount++;
+                }
+            }
+            starts[parentCount] = n;
+            return new Level(childIds, parentOfChild, Arrays.copyOf(parents, parentCount),
+                    Arrays.copyOf(starts, parentCount + 1), childrenByParent);
+        }
+
+        Long parentOf(Long childId) {
+            if (childId == null) return null;
+            int idx = Arrays.binarySearch(childIds, childId);
+            return idx < 0 ? null : parentOfChild[idx];
+        }
+
+        List<Long> parentsOf(Collection<Long> children) {
+            Set<Long> result = new LinkedHashSet<>();
+            for (Long child : children) {
+                Long parent = parentOf(child);
+                if (parent != null) result.add(parent);
+            }
+            return new ArrayList<>(result);
+        }
+
+        List<Long> childrenOf(Collection<Long> parents) {
+            List<Long> result = new ArrayList<>();
+            for (Long parent : new LinkedHashSet<>(parents)) {
+                if (parent == null) continue;
+                int idx = Arrays.binarySearch(parentIds, parent);
+                if (idx < 0) continue;
+                for (int i = childStart[idx]; i < childStart[idx + 1]; i++) {
+                    result.add(childrenByParent[i]);
+                }
+            }
+            return result;
+        }
+    }
+}
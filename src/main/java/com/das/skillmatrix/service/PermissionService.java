@@ -5,15 +5,18 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import com.das.skillmatrix.entity.Department;
+import com.das.skillmatrix.entity.ScopeAccessLevel;
 import com.das.skillmatrix.entity.Team;
 import com.das.skillmatrix.entity.User;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
-import com.das.skillmatrix.repository.CareerRepository;
-import com.das.skillmatrix.repository.DepartmentRepository;
 import com.das.skillmatrix.repository.TeamMemberRepository;
-import com.das.skillmatrix.repository.TeamRepository;
 import com.das.skillmatrix.repository.UserRepository;
+import com.das.skillmatrix.repository.UserScopeClosureRepository;
+import com.das.skillmatrix.security.AuthenticatedUser;
+import com.das.skillmatrix.security.PrincipalContext;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,18 +24,22 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PermissionService {
 
+    private static final List<ScopeAccessLevel> ANY_LEVEL =
+            List.of(ScopeAccessLevel.CAREER, ScopeAccessLevel.DEPARTMENT, ScopeAccessLevel.TEAM);
+    private static final List<ScopeAccessLevel> CAREER_LEVEL = List.of(ScopeAccessLevel.CAREER);
+    private static final List<ScopeAccessLevel> CAREER_OR_DEPARTMENT_LEVEL =
+            List.of(ScopeAccessLevel.CAREER, ScopeAccessLevel.DEPARTMENT);
+
     private final UserRepository userRepository;
-    private final CareerRepository careerRepository;
-    private final DepartmentRepository departmentRepository;
-    private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
+    private final UserScopeClosureRepository scopeClosureRepository;
 
     // ================= CAREER =================
 
     public boolean checkCareerAccess(Long careerId) {
         User user = getCurrentUser();
         if (isAdmin(user)) return true;
-        return careerRepository.existsByCareerIdAndManagers_UserId(careerId, user.getUserId());
+        return scopeClosureRepository.existsCareerScope(user.getUserId(), careerId, CAREER_LEVEL);
     }
 
     // ================= DEPARTMENT =================
@@ -40,56 +47,37 @@ public class PermissionService {
     public boolean checkDepartmentAccess(Long departmentId) {
         User user = getCurrentUser();
         if (isAdmin(user)) return true;
-
-        Long careerId = departmentRepository.findCareerIdByDepartmentId(departmentId).orElse(null);
-        if (careerId == null) return false;
-
-        if (careerRepository.existsByCareerIdAndManagers_UserId(careerId, user.getUserId()))
-            return true;
-
-        return departmentRepository.existsByDepartmentIdAndManagers_UserId(departmentId, user.getUserId());
+        return scopeClosureRepository.existsDepartmentScope(user.getUserId(), departmentId, CAREER_OR_DEPARTMENT_LEVEL);
     }
 
     public boolean canManageDepartment(Long departmentId) {
         User user = getCurrentUser();
         if (isAdmin(user)) return true;
-
-        Long careerId = departmentRepository.findCareerIdByDepartmentId(departmentId).orElse(null);
-        if (careerId == null) return false;
-
-        return careerRepository.existsByCareerIdAndManagers_UserId(careerId, user.getUserId());
+        return scopeClosureRepository.existsDepartmentScope(user.getUserId(), departmentId, CAREER_LEVEL);
     }
 
     public boolean canViewDepartmentList(Long careerId) {
         User user = getCurrentUser();
         if (isAdmin(user)) return true;
-
-        if (careerRepository.existsByCareerIdAndManagers_UserId(careerId, user.getUserId()))
-            return true;
-
-        return departmentRepository.existsByCareer_CareerIdAndManagers_UserId(careerId, user.getUserId());
+        return scopeClosureRepository.existsAnyScopeInCareer(user.getUserId(), careerId, CAREER_OR_DEPARTMENT_LEVEL);
     }
 
     public boolean canViewDepartmentDetail(Long departmentId) {
         User user = getCurrentUser();
         if (isAdmin(user)) return true;
-
-        Long careerId = departmentRepository.findCareerIdByDepartmentId(departmentId).orElse(null);
-        if (careerId == null) return false;
-
-        return canViewDepartmentList(careerId);
+        return scopeClosureRepository.existsAnyScopeInCareerOfDepartment(
+                user.getUserId(), departmentId, CAREER_OR_DEPARTMENT_LEVEL);
     }
 
     public boolean canMoveDepartment(Long sourceCareerId, Long targetCareerId) {
         User user = getCurrentUser();
         if (isAdmin(user)) return true;
-        return checkCareerAccess(sourceCareerId) && checkCareerAccess(targetCareerId);
+        Set<Long> careerIds = Set.of(sourceCareerId, targetCareerId);
+        return scopeClosureRepository.countCareerScopes(user.getUserId(), careerIds, CAREER_LEVEL) == careerIds.size();
     }
 
     public boolean canManageDepartment_byCareerId(Long careerId) {
-        User user = getCurrentUser();
-        if (isAdmin(user)) return true;
-        return careerRepository.existsByCareerIdAndManagers_UserId(careerId, user.getUserId());
+        return checkCareerAccess(careerId);
     }
 
     public boolean isManagerDepartmentOnly() {
@@ -104,50 +92,29 @@ public class PermissionService {
     public boolean checkTeamAccess(Long teamId) {
         User user = getCurrentUser();
         if (isAdmin(user)) return true;
-
-        Long careerId = teamRepository.findCareerIdByTeamId(teamId).orElse(null);
-        if (careerId == null) return false;
-
-        if (careerRepository.existsByCareerIdAndManagers_UserId(careerId, user.getUserId()))
-            return true;
-
-        Long departmentId = teamRepository.findDepartmentIdByTeamId(teamId).orElse(null);
-
-        if (departmentId != null &&
-            departmentRepository.existsByDepartmentIdAndManagers_UserId(departmentId, user.getUserId()))
-            return true;
-
-        return teamRepository.existsByTeamIdAndManagers_UserId(teamId, user.getUserId());
+        return scopeClosureRepository.existsTeamScope(user.getUserId(), teamId, ANY_LEVEL);
     }
 
     public boolean checkTeamMemberAccess(Long teamMemberId) {
-        Long teamId = teamMemberRepository.findById(teamMemberId).map(tm -> tm.getTeam().getTeamId()).orElse(null);
+        User user = getCurrentUser();
+        if (isAdmin(user)) return true;
+        Long teamId = teamMemberRepository.findTeamIdById(teamMemberId).orElse(null);
         if (teamId == null) return true;
-        return checkTeamAccess(teamId);
+        return scopeClosureRepository.existsTeamScope(user.getUserId(), teamId, ANY_LEVEL);
     }
 
     public boolean checkMultiTeamAccess(List<Long> teamIds) {
         if (teamIds == null || teamIds.isEmpty()) return true;
-        for (Long teamId : teamIds) {
-            if (!checkTeamAccess(teamId)) return false;
-        }
-        return true;
+        User user = getCurrentUser();
+        if (isAdmin(user)) return true;
+        Set<Long> distinctTeamIds = new HashSet<>(teamIds);
+        return scopeClosureRepository.countTeamScopes(user.getUserId(), distinctTeamIds) == distinctTeamIds.size();
     }
 
     public boolean canManageTeam(Long teamId) {
         User user = getCurrentUser();
         if (isAdmin(user)) return true;
-
-        Long careerId = teamRepository.findCareerIdByTeamId(teamId).orElse(null);
-        if (careerId == null) return false;
-
-        if (careerRepository.existsByCareerIdAndManagers_UserId(careerId, user.getUserId()))
-            return true;
-
-        Long departmentId = teamRepository.findDepartmentIdByTeamId(teamId).orElse(null);
-
-        return departmentId != null &&
-               departmentRepository.existsByDepartmentIdAndManagers_UserId(departmentId, user.getUserId());
+        return scopeClosureRepository.existsTeamScope(user.getUserId(), teamId, CAREER_OR_DEPARTMENT_LEVEL);
     }
 
     // ================= MASTER EXTRA METHODS =================
@@ -163,18 +130,9 @@ public class PermissionService {
     public boolean canMoveTeamDepartment(Long currentDepartmentId, Long targetDepartmentId) {
         User user = getCurrentUser();
         if (isAdmin(user)) return true;
-
-        if (!user.getManagedCareers().isEmpty()) {
-            return checkDepartmentAccess(currentDepartmentId)
-                && checkDepartmentAccess(targetDepartmentId);
-        }
-
-        if (!user.getManagedDepartments().isEmpty()) {
-            return departmentRepository.existsByDepartmentIdAndManagers_UserId(currentDepartmentId, user.getUserId())
-                && departmentRepository.existsByDepartmentIdAndManagers_UserId(targetDepartmentId, user.getUserId());
-        }
-
-        return false;
+        Set<Long> departmentIds = Set.of(currentDepartmentId, targetDepartmentId);
+        return scopeClosureRepository.countDepartmentScopes(
+                user.getUserId(), departmentIds, CAREER_OR_DEPARTMENT_LEVEL) == departmentIds.size();
     }
 
     public boolean isTeamManagerOnly(User user) {
@@ -185,34 +143,15 @@ public class PermissionService {
     }
 
     public boolean checkTeamViewAccess(Long teamId) {
-        User user = getCurrentUser();
-        if (isAdmin(user)) return true;
-
-        Long careerId = teamRepository.findCareerIdByTeamId(teamId).orElse(null);
-        if (careerId == null) return false;
-
-        if (careerRepository.existsByCareerIdAndManagers_UserId(careerId, user.getUserId()))
-            return true;
-
-        Long departmentId = teamRepository.findDepartmentIdByTeamId(teamId).orElse(null);
-
-        if (departmentId == null) return false;
-
-        for (Department dept : user.getManagedDepartments()) {
-            if (dept.getDepartmentId().equals(departmentId)) return true;
-        }
-
-        for (Team team : user.getManagedTeams()) {
-            if (team.getTeamId().equals(teamId)) return true;
-        }
-
-        return false;
+        return checkTeamAccess(teamId);
     }
 
     // ================= COMMON =================
 
     public User getCurrentUser() {
-        org.springframework.security.core.Authentication auth = org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
+        AuthenticatedUser principal = PrincipalContext.current();
+        if (principal != null) return principal.getAccount();
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated()) return null;
         return userRepository.findUserByEmail(auth.getName());
     }
@@ -0,0 +1,137 @@
+package com.das.skillmatrix.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.das.skillmatrix.repository.UserScopeClosureRepository;
+import com.das.skillmatrix.security.AuthenticationCache;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Keeps user_scope_closure in sync with the manager join tables and the
+// Career -> Department -> Team hierarchy. Every refresh deletes the affected slice
+// and re-derives it with a single INSERT ... SELECT, inside the caller's transaction.
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ScopeClosureService {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO user_scope_closure (user_id, career_id, department_id, team_id, access_level) ";
+
+    private record ClosureSelect(String sql, boolean joinsDepartment, boolean joinsTeam) {
+    }
+
+    private static final List<ClosureSelect> SELECTS = List.of(
+            new ClosureSelect("SELECT mgr.user_id, mgr.career_id, NULL, NULL, 'CAREER' "
+                    + "FROM career_managers mgr", false, false),
+            new ClosureSelect("SELECT mgr.user_id, mgr.career_id, d.department_id, NULL, 'CAREER' "
+                    + "FROM career_managers mgr JOIN departments d ON d.career_id = mgr.career_id", true, false),
+            new ClosureSelect("SELECT mgr.user_id, mgr.career_id, d.department_id, t.team_id, 'CAREER' "
+                    + "FROM career_managers mgr JOIN departments d ON d.career_id = mgr.career_id "
+                    + "JOIN teams t ON t.department_id = d.department_id", true, true),
+            new ClosureSelect("SELECT mgr.user_id, d.career_id, d.department_id, NULL, 'DEPARTMENT' "
+                    + "FROM department_managers mgr JOIN departments d ON d.department_id = mgr.department_id", true, false),
+            new ClosureSelect("SELECT mgr.user_id, d.career_id, d.department_id, t.team_id, 'DEPARTMENT' "
+                    + "FROM department_managers mgr JOIN departments d ON d.department_id = mgr.department_id "
+                    + "JOIN teams t ON t.department_id = d.department_id", true, true),
+            new ClosureSelect("SELECT mgr.user_id, d.career_id, d.department_id, t.team_id, 'TEAM' "
+                    + "FROM team_managers mgr JOIN teams t ON t.team_id = mgr.team_id "
+                    + "JOIN departments d ON d.department_id = t.department_id", true, true));
+
+    private final UserScopeClosureRepository closureRepository;
+    private final AuthenticationCache authenticationCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Manager added/removed or user scope reassigned
+    public void refreshUser(Long userId) {
+        entityManager.flush();
+        closureRepository.deleteByUser(userId);
+        insert("mgr.user_id = :id", userId, s -> true);
+        authenticationCache.evictUser(userId);
+    }
+
+    // Newly inserted users: nothing to delete, one INSERT ... SELECT for all of them
+    public void addUsers(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        entityManager.flush();
+        insert("mgr.user_id IN (:id)", userIds, s -> true);
+    }
+
+    public void removeUser(Long userId) {
+        entityManager.flush();
+        closureRepository.deleteByUser(userId);
+        authenticationCache.evictUser(userId);
+    }
+
+    // Team created or moved to another department
+    public void refreshTeam(Long teamId) {
+        entityManager.flush();
+        closureRepository.deleteByTeams(List.of(teamId));
+        insert("t.team_id = :id", teamId, ClosureSelect::joinsTeam);
+    }
+
+    // Department created or moved to another career (covers all of its teams)
+    public void refreshDepartment(Long departmentId) {
+        entityManager.flush();
+        closureRepository.deleteByDepartments(List.of(departmentId));
+        insert("d.department_id = :id", departmentId, ClosureSelect::joinsDepartment);
+    }
+
+    public void removeTeams(Collection<Long> teamIds) {
+        if (teamIds.isEmpty()) return;
+        closureRepository.deleteByTeams(teamIds);
+    }
+
+    public void removeDepartments(Collection<Long> departmentIds) {
+        if (departmentIds.isEmpty()) return;
+        closureRepository.deleteByDepartments(departmentIds);
+    }
+
+    public void removeCareers(Collection<Long> careerIds) {
+        if (careerIds.isEmpty()) return;
+        closureRepository.deleteByCareers(careerIds);
+    }
+
+    public void rebuildAll() {
+        entityManager.flush();
+        closureRepository.deleteAllInBatch();
+        int rows = insert(null, null, s -> true);
+        log.info("Rebuilt user_scope_closure with {} rows", rows);
+    }
+
+    // Backfill for databases that predate the closure table
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (closureRepository.count() == 0) {
+            rebuildAll();
+        }
+    }
+
+    private int insert(String predicate, Object id, Predicate<ClosureSelect> applies) {
+        String where = predicate != null ? " WHERE " + predicate : "";
+        String sql = SELECTS.stream()
+                .filter(applies)
+                .map(s -> s.sql() + where)
+                .collect(Collectors.joining(" UNION ALL ", INSERT_PREFIX, ""));
+        Query query = entityManager.createNativeQuery(sql);
+        if (id != null) {
+            query.setParameter("id", id);
+        }
+        return query.executeUpdate();
+    }
+}
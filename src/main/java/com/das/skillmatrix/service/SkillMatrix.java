@@ -0,0 +1,207 @@
+package com.das.skillmatrix.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.das.skillmatrix.dto.response.SkillMatrixCell;
+import com.das.skillmatrix.dto.response.SkillMatrixColumn;
+import com.das.skillmatrix.dto.response.SkillMatrixResponse;
+import com.das.skillmatrix.dto.response.SkillMatrixRow;
+import com.das.skillmatrix.export.RowWriter;
+
+// Columnar users × skills grid. Rows and columns are fixed up front (display order);
+// cells live in flat byte arrays indexed row * columns + column, 0 meaning "none".
+// Ids are resolved to rows/columns by binary search over sorted copies, so loading
+// evaluations never touches an entity or a boxed key.
+final class SkillMatrix {
+
+    private final long[] userIds;
+    private final String[] userNames;
+    private final String[] userEmails;
+    private final long[] skillIds;
+    private final String[] skillNames;
+
+    private final long[] sortedUserIds;
+    private final int[] rowOfSorted;
+    private final long[] sortedSkillIds;
+    private final int[] columnOfSorted;
+
+    private final byte[] managerScores;
+    private final byte[] selfScores;
+    private final byte[] requiredLevels;
+
+    SkillMatrix(long[] userIds, String[] userNames, String[] userEmails, long[] skillIds, String[] skillNames) {
+        this.userIds = userIds;
+        this.userNames = userNames;
+        this.userEmails = userEmails;
+        this.skillIds = skillIds;
+        this.skillNames = skillNames;
+        this.sortedUserIds = sorted(userIds);
+        this.rowOfSorted = positions(userIds, sortedUserIds);
+        this.sortedSkillIds = sorted(skillIds);
+        this.columnOfSorted = positions(skillIds, sortedSkillIds);
+        int cells = userIds.length * skillIds.length;
+        this.managerScores = new byte[cells];
+        this.selfScores = new byte[cells];
+        this.requiredLevels = new byte[cells];
+    }
+
+    int rows() {
+        return userIds.length;
+    }
+
+    int columns() {
+        return skillIds.length;
+    }
+
+    // Evaluations must be fed oldest first; a later one replaces the earlier score
+    void evaluation(long userId, long skillId, boolean manager, int score) {
+        int cell = cell(userId, skillId);
+        if (cell < 0 || score < 1 || score > 5) return;
+        (manager ? managerScores : selfScores)[cell] = (byte) score;
+    }
+
+    // A user holding several positions needs the highest level any of them requires
+    void required(long userId, long skillId, int level) {
+        int cell = cell(userId, skillId);
+        if (cell < 0) return;
+        if (level > requiredLevels[cell]) requiredLevels[cell] = (byte) level;
+    }
+
+    int managerScore(int row, int column) {
+        return managerScores[row * skillIds.length + column];
+    }
+
+    int selfScore(int row, int column) {
+        return selfScores[row * skillIds.length + column];
+    }
+
+    int requiredLevel(int row, int column) {
+        return requiredLevels[row * skillIds.length + column];
+    }
+
+    // Shortfall against the required level, judged on the manager score when there is one
+    int gap(int row, int column) {
+        int cell = row * skillIds.length + column;
+        int required = requiredLevels[cell];
+        if (required == 0) return 0;
+        int score = managerScores[cell] != 0 ? managerScores[cell] : selfScores[cell];
+        return Math.max(0, required - score);
+    }
+
+    SkillMatrixResponse toResponse(String scopeType, Long scopeId) {
+        int columns = skillIds.length;
+        int[] requiredCount = new int[columns];
+        long[] managerSum = new long[columns];
+        int[] managerCount = new int[columns];
+        long[] selfSum = new long[columns];
+        int[] selfCount = new int[columns];
+
+        List<SkillMatrixRow> rows = new ArrayList<>(userIds.length);
+        for (int r = 0; r < userIds.length; r++) {
+            List<SkillMatrixCell> cells = new ArrayList<>();
+            int required = 0;
+            int missing = 0;
+            int totalGap = 0;
+            int base = r * columns;
+            for (int c = 0; c < columns; c++) {
+                int manager = managerScores[base + c];
+                int self = selfScores[base + c];
+                int level = requiredLevels[base + c];
+                if (manager == 0 && self == 0 && level == 0) continue;
+                Integer gap = null;
+                if (level != 0) {
+                    required++;
+                    requiredCount[c]++;
+                    if (manager == 0 && self == 0) missing++;
+                    gap = gap(r, c);
+                    totalGap += gap;
+                }
+                if (manager != 0) {
+                    managerSum[c] += manager;
+                    managerCount[c]++;
+                }
+                if (self != 0) {
+                    selfSum[c] += self;
+                    selfCount[c]++;
+                }
+                cells.add(new SkillMatrixCell(c, manager != 0 ? manager : null, self != 0 ? self : null,
+                        level != 0 ? level : null, gap));
+            }
+            rows.add(new SkillMatrixRow(userIds[r], userNames[r], userEmails[r], required, missing, totalGap, cells));
+        }
+
+        List<SkillMatrixColumn> skills = new ArrayList<>(columns);
+        for (int c = 0; c < columns; c++) {
+            skills.add(new SkillMatrixColumn(skillIds[c], skillNames[c], requiredCount[c],
+                    average(managerSum[c], managerCount[c]), average(selfSum[c], selfCount[c])));
+        }
+        return new SkillMatrixResponse(scopeType, scopeId, skills, rows);
+    }
+
+    // One line per user: the score per skill (manager, else self), then the row totals
+    void export(RowWriter writer) throws IOException {
+        int columns = skillIds.length;
+        Object[] header = new Object[columns + 6];
+        header[0] = "User ID";
+        header[1] = "Full name";
+        header[2] = "Email";
+        System.arraycopy(skillNames, 0, header, 3, columns);
+        header[columns + 3] = "Required skills";
+        header[columns + 4] = "Missing";
+        header[columns + 5] = "Total gap";
+        writer.row(header);
+
+        Object[] line = new Object[columns + 6];
+        for (int r = 0; r < userIds.length; r++) {
+            int required = 0;
+            int missing = 0;
+            int totalGap = 0;
+            int base = r * columns;
+            line[0] = userIds[r];
+            line[1] = userNames[r];
+            line[2] = userEmails[r];
+            for (int c = 0; c < columns; c++) {
+                int score = managerScores[base + c] != 0 ? managerScores[base + c] : selfScores[base + c];
+                line[c + 3] = score != 0 ? score : null;
+                if (requiredLevels[base + c] != 0) {
+                    required++;
+                    if (score == 0) missing++;
+                    totalGap += gap(r, c);
+                }
+            }
+            line[columns + 3] = required;
+            line[columns + 4] = missing;
+            line[columns + 5] = totalGap;
+            writer.row(line);
+        }
+    }
+
+    private int cell(long userId, long skillId) {
+        int u = Arrays.binarySearch(sortedUserIds, userId);
+        int s = Arrays.binarySearch(sortedSkillIds, skillId);
+        if (u < 0 || s < 0) return -1;
+        return rowOfSorted[u] * skillIds.length + columnOfSorted[s];
+    }
+
+    private static Double average(long sum, int count) {
+        return count == 0 ? null : Math.round(sum * 100.0 / count) / 100.0;
+    }
+
+    private static long[] sorted(long[] ids) {
+        long[] sorted = ids.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    // For each slot of `sorted`, the index of the same id in `ids` (ids are distinct)
+    private static int[] positions(long[] ids, long[] sorted) {
+        int[] positions = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            positions[Arrays.binarySearch(sorted, ids[i])] = i;
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,196 @@
+package com.das.skillmatrix.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.das.skillmatrix.dto.response.SkillMatrixResponse;
+import com.das.skillmatrix.entity.GeneralStatus;
+import com.das.skillmatrix.entity.PositionSkill;
+import com.das.skillmatrix.repository.CareerRepository;
+import com.das.skillmatrix.repository.DepartmentRepository;
+import com.das.skillmatrix.repository.TeamRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// Skill matrix for a team, department or career: every active user in scope against
+// every active skill their positions require or someone has scored them on. Four
+// streaming JDBC reads (users, skills, requirements, evaluations) fill a columnar
+// SkillMatrix; no entities are loaded.
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class SkillMatrixService {
+
+    // Users in scope: team members plus users whose home department is in scope
+    private static final String TEAM_USERS = """
+            SELECT tm.user_id FROM team_members tm WHERE tm.team_id = :scopeId
+            """;
+    private static final String DEPARTMENT_USERS = """
+            SELECT su.user_id FROM users su WHERE su.department_id = :scopeId
+            UNION
+            SELECT tm.user_id FROM team_members tm JOIN teams t ON t.team_id = tm.team_id
+             WHERE t.department_id = :scopeId
+            """;
+    private static final String CAREER_USERS = """
+            SELECT su.user_id FROM users su JOIN departments d ON d.department_id = su.department_id
+             WHERE d.career_id = :scopeId
+            UNION
+            SELECT tm.user_id FROM team_members tm JOIN teams t ON t.team_id = tm.team_id
+              JOIN departments d ON d.department_id = t.department_id
+             WHERE d.career_id = :scopeId
+            """;
+
+    // Every position a user in scope holds, directly or through a team membership. Both
+    // branches are limited to the scope's users (%1$s), so MySQL reads their rows only
+    // instead of materialising every membership in the org.
+    private static final String USER_POSITIONS = """
+            SELECT up.user_id, up.position_id FROM user_positions up WHERE up.user_id IN (%1$s)
+            UNION
+            SELECT tm.user_id, tm.position_id FROM team_members tm
+             WHERE tm.position_id IS NOT NULL AND tm.user_id IN (%1$s)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TeamRepository teamRepository;
+    private final DepartmentRepository departmentRepository;
+    private final CareerRepository careerRepository;
+
+    // A validated scope whose grid can be loaded later, e.g. by a streaming export
+    record Scope(String type, Long id, String users) {
+    }
+
+    public SkillMatrixResponse teamMatrix(Long teamId) {
+        return build(team(teamId));
+    }
+
+    public SkillMatrixResponse departmentMatrix(Long departmentId) {
+        return build(department(departmentId));
+    }
+
+    public SkillMatrixResponse careerMatrix(Long careerId) {
+        return build(career(careerId));
+    }
+
+    Scope team(Long teamId) {
+        teamRepository.findById(teamId)
+                .filter(t -> t.getStatus() != GeneralStatus.DELETED)
+                .orElseThrow(() -> new IllegalArgumentException("TEAM_NOT_FOUND"));
+        return new Scope("TEAM", teamId, TEAM_USERS);
+    }
+
+    Scope department(Long departmentId) {
+        departmentRepository.findById(departmentId)
+                .filter(d -> d.getStatus() != GeneralStatus.DELETED)
+                .orElseThrow(() -> new IllegalArgumentException("DEPARTMENT_NOT_FOUND"));
+        return new Scope("DEPARTMENT", departmentId, DEPARTMENT_USERS);
+    }
+
+    Scope career(Long careerId) {
+        careerRepository.findById(careerId)
+                .filter(c -> c.getStatus() != GeneralStatus.DELETED)
+                .orElseThrow(() -> new IllegalArgumentException("CAREER_NOT_FOUND"));
+        return new Scope("CAREER", careerId, CAREER_USERS);
+    }
+
+    SkillMatrix grid(Scope scope) {
+        return load(new MapSqlParameterSource("scopeId", scope.id()), scope.users());
+    }
+
+    private SkillMatrixResponse build(Scope scope) {
+        return grid(scope).toResponse(scope.type(), scope.id());
+    }
+
+    private SkillMatrix load(MapSqlParameterSource params, String scopeUsers) {
+        String userInScope = "u.status = 'ACTIVE' AND u.user_id IN (" + scopeUsers + ")";
+        String userPositions = USER_POSITIONS.formatted(scopeUsers);
+        LongColumn userIds = new LongColumn();
+        List<String> userNames = new ArrayList<>();
+        List<String> userEmails = new ArrayList<>();
+        jdbcTemplate.query("""
+                SELECT u.user_id, u.full_name, u.email FROM users u
+                 WHERE %s
+                 ORDER BY u.full_name, u.user_id
+                """.formatted(userInScope), params, rs -> {
+                    userIds.add(rs.getLong(1));
+                    userNames.add(rs.getString(2));
+                    userEmails.add(rs.getString(3));
+                });
+
+        LongColumn skillIds = new LongColumn();
+        List<String> skillNames = new ArrayList<>();
+        if (userIds.size() > 0) {
+            jdbcTemplate.query("""
+                    SELECT s.skill_id, s.name FROM skills s
+                     WHERE s.status = 'ACTIVE'
+                       AND (s.skill_id IN (SELECT ps.skill_id FROM position_skills ps
+                                            JOIN (%2$s) up ON up.position_id = ps.position_id
+                                            JOIN users u ON u.user_id = up.user_id
+                                           WHERE %1$s)
+                            OR s.skill_id IN (SELECT e.skill_id FROM user_skill_evaluations e
+                                               JOIN users u ON u.user_id = e.user_id
+                                              WHERE %1$s))
+                     ORDER BY s.name, s.skill_id
+                    """.formatted(userInScope, userPositions), params, rs -> {
+                        skillIds.add(rs.getLong(1));
+                        skillNames.add(rs.getString(2));
+                    });
+        }
+
+        SkillMatrix matrix = new SkillMatrix(userIds.toArray(), userNames.toArray(String[]::new),
+                userEmails.toArray(String[]::new), skillIds.toArray(), skillNames.toArray(String[]::new));
+        if (matrix.rows() == 0 || matrix.columns() == 0) return matrix;
+
+        jdbcTemplate.query("""
+                SELECT up.user_id, ps.skill_id, ps.required_level
+                  FROM (%2$s) up
+                  JOIN position_skills ps ON ps.position_id = up.position_id
+                  JOIN users u ON u.user_id = up.user_id
+                 WHERE %1$s
+                """.formatted(userInScope, userPositions), params, rs -> {
+                    int level = rs.getInt(3);
+                    matrix.required(rs.getLong(1), rs.getLong(2),
+                            rs.wasNull() ? PositionSkill.DEFAULT_REQUIRED_LEVEL : level);
+                });
+
+        // Oldest first, so the latest evaluation of each type ends up in the grid
+        jdbcTemplate.query("""
+                SELECT e.user_id, e.skill_id, e.evaluation_type, e.score
+                  FROM user_skill_evaluations e
+                  JOIN users u ON u.user_id = e.user_id
+                 WHERE %s
+                 ORDER BY e.created_at, e.evaluation_id
+                """.formatted(userInScope), params, rs -> {
+                    String type = rs.getString(3);
+                    if ("MANAGER".equals(type) || "SELF".equals(type)) {
+                        matrix.evaluation(rs.getLong(1), rs.getLong(2), "MANAGER".equals(type), rs.getInt(4));
+                    }
+                });
+        return matrix;
+    }
+
+    // Growable long[]; avoids boxing every id read from the result set
+    private static final class LongColumn {
+
+        private long[] values = new long[256];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.das.skillmatrix.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.das.skillmatrix.dto.response.SkillRollupResponse;
+import com.das.skillmatrix.entity.ScopeAccessLevel;
+import com.das.skillmatrix.entity.Skill;
+import com.das.skillmatrix.entity.SkillRollup;
+import com.das.skillmatrix.repository.SkillRepository;
+import com.das.skillmatrix.repository.SkillRollupRepository;
+import com.das.skillmatrix.scheduler.JobLock;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+// Keeps skill_rollups in sync with user_skill_evaluations and team membership.
+// A new evaluation is applied as a delta (count, sum and histogram) to every scope the
+// user belongs to; callers serialize evaluations per user so the previous score a delta is
+// taken against is the latest committed one. A membership change, home department change,
+// team move or department move re-derives only the affected scope × skill rows. All of
+// these run inside the caller's transaction, like ScopeClosureService. rebuildAll()
+// recomputes everything in parallel into a shadow table and swaps it in, so readers never
+// see the table half built.
+@Slf4j
+@Service
+@Transactional
+public class SkillRollupService {
+
+    private static final String TABLE = "skill_rollups";
+    private static final String SHADOW_TABLE = "skill_rollups_shadow";
+    private static final String OLD_TABLE = "skill_rollups_old";
+    // Lease held in scheduler_locks while a rebuild runs; incremental changes journal their
+    // scopes while it is held
+    static final String REBUILD_JOB = "skill-rollup-rebuild";
+
+    // User filter applied inside every MEMBERS branch: all members, or the one user a delta
+    // is for (so MySQL reads that user's memberships instead of materialising everyone's)
+    private static final String ALL_USERS = "IS NOT NULL";
+    private static final String ONE_USER = "= :userId";
+
+    // (scope_id, user_id) pairs per level; a user counts once per scope
+    private static final Map<ScopeAccessLevel, String> MEMBERS = new EnumMap<>(Map.of(
+            ScopeAccessLevel.TEAM, """
+                    SELECT tm.team_id AS scope_id, tm.user_id FROM team_members tm WHERE tm.user_id %1$s
+                    """,
+            ScopeAccessLevel.DEPARTMENT, """
+                    SELECT u.department_id AS scope_id, u.user_id FROM users u
+                     WHERE u.department_id IS NOT NULL AND u.user_id %1$s
+                    UNION
+                    SELECT t.department_id, tm.user_id FROM team_members tm JOIN teams t ON t.team_id = tm.team_id
+                     WHERE tm.user_id %1$s
+                    """,
+            ScopeAccessLevel.CAREER, """
+                    SELECT d.career_id AS scope_id, u.user_id FROM users u
+                      JOIN departments d ON d.department_id = u.department_id
+                     WHERE u.user_id %1$s
+                    UNION
+                    SELECT d.career_id, tm.user_id FROM team_members tm JOIN teams t ON t.team_id = tm.team_id
+                      JOIN departments d ON d.department_id = t.department_id
+                     WHERE tm.user_id %1$s
+                    """));
+
+    // (scope_type, scope_id, user_id) for every scope of :userId
+    private static final String USER_SCOPES = MEMBERS.keySet().stream()
+            .map(level -> "SELECT '" + level + "' AS scope_type, lm.scope_id, lm.user_id FROM ("
+                    + MEMBERS.get(level).formatted(ONE_USER) + ") lm")
+            .collect(Collectors.joining(" UNION ALL "));
+
+    // Latest score per (user, skill, type)
+    private static final String LATEST = """
+            SELECT e.user_id, e.skill_id, e.evaluation_type, e.score FROM user_skill_evaluations e
+             WHERE e.evaluation_type IN ('MANAGER', 'SELF')
+               AND NOT EXISTS (SELECT 1 FROM user_skill_evaluations n
+                                WHERE n.user_id = e.user_id AND n.skill_id = e.skill_id
+                                  AND n.evaluation_type = e.evaluation_type
+                                  AND (n.created_at > e.created_at
+                                       OR (n.created_at = e.created_at AND n.evaluation_id > e.evaluation_id)))
+            """;
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO %s (scope_type, scope_id, skill_id, evaluation_type, score_count, score_sum,
+                                       score1, score2, score3, score4, score5)
+            """;
+
+    private static final String AGGREGATE = """
+            SELECT '%s', m.scope_id, l.skill_id, l.evaluation_type, COUNT(*), SUM(l.score),
+                   SUM(CASE WHEN l.score = 1 THEN 1 ELSE 0 END), SUM(CASE WHEN l.score = 2 THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN l.score = 3 THEN 1 ELSE 0 END), SUM(CASE WHEN l.score = 4 THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN l.score = 5 THEN 1 ELSE 0 END)
+              FROM (%s) m JOIN (%s) l ON l.user_id = m.user_id
+             WHERE %s
+             GROUP BY m.scope_id, l.skill_id, l.evaluation_type
+            """;
+
+    private static final String APPLY_DELTA = """
+            SELECT m.scope_type, m.scope_id, :skillId, :type, :count, :sum, :s1, :s2, :s3, :s4, :s5
+              FROM (%s) m
+            ON DUPLICATE KEY UPDATE score_count = score_count + VALUES(score_count),
+                                    score_sum = score_sum + VALUES(score_sum),
+                                    score1 = score1 + VALUES(score1), score2 = score2 + VALUES(score2),
+                                    score3 = score3 + VALUES(score3), score4 = score4 + VALUES(score4),
+                                    score5 = score5 + VALUES(score5)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SkillRollupRepository rollupRepository;
+    private final SkillRepository skillRepository;
+    private final TransactionTemplate rebuildTemplate;
+    private final JobLock jobLock;
+    private final int rebuildThreads;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public SkillRollupService(NamedParameterJdbcTemplate jdbcTemplate,
+                              SkillRollupRepository rollupRepository,
+                              SkillRepository skillRepository,
+                              PlatformTransactionManager transactionManager,
+                              JobLock jobLock,
+                              @Value("${skill-rollup.rebuild-threads:4}") int rebuildThreads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rollupRepository = rollupRepository;
+        this.skillRepository = skillRepository;
+        this.rebuildTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.jobLock = jobLock;
+        this.rebuildThreads = Math.max(1, rebuildThreads);
+    }
+
+    // A new latest score for (user, skill, type); previousScore is the one it replaces, if any
+    public void applyEvaluation(Long userId, Long skillId, String evaluationType, Integer previousScore, int score) {
+        if (previousScore != null && previousScore == score) return;
+        entityManager.flush();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("skillId", skillId)
+                .addValue("type", evaluationType)
+                .addValue("count", previousScore == null ? 1 : 0)
+                .addValue("sum", score - (previousScore == null ? 0 : previousScore));
+        for (int s = 1; s <= 5; s++) {
+            int delta = (score == s ? 1 : 0) - (previousScore != null && previousScore == s ? 1 : 0);
+            params.addValue("s" + s, delta);
+        }
+        if (rebuilding()) {
+            jdbcTemplate.update("INSERT IGNORE INTO skill_rollup_dirty_scopes (scope_type, scope_id)"
+                    + " SELECT m.scope_type, m.scope_id FROM (" + USER_SCOPES + ") m", params);
+        }
+        jdbcTemplate.update(INSERT_PREFIX.formatted(TABLE) + APPLY_DELTA.formatted(USER_SCOPES), params);
+    }
+
+    // User added to or removed from teams: their teams, departments and careers, for their skills
+    public void refreshMembership(Long userId, Collection<Long> teamIds) {
+        if (teamIds.isEmpty()) return;
+        entityManager.flush();
+        Map<ScopeAccessLevel, Set<Long>> scopes = new EnumMap<>(ScopeAccessLevel.class);
+        scopes.put(ScopeAccessLevel.TEAM, new LinkedHashSet<>(teamIds));
+        jdbcTemplate.query("""
+                SELECT t.department_id, d.career_id FROM teams t
+                  JOIN departments d ON d.department_id = t.department_id
+                 WHERE t.team_id IN (:teamIds)
+                """, new MapSqlParameterSource("teamIds", teamIds), rs -> {
+                    scopes.computeIfAbsent(ScopeAccessLevel.DEPARTMENT, k -> new LinkedHashSet<>()).add(rs.getLong(1));
+                    scopes.computeIfAbsent(ScopeAccessLevel.CAREER, k -> new LinkedHashSet<>()).add(rs.getLong(2));
+                });
+        refresh(scopes, List.of(userId));
+    }
+
+    // Team moved from oldDepartmentId to its current department: both departments and careers
+    public void refreshTeamMove(Long teamId, Long oldDepartmentId) {
+        entityManager.flush();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("teamId", teamId)
+                .addValue("oldDepartmentId", oldDepartmentId);
+        Map<ScopeAccessLevel, Set<Long>> scopes = new EnumMap<>(ScopeAccessLevel.class);
+        jdbcTemplate.query("""
+                SELECT d.department_id, d.career_id FROM departments d
+                 WHERE d.department_id = :oldDepartmentId
+                    OR d.department_id = (SELECT t.department_id FROM teams t WHERE t.team_id = :teamId)
+                """, params, rs -> {
+                    scopes.computeIfAbsent(ScopeAccessLevel.DEPARTMENT, k -> new LinkedHashSet<>()).add(rs.getLong(1));
+                    scopes.computeIfAbsent(ScopeAccessLevel.CAREER, k -> new LinkedHashSet<>()).add(rs.getLong(2));
+                });
+        List<Long> members = jdbcTemplate.queryForList(
+                "SELECT DISTINCT tm.user_id FROM team_members tm WHERE tm.team_id = :teamId", params, Long.class);
+        refresh(scopes, members);
+    }
+
+    // User's home department changed, or a scope change added them to a team: every team,
+    // department and career they are in now, plus the department (and career) they left
+    public void refreshUser(Long userId, Long oldDepartmentId) {
+        entityManager.flush();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("oldDepartmentId", oldDepartmentId);
+        Map<ScopeAccessLevel, Set<Long>> scopes = new EnumMap<>(ScopeAccessLevel.class);
+        List<Long> teamIds = jdbcTemplate.queryForList(
+                "SELECT tm.team_id FROM team_members tm WHERE tm.user_id = :userId", params, Long.class);
+        if (!teamIds.isEmpty()) {
+            scopes.put(ScopeAccessLevel.TEAM, new LinkedHashSet<>(teamIds));
+        }
+        jdbcTemplate.query("""
+                SELECT d.department_id, d.career_id FROM departments d
+                 WHERE d.department_id = :oldDepartmentId
+                    OR d.department_id = (SELECT u.department_id FROM users u WHERE u.user_id = :userId)
+                    OR d.department_id IN (SELECT t.department_id FROM team_members tm
+                                             JOIN teams t ON t.team_id = tm.team_id
+                                            WHERE tm.user_id = :userId)
+                """, params, rs -> {
+                    scopes.computeIfAbsent(ScopeAccessLevel.DEPARTMENT, k -> new LinkedHashSet<>()).add(rs.getLong(1));
+                    scopes.computeIfAbsent(ScopeAccessLevel.CAREER, k -> new LinkedHashSet<>()).add(rs.getLong(2));
+                });
+        refresh(scopes, List.of(userId));
+    }
+
+    // Department moved from oldCareerId to its current career: both careers, for everyone
+    // counted in the department
+    public void refreshDepartmentMove(Long departmentId, Long oldCareerId) {
+        entityManager.flush();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("departmentId", departmentId)
+                .addValue("oldCareerId", oldCareerId);
+        Set<Long> careers = new LinkedHashSet<>(jdbcTemplate.queryForList(
+                "SELECT d.career_id FROM departments d WHERE d.department_id = :departmentId", params, Long.class));
+        careers.add(oldCareerId);
+        List<Long> members = jdbcTemplate.queryForList("""
+                SELECT u.user_id FROM users u WHERE u.department_id = :departmentId
+                UNION
+                SELECT tm.user_id FROM team_members tm JOIN teams t ON t.team_id = tm.team_id
+                 WHERE t.department_id = :departmentId
+                """, params, Long.class);
+        Map<ScopeAccessLevel, Set<Long>> scopes = new EnumMap<>(ScopeAccessLevel.class);
+        scopes.put(ScopeAccessLevel.CAREER, careers);
+        refresh(scopes, members);
+    }
+
+    // Inserts every level into a shadow table, one statement per level and partition of scope
+    // ids, in parallel, then swaps it in with one atomic RENAME: readers keep the old rows
+    // until the new table is complete. Changes made meanwhile still land in the live table and
+    // journal their scopes (the shadow may have been read before them); once the lease is
+    // released those scopes are re-derived in the table that was swapped in.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildAll() {
+        if (!jobLock.run(REBUILD_JOB, Duration.ZERO, this::buildAndSwap)) {
+            log.info("Skipping skill_rollups rebuild: already running on another node");
+            return;
+        }
+        int dirty = rederiveDirtyScopes();
+        if (dirty > 0) {
+            log.info("Re-derived {} scopes changed during the skill_rollups rebuild", dirty);
+        }
+    }
+
+    private int buildAndSwap() {
+        jdbcTemplate.update("DROP TABLE IF EXISTS " + SHADOW_TABLE, Map.of());
+        jdbcTemplate.update("CREATE TABLE " + SHADOW_TABLE + " LIKE " + TABLE, Map.of());
+        int rows = 0;
+        ExecutorService pool = Executors.newFixedThreadPool(rebuildThreads);
+        try {
+            List<Future<Integer>> parts = new ArrayList<>();
+            for (ScopeAccessLevel level : MEMBERS.keySet()) {
+                for (int part = 0; part < rebuildThreads; part++) {
+                    MapSqlParameterSource params = new MapSqlParameterSource()
+                            .addValue("parts", rebuildThreads)
+                            .addValue("part", part);
+                    String sql = INSERT_PREFIX.formatted(SHADOW_TABLE)
+                            + aggregate(level, "MOD(m.scope_id, :parts) = :part");
+                    parts.add(pool.submit(() -> jdbcTemplate.update(sql, params)));
+                }
+            }
+            for (Future<Integer> part : parts) {
+                rows += part.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Skill rollup rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Skill rollup rebuild failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        jdbcTemplate.update("DROP TABLE IF EXISTS " + OLD_TABLE, Map.of());
+        jdbcTemplate.update("RENAME TABLE " + TABLE + " TO " + OLD_TABLE + ", " + SHADOW_TABLE + " TO " + TABLE,
+                Map.of());
+        jdbcTemplate.update("DROP TABLE " + OLD_TABLE, Map.of());
+        return rows;
+    }
+
+    private int rederiveDirtyScopes() {
+        return rebuildTemplate.execute(status -> {
+            Map<ScopeAccessLevel, Set<Long>> scopes = new EnumMap<>(ScopeAccessLevel.class);
+            jdbcTemplate.query("SELECT scope_type, scope_id FROM skill_rollup_dirty_scopes", Map.of(), rs -> {
+                scopes.computeIfAbsent(ScopeAccessLevel.valueOf(rs.getString(1)), k -> new LinkedHashSet<>())
+                        .add(rs.getLong(2));
+            });
+            if (scopes.isEmpty()) return 0;
+            scopes.forEach((level, scopeIds) -> rederive(level, scopeIds, null));
+            jdbcTemplate.update("DELETE FROM skill_rollup_dirty_scopes", Map.of());
+            return scopes.values().stream().mapToInt(Set::size).sum();
+        });
+    }
+
+    // Backfill for databases that predate the rollup table
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillIfEmpty() {
+        if (rollupRepository.count() == 0) {
+            rebuildAll();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<SkillRollupResponse> findByScope(ScopeAccessLevel scopeType, Long scopeId) {
+        List<SkillRollup> rollups = rollupRepository
+                .findByScopeTypeAndScopeIdOrderBySkillIdAscEvaluationTypeAsc(scopeType, scopeId);
+        Map<Long, String> names = skillRepository
+                .findAllById(rollups.stream().map(SkillRollup::getSkillId).distinct().toList()).stream()
+                .collect(Collectors.toMap(Skill::getSkillId, Skill::getName));
+        return rollups.stream()
+                .map(r -> new SkillRollupResponse(r.getSkillId(), names.get(r.getSkillId()), r.getEvaluationType(),
+                        r.getScoreCount(), r.getAverage(),
+                        List.of(r.getScore1(), r.getScore2(), r.getScore3(), r.getScore4(), r.getScore5())))
+                .toList();
+    }
+
+    private void refresh(Map<ScopeAccessLevel, Set<Long>> scopes, Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        List<Long> skillIds = jdbcTemplate.queryForList(
+                "SELECT DISTINCT e.skill_id FROM user_skill_evaluations e WHERE e.user_id IN (:userIds)",
+                new MapSqlParameterSource("userIds", userIds), Long.class);
+        if (skillIds.isEmpty()) return;
+        if (rebuilding()) {
+            journal(scopes);
+        }
+        scopes.forEach((level, scopeIds) -> rederive(level, scopeIds, skillIds));
+    }
+
+    // Recomputes the rows of the given scopes, for the given skills or (null) all of them
+    private void rederive(ScopeAccessLevel level, Set<Long> scopeIds, List<Long> skillIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("scopeType", level.name())
+                .addValue("scopeIds", scopeIds)
+                .addValue("skillIds", skillIds);
+        jdbcTemplate.update("""
+                DELETE FROM skill_rollups
+                 WHERE scope_type = :scopeType AND scope_id IN (:scopeIds)
+                """ + (skillIds != null ? "   AND skill_id IN (:skillIds)" : ""), params);
+        jdbcTemplate.update(INSERT_PREFIX.formatted(TABLE) + aggregate(level, "m.scope_id IN (:scopeIds)"
+                + (skillIds != null ? " AND l.skill_id IN (:skillIds)" : "")), params);
+    }
+
+    // Locking read of the rebuild lease: taking or releasing it waits for this transaction, so
+    // a change either commits before a rebuild reads its data or is journaled for it
+    private boolean rebuilding() {
+        return !jdbcTemplate.queryForList("""
+                SELECT 1 FROM scheduler_locks WHERE name = :name AND locked_until > :now FOR SHARE
+                """, Map.of("name", REBUILD_JOB, "now", LocalDateTime.now()), Integer.class).isEmpty();
+    }
+
+    private void journal(Map<ScopeAccessLevel, Set<Long>> scopes) {
+        List<MapSqlParameterSource> rows = new ArrayList<>();
+        scopes.forEach((level, scopeIds) -> scopeIds.forEach(scopeId -> rows.add(new MapSqlParameterSource()
+                .addValue("scopeType", level.name())
+                .addValue("scopeId", scopeId))));
+        jdbcTemplate.batchUpdate("""
+                INSERT IGNORE INTO skill_rollup_dirty_scopes (scope_type, scope_id) VALUES (:scopeType, :scopeId)
+                """, rows.toArray(MapSqlParameterSource[]::new));
+    }
+
+    private static String aggregate(ScopeAccessLevel level, String where) {
+        return AGGREGATE.formatted(level.name(), MEMBERS.get(level).formatted(ALL_USERS), LATEST, where);
+    }
+}
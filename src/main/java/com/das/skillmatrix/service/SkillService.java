@@ -5,9 +5,13 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import com.das.skillmatrix.dto.request.CursorPageRequest;
 import com.das.skillmatrix.dto.request.SkillRequest;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
 import com.das.skillmatrix.dto.response.PageResponse;
 import com.das.skillmatrix.dto.response.SkillResponse;
 import com.das.skillmatrix.entity.Skill;
@@ -16,6 +20,7 @@ import com.das.skillmatrix.exception.ResourceNotFoundException;
 import com.das.skillmatrix.repository.PositionSkillRepository;
 import com.das.skillmatrix.repository.SkillRepository;
 import com.das.skillmatrix.repository.UserSkillRepository;
+import com.das.skillmatrix.repository.specification.KeysetSpecification;
 
 import jakarta.transaction.Transactional;
 
@@ -102,6 +107,11 @@ public class SkillService {
                 skills.hasPrevious());
     }
 
+    public CursorPageResponse<SkillResponse> listSkillsByCursor(CursorPageRequest page, Sort sort) {
+        Specification<Skill> spec = (root, query, cb) -> root.get("status").in(SkillStatus.ACTIVE, SkillStatus.INACTIVE);
+        return KeysetSpecification.page(skillRepository, spec, sort, "skillId", page, this::toSkillResponse);
+    }
+
     public SkillResponse getSkillById(Long id) {
         Skill skill = skillRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("SKILL_NOT_FOUND"));
@@ -6,13 +6,17 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.das.skillmatrix.annotation.LogActivity;
 import com.das.skillmatrix.dto.request.AddMemberByTeamRequest;
 import com.das.skillmatrix.dto.request.AddMemberByUserRequest;
+import com.das.skillmatrix.dto.request.CursorPageRequest;
 import com.das.skillmatrix.dto.request.EditMemberRequest;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
 import com.das.skillmatrix.dto.response.PageResponse;
 import com.das.skillmatrix.dto.response.TeamMemberResponse;
 import com.das.skillmatrix.entity.GeneralStatus;
@@ -24,6 +28,7 @@ import com.das.skillmatrix.repository.PositionRepository;
 import com.das.skillmatrix.repository.TeamMemberRepository;
 import com.das.skillmatrix.repository.TeamRepository;
 import com.das.skillmatrix.repository.UserRepository;
+import com.das.skillmatrix.repository.specification.KeysetSpecification;
 
 import lombok.RequiredArgsConstructor;
 
@@ -37,8 +42,11 @@ public class TeamMemberService {
     private final UserRepository userRepository;
     private final PositionRepository positionRepository;
     private final BusinessChangeLogService businessChangeLogService;
+    private final UserSearchIndexService userSearchIndexService;
+    private final SkillRollupService skillRollupService;
 
-    @LogActivity(action = "ADD_TEAM_MEMBER_BY_USER", entityType = "TEAM_MEMBER")
+    // One call creates several team members, so the entry is keyed by the user they belong to
+    @LogActivity(action = "ADD_TEAM_MEMBER_BY_USER", entityType = "USER", entityId = "req.userId")
     public List<TeamMemberResponse> addByUser(AddMemberByUserRequest req) {
         User user = getActiveUser(req.getUserId());
         List<Long> teamIds = req.getAssignments().stream().map(AddMemberByUserRequest.Assignment::getTeamId).toList();
@@ -62,10 +70,12 @@ public class TeamMemberService {
             membersToSave.add(member);
         }
         teamMemberRepository.saveAll(membersToSave);
+        userSearchIndexService.refreshUser(user.getUserId());
+        skillRollupService.refreshMembership(user.getUserId(), teamIds);
         return membersToSave.stream().map(this::toResponse).toList();
     }
 
-    @LogActivity(action = "ADD_TEAM_MEMBER_BY_TEAM", entityType = "TEAM_MEMBER")
+    @LogActivity(action = "ADD_TEAM_MEMBER_BY_TEAM", entityType = "TEAM_MEMBER", entityId = "result.id")
     public TeamMemberResponse addByTeam(AddMemberByTeamRequest req) {
         Team team = getActiveTeam(req.getTeamId());
         User user = userRepository.findUserByEmail(req.getEmail());
@@ -84,10 +94,12 @@ public class TeamMemberService {
         member.setUser(user);
         member.setPosition(position);
         teamMemberRepository.save(member);
+        userSearchIndexService.refreshUser(user.getUserId());
+        skillRollupService.refreshMembership(user.getUserId(), List.of(team.getTeamId()));
         return toResponse(member);
     }
 
-    @LogActivity(action = "EDIT_TEAM_MEMBER", entityType = "TEAM_MEMBER")
+    @LogActivity(action = "EDIT_TEAM_MEMBER", entityType = "TEAM_MEMBER", entityId = "id")
     public TeamMemberResponse update(Long id, EditMemberRequest req) {
         TeamMember member = teamMemberRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("TEAM_MEMBER_NOT_FOUND"));
@@ -104,6 +116,7 @@ public class TeamMemberService {
         
         member.setPosition(position);
         teamMemberRepository.save(member);
+        userSearchIndexService.refreshUser(member.getUser().getUserId());
         
         if (oldPosId != null && !oldPosId.equals(newPosId)) {
             businessChangeLogService.log(
@@ -122,6 +135,8 @@ public class TeamMemberService {
             throw new IllegalArgumentException("TEAM_NOT_ACTIVE");
         }
         teamMemberRepository.delete(member);
+        userSearchIndexService.refreshUser(member.getUser().getUserId());
+        skillRollupService.refreshMembership(member.getUser().getUserId(), List.of(member.getTeam().getTeamId()));
     }
 
     @Transactional(readOnly = true)
@@ -134,6 +149,13 @@ public class TeamMemberService {
                 page.getTotalElements(), page.getTotalPages(), page.hasNext(), page.hasPrevious());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TeamMemberResponse> listByTeamByCursor(Long teamId, CursorPageRequest page, Sort sort) {
+        Specification<TeamMember> spec = (root, query, cb) -> cb.equal(root.get("team").get("teamId"), teamId);
+        return KeysetSpecification.page(teamMemberRepository, spec, sort, "id", page, this::toResponse,
+                "user", "team", "position");
+    }
+
     private User getActiveUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("USER_NOT_FOUND"));
@@ -4,12 +4,16 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.das.skillmatrix.annotation.LogActivity;
+import com.das.skillmatrix.dto.request.CursorPageRequest;
 import com.das.skillmatrix.dto.request.TeamFilterRequest;
 import com.das.skillmatrix.dto.request.TeamRequest;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
 import com.das.skillmatrix.dto.response.PageResponse;
 import com.das.skillmatrix.dto.response.TeamDetailResponse;
 import com.das.skillmatrix.dto.response.TeamResponse;
@@ -22,6 +26,7 @@ import com.das.skillmatrix.repository.DepartmentRepository;
 import com.das.skillmatrix.repository.TeamMemberRepository;
 import com.das.skillmatrix.repository.TeamRepository;
 import com.das.skillmatrix.repository.UserRepository;
+import com.das.skillmatrix.repository.specification.KeysetSpecification;
 import com.das.skillmatrix.repository.specification.TeamSpecification;
 
 import lombok.RequiredArgsConstructor;
@@ -37,10 +42,14 @@ public class TeamService {
     private final DepartmentRepository departmentRepository;
     private final PermissionService permissionService;
     private final BusinessChangeLogService businessChangeLogService;
+    private final ScopeClosureService scopeClosureService;
+    private final OrgHierarchyIndex orgHierarchyIndex;
+    private final UserSearchIndexService userSearchIndexService;
+    private final SkillRollupService skillRollupService;
 
     // ==================== PUBLIC METHODS ====================
 
-    @LogActivity(action = "CREATE_TEAM", entityType = "TEAM")
+    @LogActivity(action = "CREATE_TEAM", entityType = "TEAM", entityId = "result.teamId")
     public TeamResponse create(TeamRequest req) {
         String name = normalizeName(req.getName());
         if (name == null || name.isEmpty()) {
@@ -68,11 +77,13 @@ public class TeamService {
         team.setCreatedAt(LocalDateTime.now());
         team.setDepartment(department);
         team = teamRepository.save(team);
+        scopeClosureService.refreshTeam(team.getTeamId());
+        orgHierarchyIndex.invalidate();
 
         return toResponse(team);
     }
 
-    @LogActivity(action = "UPDATE_TEAM", entityType = "TEAM")
+    @LogActivity(action = "UPDATE_TEAM", entityType = "TEAM", entityId = "id")
     public TeamResponse update(Long id, TeamRequest req) {
         Team team = getActiveTeamOrThrow(id);
         String newName = normalizeName(req.getName());
@@ -107,7 +118,8 @@ public class TeamService {
             team.setDepartment(targetDepartment);
         }
 
-        if (!team.getName().equalsIgnoreCase(newName)) {
+        boolean renamed = !team.getName().equalsIgnoreCase(newName);
+        if (renamed) {
             if (teamRepository.existsByNameAndDepartmentIdExcluding(
                     newName,
                     targetDepartment.getDepartmentId(),
@@ -120,8 +132,14 @@ public class TeamService {
 
         team.setDescription(req.getDescription());
         teamRepository.save(team);
+        orgHierarchyIndex.invalidate();
+        if (renamed) {
+            userSearchIndexService.refreshTeam(id);
+        }
 
         if (!oldDeptId.equals(newDeptId)) {
+            scopeClosureService.refreshTeam(id);
+            skillRollupService.refreshTeamMove(id, oldDeptId);
             businessChangeLogService.log(
                     "MIGRATE_TEAM_DEPARTMENT", "TEAM", id,
                     "departmentId", oldDeptId.toString(), newDeptId.toString());
@@ -146,6 +164,7 @@ public class TeamService {
         }
 
         teamRepository.save(team);
+        orgHierarchyIndex.invalidate();
         businessChangeLogService.log(
                 "CHANGE_TEAM_STATUS", "TEAM", id,
                 "status", oldStatus, team.getStatus().name());
@@ -193,6 +212,28 @@ public class TeamService {
                 page.getTotalElements(), page.getTotalPages(), page.hasNext(), page.hasPrevious());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TeamResponse> listByCursor(TeamFilterRequest filter, CursorPageRequest page, Sort sort) {
+        Specification<Team> spec;
+        if (filter.getDepartmentId() != null) {
+            departmentRepository.findById(filter.getDepartmentId())
+                    .orElseThrow(() -> new IllegalArgumentException("DEPARTMENT_NOT_FOUND"));
+            spec = TeamSpecification.filterTeamsByDepartment(filter.getDepartmentId(), filter);
+        } else {
+            List<Long> departmentIds = null;
+            User currentUser = permissionService.getCurrentUser();
+            if (!permissionService.isAdmin(currentUser)) {
+                departmentIds = resolveDepartmentIds(currentUser);
+                if (departmentIds.isEmpty()) {
+                    return new CursorPageResponse<>(List.of(), page.getSize(), null, false,
+                            page.isWithTotal() ? 0L : null);
+                }
+            }
+            spec = TeamSpecification.filterTeams(departmentIds, filter);
+        }
+        return KeysetSpecification.page(teamRepository, spec, sort, "teamId", page, this::toResponse);
+    }
+
     @Transactional(readOnly = true)
     public TeamDetailResponse detail(Long id) {
         Team team = getVisibleTeamOrThrow(id);
@@ -224,6 +265,7 @@ public class TeamService {
         if (!alreadyManager) {
             team.getManagers().add(user);
             teamRepository.save(team);
+            scopeClosureService.refreshUser(userId);
             businessChangeLogService.log(
                     "ADD_TEAM_MANAGER", "TEAM", teamId,
                     "managerId", null, userId.toString());
@@ -236,6 +278,7 @@ public class TeamService {
         boolean removed = team.getManagers().removeIf(u -> u.getUserId().equals(userId));
         if (removed) {
             teamRepository.save(team);
+            scopeClosureService.refreshUser(userId);
             businessChangeLogService.log(
                     "REMOVE_TEAM_MANAGER", "TEAM", teamId,
                     "managerId", userId.toString(), null);
@@ -281,26 +324,18 @@ public class TeamService {
                     .stream()
                     .map(Career::getCareerId)
                     .toList();
-            return departmentRepository.findByCareer_CareerIdIn(careerIds)
-                    .stream()
-                    .map(Department::getDepartmentId)
-                    .toList();
+            return orgHierarchyIndex.departmentsOfCareers(careerIds);
         } else if (!currentUser.getManagedDepartments().isEmpty()) {
-            List<Long> careerIds = currentUser.getManagedDepartments()
-                    .stream()
-                    .map(dept -> dept.getCareer().getCareerId())
-                    .distinct()
-                    .toList();
-            return departmentRepository.findByCareer_CareerIdIn(careerIds)
+            List<Long> careerIds = orgHierarchyIndex.careersOfDepartments(currentUser.getManagedDepartments()
                     .stream()
                     .map(Department::getDepartmentId)
-                    .toList();
+                    .toList());
+            return orgHierarchyIndex.departmentsOfCareers(careerIds);
         } else if (!currentUser.getManagedTeams().isEmpty()) {
-            return currentUser.getManagedTeams()
+            return orgHierarchyIndex.departmentsOfTeams(currentUser.getManagedTeams()
                     .stream()
-                    .map(team -> team.getDepartment().getDepartmentId())
-                    .distinct()
-                    .toList();
+                    .map(Team::getTeamId)
+                    .toList());
         }
         return List.of();
     }
@@ -0,0 +1,543 @@
+package com.das.skillmatrix.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import com.das.skillmatrix.annotation.LogActivity;
+import com.das.skillmatrix.dto.request.CreateUserRequest;
+import com.das.skillmatrix.dto.response.UserImportError;
+import com.das.skillmatrix.dto.response.UserImportResponse;
+import com.das.skillmatrix.entity.Career;
+import com.das.skillmatrix.entity.Department;
+import com.das.skillmatrix.entity.GeneralStatus;
+import com.das.skillmatrix.entity.Position;
+import com.das.skillmatrix.entity.Team;
+import com.das.skillmatrix.entity.User;
+import com.das.skillmatrix.repository.CareerRepository;
+import com.das.skillmatrix.repository.DepartmentRepository;
+import com.das.skillmatrix.repository.PositionRepository;
+import com.das.skillmatrix.repository.TeamRepository;
+import com.das.skillmatrix.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+// Bulk counterpart of UserService.create. The body (CSV with a header row, or a JSON array
+// of CreateUserRequest) is read as a stream, then every row is checked against in-memory
+// maps: one query for taken emails, one each for the referenced positions, careers,
+// departments and teams. Passwords are hashed in parallel on a bounded pool and the valid
+// rows go out as JDBC batches. Invalid rows are reported with the same error codes
+// create() throws and do not stop the others.
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final Set<String> ROLES = Set.of(
+            "ADMIN", "MANAGER_CAREER", "MANAGER_DEPARTMENT", "MANAGER_TEAM", "STAFF");
+    private static final int LOOKUP_CHUNK = 1000;
+    private static final int INSERT_BATCH = 500;
+    private static final int HASH_CHUNK = 16;
+
+    private final UserRepository userRepository;
+    private final PositionRepository positionRepository;
+    private final CareerRepository careerRepository;
+    private final DepartmentRepository departmentRepository;
+    private final TeamRepository teamRepository;
+    private final PermissionService permissionService;
+    private final PasswordEncoder passwordEncoder;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final BusinessChangeLogService logService;
+    private final ScopeClosureService scopeClosureService;
+    private final UserSearchIndexService userSearchIndexService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int maxRows;
+    private final ThreadPoolExecutor hashPool;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public UserImportService(UserRepository userRepository,
+                             PositionRepository positionRepository,
+                             CareerRepository careerRepository,
+                             DepartmentRepository departmentRepository,
+                             TeamRepository teamRepository,
+                             PermissionService permissionService,
+                             PasswordEncoder passwordEncoder,
+                             NamedParameterJdbcTemplate jdbcTemplate,
+                             BusinessChangeLogService logService,
+                             ScopeClosureService scopeClosureService,
+                             UserSearchIndexService userSearchIndexService,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             @Value("${user-import.max-rows:5000}") int maxRows,
+                             @Value("${user-import.hash-threads:4}") int hashThreads) {
+        this.userRepository = userRepository;
+        this.positionRepository = positionRepository;
+        this.careerRepository = careerRepository;
+        this.departmentRepository = departmentRepository;
+        this.teamRepository = teamRepository;
+        this.permissionService = permissionService;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.logService = logService;
+        this.scopeClosureService = scopeClosureService;
+        this.userSearchIndexService = userSearchIndexService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.maxRows = maxRows;
+        int threads = Math.max(1, hashThreads);
+        // Bounded both ways: fixed threads and a short queue; when it is full the importing
+        // thread hashes the chunk itself instead of queueing more work
+        this.hashPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashPool.shutdownNow();
+    }
+
+    // One row of the file on its way in; scope and positions are resolved during validation
+    static final class Row {
+        final int number;
+        final CreateUserRequest request;
+        String error;
+        String email;
+        Career career;
+        Department department;
+        Team team;
+        List<Position> positions = List.of();
+        String passwordHash;
+
+        Row(int number, CreateUserRequest request, String error) {
+            this.number = number;
+            this.request = request;
+            this.error = error;
+        }
+    }
+
+    @Transactional
+    @LogActivity(action = "IMPORT_USERS", entityType = "USER")
+    public UserImportResponse importUsers(InputStream body, MediaType contentType) {
+        List<Row> rows = MediaType.APPLICATION_JSON.isCompatibleWith(contentType) ? readJson(body) : readCsv(body);
+        validate(rows, permissionService.getCurrentUser());
+
+        List<Row> valid = rows.stream().filter(r -> r.error == null).toList();
+        if (!valid.isEmpty()) {
+            hashPasswords(valid);
+            insert(valid);
+        }
+
+        List<UserImportError> errors = rows.stream()
+                .filter(r -> r.error != null)
+                .sorted(Comparator.comparingInt(r -> r.number))
+                .map(r -> new UserImportError(r.number, r.request.getEmail(), r.error))
+                .toList();
+        log.info("Imported {} of {} users", valid.size(), rows.size());
+        return new UserImportResponse(rows.size(), valid.size(), errors.size(), errors);
+    }
+
+    // ==================== READ ====================
+
+    List<Row> readJson(InputStream body) {
+        List<Row> rows = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("INVALID_IMPORT_FILE");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                checkSize(rows);
+                rows.add(new Row(rows.size() + 1, objectMapper.readValue(parser, CreateUserRequest.class), null));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("INVALID_IMPORT_FILE");
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read import body", e);
+        }
+        return rows;
+    }
+
+    // Header names (any order, case-insensitive): email, role, careerId, departmentId, teamId,
+    // positionIds. positionIds holds several ids separated by ';'.
+    List<Row> readCsv(InputStream body) {
+        List<Row> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            List<String> header = nextRecord(reader);
+            if (header == null) {
+                throw new IllegalArgumentException("INVALID_IMPORT_FILE");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase();
+                columns.put(name, i);
+            }
+            if (!columns.containsKey("email") || !columns.containsKey("role")) {
+                throw new IllegalArgumentException("INVALID_IMPORT_FILE");
+            }
+            List<String> record;
+            while ((record = nextRecord(reader)) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) continue;
+                checkSize(rows);
+                rows.add(toRow(rows.size() + 1, record, columns));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read import body", e);
+        }
+        return rows;
+    }
+
+    private void checkSize(List<Row> rows) {
+        if (rows.size() >= maxRows) {
+            throw new IllegalArgumentException("IMPORT_TOO_LARGE");
+        }
+    }
+
+    private static Row toRow(int number, List<String> record, Map<String, Integer> columns) {
+        CreateUserRequest req = new CreateUserRequest();
+        req.setEmail(cell(record, columns, "email"));
+        req.setRole(cell(record, columns, "role"));
+        try {
+            req.setCareerId(id(cell(record, columns, "careerid")));
+            req.setDepartmentId(id(cell(record, columns, "departmentid")));
+            req.setTeamId(id(cell(record, columns, "teamid")));
+            String positions = cell(record, columns, "positionids");
+            if (positions != null) {
+                req.setPositionIds(Arrays.stream(positions.split(";"))
+                        .map(String::trim).filter(s -> !s.isEmpty()).map(Long::valueOf).toList());
+            }
+        } catch (NumberFormatException e) {
+            return new Row(number, req, "INVALID_ID");
+        }
+        return new Row(number, req, null);
+    }
+
+    private static String cell(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) return null;
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Long id(String value) {
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    // One RFC 4180 record (quoted fields may span lines), or null at end of input
+    static List<String> nextRecord(BufferedReader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) return null;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) throw new IllegalArgumentException("INVALID_IMPORT_FILE");
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    // ==================== VALIDATE ====================
+
+    void validate(List<Row> rows, User creator) {
+        for (Row row : rows) {
+            if (row.error == null) row.error = validateFields(row);
+        }
+        List<Row> candidates = rows.stream().filter(r -> r.error == null).toList();
+
+        Set<String> taken = new HashSet<>();
+        List<String> emails = candidates.stream().map(r -> r.email).distinct().toList();
+        for (int i = 0; i < emails.size(); i += LOOKUP_CHUNK) {
+            userRepository.findExistingEmails(emails.subList(i, Math.min(i + LOOKUP_CHUNK, emails.size())))
+                    .forEach(e -> taken.add(e.toLowerCase()));
+        }
+
+        List<Long> positionIds = ids(candidates, r -> r.request.getPositionIds());
+        Map<Long, Position> positions = positionIds.isEmpty() ? Map.of() : byId(
+                positionRepository.findByPositionIdInAndStatus(positionIds, GeneralStatus.ACTIVE), Position::getPositionId);
+        Map<Long, Career> careers = byId(careerRepository.findAllById(
+                ids(candidates, r -> single(r.request.getCareerId()))), Career::getCareerId);
+        Map<Long, Department> departments = byId(departmentRepository.findAllById(
+                ids(candidates, r -> single(r.request.getDepartmentId()))), Department::getDepartmentId);
+        Map<Long, Team> teams = byId(teamRepository.findAllById(
+                ids(candidates, r -> single(r.request.getTeamId()))), Team::getTeamId);
+
+        Set<Long> managedCareers = creator.getManagedCareers().stream()
+                .map(Career::getCareerId).collect(Collectors.toSet());
+        Set<Long> managedDepartments = creator.getManagedDepartments().stream()
+                .map(Department::getDepartmentId).collect(Collectors.toSet());
+
+        Set<String> seen = new HashSet<>();
+        for (Row row : candidates) {
+            if (!seen.add(row.email)) {
+                row.error = "DUPLICATE_EMAIL_IN_FILE";
+            } else if (taken.contains(row.email)) {
+                row.error = "EMAIL_ALREADY_EXISTS";
+            } else {
+                row.error = checkPermission(creator.getRole(), managedCareers, managedDepartments, row.request,
+                        departments, teams);
+                if (row.error == null) row.error = resolvePositions(row, positions);
+                if (row.error == null) row.error = resolveScope(row, careers, departments, teams);
+            }
+        }
+    }
+
+    private String validateFields(Row row) {
+        Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(row.request);
+        for (ConstraintViolation<CreateUserRequest> v : violations) {
+            if ("email".equals(v.getPropertyPath().toString())) {
+                return StringUtils.hasText(row.request.getEmail()) ? "INVALID_EMAIL_FORMAT" : "EMAIL_REQUIRED";
+            }
+        }
+        if (!violations.isEmpty() || !ROLES.contains(row.request.getRole())) {
+            return "INVALID_ROLE";
+        }
+        row.email = row.request.getEmail().trim().toLowerCase();
+        return null;
+    }
+
+    // Same rules as UserService.validateCreatePermission, against the preloaded scope maps
+    private static String checkPermission(String creatorRole, Set<Long> managedCareers, Set<Long> managedDepartments,
+                                          CreateUserRequest req, Map<Long, Department> departments,
+                                          Map<Long, Team> teams) {
+        String role = req.getRole();
+        switch (creatorRole) {
+            case "ADMIN":
+                return null;
+            case "MANAGER_CAREER":
+                if ("ADMIN".equals(role) || "MANAGER_CAREER".equals(role)) return "ROLE_EXCEEDS_PERMISSION";
+                if (req.getTeamId() != null) {
+                    Team team = teams.get(req.getTeamId());
+                    if (team == null) return "INVALID_SCOPE";
+                    return managedCareers.contains(team.getDepartment().getCareer().getCareerId())
+                            ? null : "ROLE_EXCEEDS_PERMISSION";
+                }
+                if (req.getDepartmentId() != null) {
+                    Department department = departments.get(req.getDepartmentId());
+                    if (department == null) return "INVALID_SCOPE";
+                    return managedCareers.contains(department.getCareer().getCareerId())
+                            ? null : "ROLE_EXCEEDS_PERMISSION";
+                }
+                return null;
+            case "MANAGER_DEPARTMENT":
+                if ("ADMIN".equals(role) || "MANAGER_CAREER".equals(role) || "MANAGER_DEPARTMENT".equals(role)) {
+                    return "ROLE_EXCEEDS_PERMISSION";
+                }
+                if (req.getTeamId() != null) {
+                    Team team = teams.get(req.getTeamId());
+                    if (team == null) return "INVALID_SCOPE";
+                    return managedDepartments.contains(team.getDepartment().getDepartmentId())
+                            ? null : "ROLE_EXCEEDS_PERMISSION";
+                }
+                return null;
+            default:
+                return "ROLE_EXCEEDS_PERMISSION";
+        }
+    }
+
+    private static String resolvePositions(Row row, Map<Long, Position> positions) {
+        if ("ADMIN".equals(row.request.getRole())) return null;
+        List<Long> ids = row.request.getPositionIds();
+        if (ids == null || ids.isEmpty()) return "POSITION_REQUIRED";
+        List<Position> resolved = ids.stream().distinct().map(positions::get).toList();
+        if (resolved.contains(null)) return "POSITION_NOT_ACTIVE";
+        row.positions = resolved;
+        return null;
+    }
+
+    // Same rules as UserService.assignScope
+    private static String resolveScope(Row row, Map<Long, Career> careers, Map<Long, Department> departments,
+                                       Map<Long, Team> teams) {
+        CreateUserRequest req = row.request;
+        switch (req.getRole()) {
+            case "ADMIN":
+                return null;
+            case "MANAGER_CAREER":
+                if (req.getCareerId() == null) return "SCOPE_REQUIRED";
+                row.career = careers.get(req.getCareerId());
+                return active(row.career == null ? null : row.career.getStatus());
+            case "MANAGER_DEPARTMENT":
+                if (req.getDepartmentId() == null) return "SCOPE_REQUIRED";
+                row.department = departments.get(req.getDepartmentId());
+                return active(row.department == null ? null : row.department.getStatus());
+            default: // MANAGER_TEAM, STAFF
+                if (req.getTeamId() == null) return "SCOPE_REQUIRED";
+                row.team = teams.get(req.getTeamId());
+                if (row.team != null) row.department = row.team.getDepartment();
+                return active(row.team == null ? null : row.team.getStatus());
+        }
+    }
+
+    private static String active(GeneralStatus status) {
+        return status == GeneralStatus.ACTIVE ? null : "INVALID_SCOPE";
+    }
+
+    private static List<Long> single(Long id) {
+        return id == null ? null : List.of(id);
+    }
+
+    private static List<Long> ids(List<Row> rows, Function<Row, List<Long>> extractor) {
+        return rows.stream()
+                .map(extractor)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private static <T> Map<Long, T> byId(Collection<T> entities, Function<T, Long> id) {
+        return entities.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    // ==================== WRITE ====================
+
+    private void hashPasswords(List<Row> rows) {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i += HASH_CHUNK) {
+            List<Row> chunk = rows.subList(i, Math.min(i + HASH_CHUNK, rows.size()));
+            tasks.add(() -> {
+                for (Row row : chunk) {
+                    row.passwordHash = passwordEncoder.encode(UserService.generateRandomPassword(secureRandom));
+                }
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> task : hashPool.invokeAll(tasks)) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("User import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private void insert(List<Row> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.getJdbcTemplate().batchUpdate("""
+                INSERT INTO users (email, password_hash, role, status, department_id, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, rows, INSERT_BATCH, (ps, row) -> {
+                    ps.setString(1, row.email);
+                    ps.setString(2, row.passwordHash);
+                    ps.setString(3, row.request.getRole());
+                    ps.setString(4, GeneralStatus.ACTIVE.name());
+                    ps.setObject(5, row.department == null ? null : row.department.getDepartmentId());
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                });
+
+        Map<String, Long> userIds = new HashMap<>();
+        List<String> emails = rows.stream().map(r -> r.email).toList();
+        for (int i = 0; i < emails.size(); i += LOOKUP_CHUNK) {
+            jdbcTemplate.query("SELECT user_id, email FROM users WHERE email IN (:emails)",
+                    new MapSqlParameterSource("emails", emails.subList(i, Math.min(i + LOOKUP_CHUNK, emails.size()))),
+                    rs -> {
+                        userIds.put(rs.getString(2).toLowerCase(), rs.getLong(1));
+                    });
+        }
+
+        List<Object[]> userPositions = new ArrayList<>();
+        List<Object[]> careerManagers = new ArrayList<>();
+        List<Object[]> departmentManagers = new ArrayList<>();
+        List<Object[]> teamManagers = new ArrayList<>();
+        List<Object[]> teamMembers = new ArrayList<>();
+        for (Row row : rows) {
+            Long userId = userIds.get(row.email);
+            row.positions.forEach(p -> userPositions.add(new Object[] { userId, p.getPositionId() }));
+            switch (row.request.getRole()) {
+                case "MANAGER_CAREER" -> careerManagers.add(new Object[] { row.career.getCareerId(), userId });
+                case "MANAGER_DEPARTMENT" ->
+                        departmentManagers.add(new Object[] { row.department.getDepartmentId(), userId });
+                case "MANAGER_TEAM" -> teamManagers.add(new Object[] { row.team.getTeamId(), userId });
+                case "STAFF" -> teamMembers.add(new Object[] { row.team.getTeamId(), userId,
+                        row.positions.isEmpty() ? null : row.positions.get(0).getPositionId(), now, now });
+                default -> {
+                }
+            }
+        }
+        batch("INSERT INTO user_positions (user_id, position_id) VALUES (?, ?)", userPositions);
+        batch("INSERT INTO career_managers (career_id, user_id) VALUES (?, ?)", careerManagers);
+        batch("INSERT INTO department_managers (department_id, user_id) VALUES (?, ?)", departmentManagers);
+        batch("INSERT INTO team_managers (team_id, user_id) VALUES (?, ?)", teamManagers);
+        batch("INSERT INTO team_members (team_id, user_id, position_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                teamMembers);
+
+        scopeClosureService.addUsers(userIds.values());
+        userSearchIndexService.refreshUsers(userIds.values());
+        // Buffered by BusinessChangeLogService and written as one batch after commit
+        for (Row row : rows) {
+            logService.log("CREATE_USER", "USER", userIds.get(row.email), List.of(
+                    new BusinessChangeLogService.FieldChange("email", null, row.email),
+                    new BusinessChangeLogService.FieldChange("role", null, row.request.getRole())));
+        }
+    }
+
+    private void batch(String sql, List<Object[]> args) {
+        for (int i = 0; i < args.size(); i += INSERT_BATCH) {
+            jdbcTemplate.getJdbcTemplate().batchUpdate(sql, args.subList(i, Math.min(i + INSERT_BATCH, args.size())));
+        }
+    }
+}
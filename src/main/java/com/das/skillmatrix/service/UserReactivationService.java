@@ -0,0 +1,70 @@
+package com.das.skillmatrix.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.das.skillmatrix.entity.GeneralStatus;
+import com.das.skillmatrix.repository.UserReactivationQueueRepository;
+import com.das.skillmatrix.repository.UserRepository;
+import com.das.skillmatrix.security.AuthenticationCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Reactivates temporarily deactivated users from user_reactivation_queue. Each batch is one
+// short transaction: take the oldest due ids, flip them back to ACTIVE with one set-based
+// UPDATE, drop their queue rows and evict only those users from the authentication cache.
+@Slf4j
+@Service
+@Transactional
+public class UserReactivationService {
+
+    public record Batch(int reactivated, boolean more) {
+    }
+
+    private final UserRepository userRepository;
+    private final UserReactivationQueueRepository queueRepository;
+    private final AuthenticationCache authenticationCache;
+    private final int batchSize;
+
+    public UserReactivationService(UserRepository userRepository,
+                                   UserReactivationQueueRepository queueRepository,
+                                   AuthenticationCache authenticationCache,
+                                   @Value("${user-reactivation.batch-size:200}") int batchSize) {
+        this.userRepository = userRepository;
+        this.queueRepository = queueRepository;
+        this.authenticationCache = authenticationCache;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasDue(LocalDateTime now) {
+        return queueRepository.existsByDueAtLessThanEqual(now);
+    }
+
+    public Batch reactivateDueBatch(LocalDateTime now) {
+        List<Long> userIds = queueRepository.findDueUserIds(now, PageRequest.of(0, batchSize));
+        if (userIds.isEmpty()) return new Batch(0, false);
+        // Users reactivated by hand or deleted since queueing are matched by neither
+        // condition; their queue rows are dropped all the same.
+        int reactivated = userRepository.reactivateExpiredUsers(userIds, now, GeneralStatus.ACTIVE);
+        queueRepository.deleteDue(userIds, now);
+        userIds.forEach(authenticationCache::evictUser);
+        return new Batch(reactivated, userIds.size() == batchSize);
+    }
+
+    // Backfill for temporary deactivations made before the queue existed
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillQueue() {
+        int queued = queueRepository.enqueueMissing();
+        if (queued > 0) {
+            log.info("Queued {} temporarily deactivated users for reactivation", queued);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.das.skillmatrix.service;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import com.das.skillmatrix.repository.UserSearchDocumentRepository;
+import com.das.skillmatrix.repository.UserSearchGramRepository;
+import com.das.skillmatrix.scheduler.JobLock;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Keeps the user keyword index (user_search_documents + user_search_grams) in sync with
+// users, team membership and positions. UserSpecification resolves a keyword to user ids
+// through the trigram postings and confirms each hit with a LIKE on the document, so the
+// users table is no longer scanned for every search. Refreshes run inside the caller's
+// transaction, like ScopeClosureService.
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class UserSearchIndexService {
+
+    public static final int GRAM_LENGTH = 3;
+    // A keyword is matched on at most this many of its trigrams; the LIKE re-check covers the rest
+    private static final int MAX_KEYWORD_GRAMS = 8;
+    private static final int REBUILD_CHUNK = 500;
+    private static final int INSERT_CHUNK = 1000;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    static final String GRAM_COLLATION = "utf8mb4_bin";
+
+    private static final String SOURCE_SQL = """
+            SELECT u.user_id, u.email, u.full_name,
+                   (SELECT GROUP_CONCAT(t.name SEPARATOR '\\n')
+                      FROM team_members tm JOIN teams t ON t.team_id = tm.team_id
+                     WHERE tm.user_id = u.user_id),
+                   (SELECT GROUP_CONCAT(p.name SEPARATOR '\\n')
+                      FROM positions p
+                     WHERE p.position_id IN (SELECT up.position_id FROM user_positions up WHERE up.user_id = u.user_id)
+                        OR p.position_id IN (SELECT tm.position_id FROM team_members tm WHERE tm.user_id = u.user_id))
+            FROM users u
+            WHERE u.user_id IN (:ids)
+            """;
+
+    private final UserSearchDocumentRepository documentRepository;
+    private final UserSearchGramRepository gramRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JobLock jobLock;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Email, name or positions changed, or team membership added/removed
+    public void refreshUser(Long userId) {
+        refreshUsers(List.of(userId));
+    }
+
+    public void refreshUsers(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        entityManager.flush();
+        gramRepository.deleteByUsers(userIds);
+        documentRepository.deleteByUsers(userIds);
+        index(userIds);
+    }
+
+    // Team renamed: every member's document carries the team name
+    public void refreshTeam(Long teamId) {
+        entityManager.flush();
+        @SuppressWarnings("unchecked")
+        List<Number> members = entityManager
+                .createNativeQuery("SELECT DISTINCT tm.user_id FROM team_members tm WHERE tm.team_id = :teamId")
+                .setParameter("teamId", teamId)
+                .getResultList();
+        refreshUsers(members.stream().map(Number::longValue).toList());
+    }
+
+    public void removeUser(Long userId) {
+        gramRepository.deleteByUsers(List.of(userId));
+        documentRepository.deleteByUsers(List.of(userId));
+    }
+
+    public void rebuildAll() {
+        entityManager.flush();
+        gramRepository.deleteAllInBatch();
+        documentRepository.deleteAllInBatch();
+        long after = 0;
+        int total = 0;
+        while (true) {
+            @SuppressWarnings("unchecked")
+            List<Number> ids = entityManager
+                    .createNativeQuery("SELECT u.user_id FROM users u WHERE u.user_id > :after ORDER BY u.user_id LIMIT "
+                            + REBUILD_CHUNK)
+                    .setParameter("after", after)
+                    .getResultList();
+            if (ids.isEmpty()) break;
+            List<Long> chunk = ids.stream().map(Number::longValue).toList();
+            index(chunk);
+            total += chunk.size();
+            after = chunk.get(chunk.size() - 1);
+        }
+        log.info("Rebuilt user search index for {} users", total);
+    }
+
+    // Backfill for databases that predate the search index
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void backfillIfEmpty() {
+        if (documentRepository.count() == 0) {
+            rebuildAll();
+        }
+    }
+
+    // ================= SCHEMA =================
+
+    // ddl-auto=update never alters an existing column, so databases that created
+    // user_search_grams before gram was declared utf8mb4_bin keep the case- and
+    // accent-insensitive default. Converted once, on one node, before the backfill; MySQL
+    // rebuilds the (gram, user_id) unique index with it, and a binary collation can only
+    // split grams the old one merged, so no row turns into a duplicate.
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void ensureGramCollation() {
+        try {
+            jobLock.run("user-search-gram-collation", Duration.ZERO, this::convertGramCollation);
+        } catch (DataAccessException e) {
+            log.warn("Could not convert user_search_grams.gram to {}: {}", GRAM_COLLATION, e.getMessage());
+        }
+    }
+
+    int convertGramCollation() {
+        List<String> collation = jdbcTemplate.queryForList("""
+                SELECT c.collation_name FROM information_schema.columns c
+                 WHERE c.table_schema = DATABASE() AND c.table_name = 'user_search_grams' AND c.column_name = 'gram'
+                """, Map.of(), String.class);
+        if (collation.isEmpty() || GRAM_COLLATION.equalsIgnoreCase(collation.get(0))) return 0;
+        jdbcTemplate.getJdbcOperations().execute("ALTER TABLE user_search_grams MODIFY gram VARCHAR(3)"
+                + " CHARACTER SET utf8mb4 COLLATE " + GRAM_COLLATION + " NOT NULL");
+        log.info("Converted user_search_grams.gram from {} to {}", collation.get(0), GRAM_COLLATION);
+        return 1;
+    }
+
+    // ================= TEXT =================
+
+    // Lower-cased with accents folded ("Nguyễn Đức" -> "nguyen duc"), so searches stay
+    // accent-insensitive as they were against the users table
+    public static String normalize(String keyword) {
+        if (keyword == null) return "";
+        String decomposed = Normalizer.normalize(keyword.trim().toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").replace('đ', 'd');
+    }
+
+    // Distinct trigrams of each line; grams never span two fields
+    public static Set<String> grams(String document) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String line : document.split("\n")) {
+            for (int i = 0; i + GRAM_LENGTH <= line.length(); i++) {
+                grams.add(line.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return grams;
+    }
+
+    // Non-overlapping trigrams covering the normalized keyword (plus the tail), capped.
+    // Empty when the keyword is shorter than one trigram.
+    public static Set<String> keywordGrams(String normalizedKeyword) {
+        Set<String> grams = new LinkedHashSet<>();
+        int len = normalizedKeyword.length();
+        if (len < GRAM_LENGTH) return grams;
+        for (int i = 0; i + GRAM_LENGTH <= len && grams.size() < MAX_KEYWORD_GRAMS; i += GRAM_LENGTH) {
+            grams.add(normalizedKeyword.substring(i, i + GRAM_LENGTH));
+        }
+        if (grams.size() < MAX_KEYWORD_GRAMS) {
+            grams.add(normalizedKeyword.substring(len - GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    static String document(Object[] row) {
+        List<String> fields = new ArrayList<>();
+        for (int i = 0; i < row.length; i++) {
+            if (row[i] != null && StringUtils.hasText(row[i].toString())) {
+                fields.add(row[i].toString());
+            }
+        }
+        return normalize(String.join("\n", fields));
+    }
+
+    // ================= WRITE =================
+
+    private void index(Collection<Long> userIds) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(SOURCE_SQL)
+                .setParameter("ids", userIds)
+                .getResultList();
+        List<Object[]> documents = new ArrayList<>(rows.size());
+        List<Object[]> postings = new ArrayList<>();
+        for (Object[] row : rows) {
+            Long userId = ((Number) row[0]).longValue();
+            String document = document(row);
+            documents.add(new Object[] { userId, document });
+            for (String gram : grams(document)) {
+                postings.add(new Object[] { gram, userId });
+            }
+        }
+        insert("INSERT INTO user_search_documents (user_id, document) VALUES ", documents);
+        insert("INSERT INTO user_search_grams (gram, user_id) VALUES ", postings);
+    }
+
+    private void insert(String prefix, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += INSERT_CHUNK) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + INSERT_CHUNK, rows.size()));
+            String sql = chunk.stream().map(r -> "(?, ?)").collect(Collectors.joining(", ", prefix, ""));
+            Query query = entityManager.createNativeQuery(sql);
+            int p = 1;
+            for (Object[] row : chunk) {
+                query.setParameter(p++, row[0]);
+                query.setParameter(p++, row[1]);
+            }
+            query.executeUpdate();
+        }
+    }
+}
@@ -3,11 +3,15 @@ package com.das.skillmatrix.service;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -16,9 +20,11 @@ import org.springframework.util.StringUtils;
 
 import com.das.skillmatrix.annotation.LogActivity;
 import com.das.skillmatrix.dto.request.CreateUserRequest;
+import com.das.skillmatrix.dto.request.CursorPageRequest;
 import com.das.skillmatrix.dto.request.DeactivateUserRequest;
 import com.das.skillmatrix.dto.request.UpdateUserRequest;
 import com.das.skillmatrix.dto.request.UserFilterRequest;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
 import com.das.skillmatrix.dto.response.PageResponse;
 import com.das.skillmatrix.dto.response.PositionBrief;
 import com.das.skillmatrix.dto.response.UserDetailResponse;
@@ -30,14 +36,18 @@ import com.das.skillmatrix.entity.Position;
 import com.das.skillmatrix.entity.Team;
 import com.das.skillmatrix.entity.TeamMember;
 import com.das.skillmatrix.entity.User;
+import com.das.skillmatrix.entity.UserReactivationQueue;
 import com.das.skillmatrix.exception.ResourceNotFoundException;
 import com.das.skillmatrix.repository.CareerRepository;
 import com.das.skillmatrix.repository.DepartmentRepository;
 import com.das.skillmatrix.repository.PositionRepository;
 import com.das.skillmatrix.repository.TeamMemberRepository;
 import com.das.skillmatrix.repository.TeamRepository;
+import com.das.skillmatrix.repository.UserReactivationQueueRepository;
 import com.das.skillmatrix.repository.UserRepository;
+import com.das.skillmatrix.repository.specification.KeysetSpecification;
 import com.das.skillmatrix.repository.specification.UserSpecification;
+import com.das.skillmatrix.security.AuthenticationCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -57,17 +67,21 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final PermissionService permissionService;
     private final BusinessChangeLogService logService;
+    private final ScopeClosureService scopeClosureService;
+    private final OrgHierarchyIndex orgHierarchyIndex;
+    private final AuthenticationCache authenticationCache;
+    private final UserSearchIndexService userSearchIndexService;
+    private final UserReactivationQueueRepository reactivationQueueRepository;
+    private final SkillRollupService skillRollupService;
     
     private static final String PWD_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789!@#$%";
     private final SecureRandom secureRandom = new SecureRandom();
 
     @Transactional(readOnly = true)
     public PageResponse<UserResponse> list(UserFilterRequest filter, Pageable pageable) {
-        User currentUser = permissionService.getCurrentUser();
-        List<Long> scopeIds = resolveUserScopeIds(currentUser);
-        Specification<User> spec = UserSpecification.filterUsers(filter, scopeIds, currentUser.getRole());
+        Specification<User> spec = scopedSpecification(filter);
         Page<User> page = userRepository.findAll(spec, pageable);
-        List<UserResponse> data = page.getContent().stream().map(this::toResponse).collect(Collectors.toList());
+        List<UserResponse> data = toResponses(page.getContent());
         return new PageResponse<>(
                 data,
                 page.getNumber(),
@@ -79,6 +93,23 @@ public class UserService {
         );
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserResponse> listByCursor(UserFilterRequest filter, CursorPageRequest page, Sort sort) {
+        Specification<User> spec = scopedSpecification(filter);
+        CursorPageResponse<User> users = KeysetSpecification.page(userRepository, spec, sort, "userId", page,
+                u -> u, "department");
+        return new CursorPageResponse<>(toResponses(users.getItems()), users.getSize(), users.getNextCursor(),
+                users.isHasNext(), users.getTotalElements());
+    }
+
+    // The filter restricted to the users the current user may see
+    @Transactional(readOnly = true)
+    public Specification<User> scopedSpecification(UserFilterRequest filter) {
+        User currentUser = permissionService.getCurrentUser();
+        List<Long> scopeIds = resolveUserScopeIds(currentUser);
+        return UserSpecification.filterUsers(filter, scopeIds, currentUser.getRole());
+    }
+
     @Transactional(readOnly = true)
     public PageResponse<UserResponse> listByTeam(Long teamId, UserFilterRequest filter, Pageable pageable) {
         if (!teamRepository.existsById(teamId)) {
@@ -97,7 +128,7 @@ public class UserService {
         List<Position> positions = fetchAndValidatePositions(req.getPositionIds(), req.getRole());
         User user = new User();
         user.setEmail(req.getEmail().trim().toLowerCase());
-        String rawPassword = generateRandomPassword();
+        String rawPassword = generateRandomPassword(secureRandom);
         user.setPasswordHash(passwordEncoder.encode(rawPassword));
         log.debug("Generated password for new user: {}", rawPassword);
         user.setRole(req.getRole());
@@ -107,6 +138,7 @@ public class UserService {
         }
         user = userRepository.save(user);
         assignScope(user, req.getCareerId(), req.getDepartmentId(), req.getTeamId());
+        userSearchIndexService.refreshUser(user.getUserId());
         List<BusinessChangeLogService.FieldChange> fieldChanges = List.of(
             new BusinessChangeLogService.FieldChange("email", null, user.getEmail()),
             new BusinessChangeLogService.FieldChange("role", null, user.getRole())
@@ -135,7 +167,9 @@ public class UserService {
         }
         user.setEmail(req.getEmail().trim().toLowerCase());
         user.setRole(req.getRole());
-        if (roleChanged || scopeChanged(user, req)) {
+        Long oldDepartmentId = user.getDepartment() == null ? null : user.getDepartment().getDepartmentId();
+        boolean scopeReassigned = roleChanged || scopeChanged(user, req);
+        if (scopeReassigned) {
             assignScope(user, req.getCareerId(), req.getDepartmentId(), req.getTeamId());
             fieldChanges.add(new BusinessChangeLogService.FieldChange("scope", "old", "updated"));
         }
@@ -146,6 +180,12 @@ public class UserService {
             user.getPositions().clear();
         }
         user = userRepository.save(user);
+        authenticationCache.evictUser(userId);
+        userSearchIndexService.refreshUser(userId);
+        if (scopeReassigned) {
+            // Home department (and for staff, team membership) feeds the skill rollups
+            skillRollupService.refreshUser(userId, oldDepartmentId);
+        }
         if (!fieldChanges.isEmpty()) {
             logService.log("UPDATE_USER", "USER", user.getUserId(), fieldChanges);
         }
@@ -160,8 +200,11 @@ public class UserService {
         if (user.getStatus() != GeneralStatus.ACTIVE) {
             throw new IllegalArgumentException("CANNOT_DEACTIVE_DEACTIVED_USER");
         }
+        authenticationCache.evictUser(userId);
         if ("DELETE".equalsIgnoreCase(req.getAction())) {
             userRepository.delete(user);
+            scopeClosureService.removeUser(userId);
+            userSearchIndexService.removeUser(userId);
             logService.log("DELETE_USER", "USER", userId, "status", GeneralStatus.ACTIVE.name(), "DELETED");
             return;
         }
@@ -174,6 +217,7 @@ public class UserService {
                 }
                 user.setDeactiveType("TEMPORARY");
                 user.setDeactiveUntil(calculateDeactivationEndDate(req.getDuration()));
+                reactivationQueueRepository.save(new UserReactivationQueue(userId, user.getDeactiveUntil()));
             } else {
                 user.setDeactiveType("UNLIMITED");
                 user.setDeactiveUntil(null);
@@ -198,6 +242,8 @@ public class UserService {
         user.setDeactiveUntil(null);
         user.setDeActiveAt(null);
         userRepository.save(user);
+        reactivationQueueRepository.deleteByUser(userId);
+        authenticationCache.evictUser(userId);
         logService.log("REACTIVATE_USER", "USER", userId, "status", GeneralStatus.DEACTIVE.name(), GeneralStatus.ACTIVE.name());
         return toResponse(user);
     }
@@ -220,7 +266,7 @@ public class UserService {
         }
     }
 
-    private String generateRandomPassword() {
+    static String generateRandomPassword(SecureRandom secureRandom) {
         String upper = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
         String lower = "abcdefghijklmnopqrstuvwxyz";
         String digits = "0123456789";
@@ -306,6 +352,7 @@ public class UserService {
             default:
                 throw new IllegalArgumentException("INVALID_ROLE");
         }
+        scopeClosureService.refreshUser(user.getUserId());
     }
 
     private void validateCreatePermission(User creator, CreateUserRequest req) {
@@ -406,11 +453,19 @@ public class UserService {
         }
     }
 
+    // Expands the user's managed scope to the ids UserSpecification filters on:
+    // department ids for career/department managers, team ids for team managers and staff
     private List<Long> resolveUserScopeIds(User user) {
         switch (user.getRole()) {
-            case "MANAGER_CAREER": return user.getManagedCareers().stream().map(Career::getCareerId).toList();
-            case "MANAGER_DEPARTMENT": return user.getManagedDepartments().stream().map(Department::getDepartmentId).toList();
-            case "MANAGER_TEAM": return user.getManagedTeams().stream().map(Team::getTeamId).toList();
+            case "MANAGER_CAREER":
+                return orgHierarchyIndex.departmentsOfCareers(
+                        user.getManagedCareers().stream().map(Career::getCareerId).toList());
+            case "MANAGER_DEPARTMENT":
+                return orgHierarchyIndex.departmentsOfCareers(orgHierarchyIndex.careersOfDepartments(
+                        user.getManagedDepartments().stream().map(Department::getDepartmentId).toList()));
+            case "MANAGER_TEAM":
+                return orgHierarchyIndex.teamsOfDepartments(orgHierarchyIndex.departmentsOfTeams(
+                        user.getManagedTeams().stream().map(Team::getTeamId).toList()));
             case "STAFF": 
                 return teamMemberRepository.findByUser_UserId(user.getUserId())
                     .stream().map(tm -> tm.getTeam().getTeamId()).toList();
@@ -418,7 +473,31 @@ public class UserService {
         }
     }
 
+    // Positions for the whole page come from one query instead of one lazy load per user
+    private List<UserResponse> toResponses(List<User> users) {
+        Map<Long, List<PositionBrief>> positions = loadPositions(users.stream().map(User::getUserId).toList());
+        return users.stream()
+                .map(u -> toResponse(u, positions.getOrDefault(u.getUserId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, List<PositionBrief>> loadPositions(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return Map.of();
+        Map<Long, List<PositionBrief>> byUser = new HashMap<>();
+        for (Object[] row : userRepository.findPositionRowsByUserIds(userIds)) {
+            byUser.computeIfAbsent((Long) row[0], k -> new ArrayList<>())
+                    .add(new PositionBrief((Long) row[1], (String) row[2]));
+        }
+        return byUser;
+    }
+
     private UserResponse toResponse(User user) {
+        return toResponse(user, user.getPositions().stream()
+            .map(p -> new PositionBrief(p.getPositionId(), p.getName()))
+            .collect(Collectors.toList()));
+    }
+
+    private UserResponse toResponse(User user, List<PositionBrief> positions) {
         UserResponse res = new UserResponse();
         res.setUserId(user.getUserId());
         res.setEmail(user.getEmail());
@@ -427,10 +506,7 @@ public class UserService {
         res.setRole(user.getRole());
         res.setStatus(user.getStatus());
         res.setCreatedAt(user.getCreatedAt());
-        List<PositionBrief> pbList = user.getPositions().stream()
-            .map(p -> new PositionBrief(p.getPositionId(), p.getName()))
-            .collect(Collectors.toList());
-        res.setPositions(pbList);
+        res.setPositions(positions);
         return res;
     }
 
@@ -446,25 +522,26 @@ public class UserService {
         res.setDeactiveType(user.getDeactiveType());
         res.setDeactiveUntil(user.getDeactiveUntil());
         res.setCreatedAt(user.getCreatedAt());
-        List<PositionBrief> pbList = user.getPositions().stream()
-            .map(p -> new PositionBrief(p.getPositionId(), p.getName()))
-            .collect(Collectors.toList());
-        res.setPositions(pbList);
-        if (!user.getManagedCareers().isEmpty()) {
-            res.setCareerId(user.getManagedCareers().get(0).getCareerId());
-            res.setCareerName(user.getManagedCareers().get(0).getName());
-        } else if (!user.getManagedDepartments().isEmpty()) {
-            res.setDepartmentId(user.getManagedDepartments().get(0).getDepartmentId());
-            res.setDepartmentName(user.getManagedDepartments().get(0).getName());
-        } else if (!user.getManagedTeams().isEmpty()) {
-            res.setTeamId(user.getManagedTeams().get(0).getTeamId());
-            res.setTeamName(user.getManagedTeams().get(0).getName());
-        } else if (user.getDepartment() != null) {
-            List<TeamMember> tms = teamMemberRepository.findByUser_UserId(user.getUserId());
-            if (!tms.isEmpty()) {
-                res.setTeamId(tms.get(0).getTeam().getTeamId());
-                res.setTeamName(tms.get(0).getTeam().getName());
-            }
+        res.setPositions(loadPositions(List.of(user.getUserId())).getOrDefault(user.getUserId(), List.of()));
+
+        // First row of each kind, in priority order: managed career, department, team, then membership
+        Map<String, Object[]> scopes = new HashMap<>();
+        for (Object[] row : userRepository.findScopeRows(user.getUserId())) {
+            scopes.putIfAbsent((String) row[0], row);
+        }
+        Object[] scope;
+        if ((scope = scopes.get("CAREER")) != null) {
+            res.setCareerId(((Number) scope[1]).longValue());
+            res.setCareerName((String) scope[2]);
+        } else if ((scope = scopes.get("DEPARTMENT")) != null) {
+            res.setDepartmentId(((Number) scope[1]).longValue());
+            res.setDepartmentName((String) scope[2]);
+        } else if ((scope = scopes.get("TEAM")) != null) {
+            res.setTeamId(((Number) scope[1]).longValue());
+            res.setTeamName((String) scope[2]);
+        } else if (user.getDepartment() != null && (scope = scopes.get("MEMBER")) != null) {
+            res.setTeamId(((Number) scope[1]).longValue());
+            res.setTeamName((String) scope[2]);
         }
         return res;
     }
@@ -0,0 +1,60 @@
+package com.das.skillmatrix.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.das.skillmatrix.entity.Skill;
+import com.das.skillmatrix.entity.User;
+import com.das.skillmatrix.entity.UserSkillEvaluation;
+import com.das.skillmatrix.exception.ResourceNotFoundException;
+import com.das.skillmatrix.repository.SkillRepository;
+import com.das.skillmatrix.repository.UserRepository;
+import com.das.skillmatrix.repository.UserSkillEvaluationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class UserSkillEvaluationService {
+
+    private final UserSkillEvaluationRepository evaluationRepository;
+    private final UserRepository userRepository;
+    private final SkillRepository skillRepository;
+    private final SkillRollupService skillRollupService;
+
+    // Records a new evaluation; it becomes the user's latest score of that type for the skill
+    public UserSkillEvaluation record(Long userId, Long skillId, Long evaluatorId, int score, String evaluationType) {
+        if (score < 1 || score > 5) {
+            throw new IllegalArgumentException("INVALID_SCORE");
+        }
+        if (!"SELF".equals(evaluationType) && !"MANAGER".equals(evaluationType)) {
+            throw new IllegalArgumentException("INVALID_EVALUATION_TYPE");
+        }
+        // Evaluations of one user run one at a time, so two of them for the same skill and type
+        // cannot both apply their delta against the same previous score
+        User user = userRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new IllegalArgumentException("USER_NOT_FOUND"));
+        User evaluator = userId.equals(evaluatorId) ? user : userRepository.findById(evaluatorId)
+                .orElseThrow(() -> new IllegalArgumentException("USER_NOT_FOUND"));
+        Skill skill = skillRepository.findById(skillId)
+                .orElseThrow(() -> new ResourceNotFoundException("SKILL_NOT_FOUND"));
+
+        Integer previousScore = evaluationRepository
+                .findFirstByUser_UserIdAndSkill_SkillIdAndEvaluationTypeOrderByCreatedAtDescEvaluationIdDesc(
+                        userId, skillId, evaluationType)
+                .map(UserSkillEvaluation::getScore)
+                .orElse(null);
+
+        UserSkillEvaluation evaluation = new UserSkillEvaluation();
+        evaluation.setUser(user);
+        evaluation.setSkill(skill);
+        evaluation.setEvaluator(evaluator);
+        evaluation.setScore(score);
+        evaluation.setEvaluationType(evaluationType);
+        evaluationRepository.save(evaluation);
+
+        skillRollupService.applyEvaluation(userId, skillId, evaluationType, previousScore, score);
+        return evaluation;
+    }
+}
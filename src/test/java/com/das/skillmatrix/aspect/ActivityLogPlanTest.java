@@ -0,0 +1,78 @@
+package com.das.skillmatrix.aspect;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.das.skillmatrix.annotation.LogActivity;
+import com.das.skillmatrix.dto.response.TeamResponse;
+
+class ActivityLogPlanTest {
+
+    public static class Request {
+        public String getEmail() {
+            return "login@example.com";
+        }
+    }
+
+    static class Target {
+        @LogActivity(action = "CREATE_TEAM", entityType = "TEAM", entityId = "result.teamId")
+        public TeamResponse create(String name, Long departmentId) {
+            return null;
+        }
+
+        @LogActivity(action = "ADD", entityType = "TEAM")
+        public void addManager(Long teamId, Long userId, List<Long> extra) {
+        }
+
+        @LogActivity(action = "LOGIN", entityType = "USER")
+        public void login(Request request) {
+        }
+    }
+
+    private static ActivityLogPlan plan(String name, Class<?>... types) throws Exception {
+        Method m = Target.class.getMethod(name, types);
+        return ActivityLogPlan.compile(m, m.getAnnotation(LogActivity.class));
+    }
+
+    @Test
+    @DisplayName("entityId() should read the declared result property")
+    void entityId_shouldUseDeclaredResultProperty() throws Exception {
+        ActivityLogPlan plan = plan("create", String.class, Long.class);
+        TeamResponse res = new TeamResponse(7L, "Team", "desc", 3L, "Dept", null, null);
+
+        assertEquals(7L, plan.entityId(res, new Object[] { "Team", 3L }));
+    }
+
+    @Test
+    @DisplayName("entityId() should fall back to the first Long argument")
+    void entityId_shouldFallBackToFirstLongArg() throws Exception {
+        ActivityLogPlan plan = plan("addManager", Long.class, Long.class, List.class);
+
+        assertEquals(5L, plan.entityId(null, new Object[] { 5L, 9L, null }));
+    }
+
+    @Test
+    @DisplayName("metadata() should render supported arguments and skip nulls")
+    void metadata_shouldRenderArguments() throws Exception {
+        ActivityLogPlan plan = plan("create", String.class, Long.class);
+
+        String json = plan.metadata(new Object[] { "Say \"hi\"", null });
+
+        assertTrue(json.startsWith("{\""));
+        assertTrue(json.endsWith(": \"Say \\\"hi\\\"\"}"));
+        assertNull(plan.metadata(new Object[] { null, null }));
+    }
+
+    @Test
+    @DisplayName("email() should read getEmail from the argument")
+    void email_shouldUseArgumentGetter() throws Exception {
+        ActivityLogPlan plan = plan("login", Request.class);
+
+        assertEquals("login@example.com", plan.email(new Object[] { new Request() }));
+    }
+}
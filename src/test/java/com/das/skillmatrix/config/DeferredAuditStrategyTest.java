@@ -0,0 +1,137 @@
+package com.das.skillmatrix.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.envers.Audited;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.das.skillmatrix.service.EnversAuditWriter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// ASYNC mode end to end on H2: a real Envers session with DeferredAuditStrategy installed
+class DeferredAuditStrategyTest {
+
+    @Entity
+    @Audited
+    @Table(name = "deferred_audit_notes")
+    static class Note {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        String text;
+    }
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EnversAuditWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.connection.url", "jdbc:h2:mem:deferred-audit;DB_CLOSE_DELAY=-1")
+                .applySetting("hibernate.connection.username", "sa")
+                .applySetting("hibernate.hbm2ddl.auto", "create-drop")
+                .applySetting("org.hibernate.envers.audit_strategy", DeferredAuditStrategy.class.getName())
+                .build();
+        sessionFactory = new MetadataSources(registry).addAnnotatedClass(Note.class)
+                .buildMetadata().buildSessionFactory();
+        writer = new EnversAuditWriter(sessionFactory, meterRegistry, EnversAuditConfig.Mode.ASYNC,
+                100, 50, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    private void save(String text, boolean commit, FlushMode flushMode) {
+        try (Session session = sessionFactory.openSession()) {
+            session.setHibernateFlushMode(flushMode);
+            session.beginTransaction();
+            Note note = new Note();
+            note.text = text;
+            session.persist(note);
+            session.flush();
+            if (commit) {
+                session.getTransaction().commit();
+            } else {
+                session.getTransaction().rollback();
+            }
+        }
+    }
+
+    private double writtenByWriter() {
+        return meterRegistry.get("skillmatrix.envers.written").functionCounter().count();
+    }
+
+    private long auditRows() {
+        try (Session session = sessionFactory.openSession()) {
+            return session.createNativeQuery("SELECT COUNT(*) FROM deferred_audit_notes_aud", Long.class)
+                    .getSingleResult();
+        }
+    }
+
+    @Test
+    @DisplayName("a committed change should reach the _AUD table through the writer, not the transaction")
+    void commit_shouldDeferToWriter() {
+        writer.start();
+
+        save("committed", true, FlushMode.AUTO);
+        writer.stop();
+
+        assertEquals(1, auditRows());
+        assertEquals(1.0, writtenByWriter());
+    }
+
+    @Test
+    @DisplayName("a rolled back change should queue nothing")
+    void rollback_shouldQueueNothing() {
+        writer.start();
+
+        save("rolled back", false, FlushMode.AUTO);
+        writer.stop();
+
+        assertEquals(0, auditRows());
+        assertEquals(0.0, writtenByWriter());
+    }
+
+    @Test
+    @DisplayName("without an attached writer the row should be written in the transaction")
+    void detached_shouldWriteSynchronously() {
+        save("sync", true, FlushMode.AUTO);
+
+        assertEquals(1, auditRows());
+        assertEquals(0.0, writtenByWriter());
+    }
+
+    @Test
+    @DisplayName("under MANUAL flush the row from Envers' temporary session should still be deferred and written")
+    void manualFlush_shouldNotLoseRow() {
+        writer.start();
+
+        save("manual", true, FlushMode.MANUAL);
+        writer.stop();
+
+        // The temporary session shares the audited transaction, so its after-completion runs on commit
+        assertEquals(1, auditRows());
+        assertEquals(1.0, writtenByWriter());
+    }
+}
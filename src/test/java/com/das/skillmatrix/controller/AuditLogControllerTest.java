@@ -0,0 +1,98 @@
+package com.das.skillmatrix.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.das.skillmatrix.config.JwtAuthenticationFilter;
+import com.das.skillmatrix.dto.request.AuditLogFilterRequest;
+import com.das.skillmatrix.dto.request.CursorPageRequest;
+import com.das.skillmatrix.dto.response.AuditLogDetailResponse;
+import com.das.skillmatrix.dto.response.AuditLogResponse;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
+import com.das.skillmatrix.exception.ResourceNotFoundException;
+import com.das.skillmatrix.service.AuditLogQueryService;
+import com.das.skillmatrix.service.AuditLogQueryService.LogSource;
+import com.das.skillmatrix.service.ExportService;
+import com.das.skillmatrix.service.PermissionService;
+
+@WebMvcTest(controllers = AuditLogController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class AuditLogControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private AuditLogQueryService auditLogQueryService;
+    @MockBean
+    private ExportService exportService;
+    @MockBean
+    private PermissionService permissionService;
+    @MockBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    private final LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Test
+    @DisplayName("GET /api/logs/audit - should bind the filters and return a cursor page")
+    void search_success() throws Exception {
+        when(auditLogQueryService.search(eq(LogSource.AUDIT), any(AuditLogFilterRequest.class), any(CursorPageRequest.class)))
+                .thenReturn(new CursorPageResponse<>(List.of(
+                        new AuditLogResponse(5L, 7L, "u@test.com", "UPDATE_TEAM", "TEAM", 3L, createdAt)),
+                        20, "next", true, null));
+
+        mockMvc.perform(get("/api/logs/audit")
+                        .param("entityType", "TEAM")
+                        .param("entityId", "3")
+                        .param("from", "2026-03-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].id").value(5))
+                .andExpect(jsonPath("$.data.items[0].action").value("UPDATE_TEAM"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"));
+        verify(auditLogQueryService).search(eq(LogSource.AUDIT), argThat(f -> "TEAM".equals(f.getEntityType())
+                && Long.valueOf(3L).equals(f.getEntityId())
+                && LocalDateTime.of(2026, 3, 1, 0, 0).equals(f.getFrom())), any(CursorPageRequest.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/logs/{source} - should return 400 for an unknown source")
+    void search_invalidSource() throws Exception {
+        mockMvc.perform(get("/api/logs/security"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(auditLogQueryService);
+    }
+
+    @Test
+    @DisplayName("GET /api/logs/change/{id} - should return the payload")
+    void detail_success() throws Exception {
+        when(auditLogQueryService.detail(LogSource.CHANGE, 9L)).thenReturn(new AuditLogDetailResponse(
+                9L, 7L, "u@test.com", "UPDATE_TEAM", "TEAM", 3L, createdAt, null, "rename",
+                "[{\"field\":\"name\"}]"));
+
+        mockMvc.perform(get("/api/logs/change/9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.reason").value("rename"))
+                .andExpect(jsonPath("$.data.payload").value("[{\"field\":\"name\"}]"));
+    }
+
+    @Test
+    @DisplayName("GET /api/logs/audit/{id} - should return 404 when missing")
+    void detail_notFound() throws Exception {
+        when(auditLogQueryService.detail(LogSource.AUDIT, 404L)).thenThrow(new ResourceNotFoundException("LOG_NOT_FOUND"));
+
+        mockMvc.perform(get("/api/logs/audit/404"))
+                .andExpect(status().isNotFound());
+    }
+}
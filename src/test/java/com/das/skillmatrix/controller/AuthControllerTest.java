@@ -25,6 +25,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import jakarta.security.auth.message.AuthException;
 import jakarta.servlet.http.HttpServletRequest;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -82,7 +83,7 @@ class AuthControllerTest {
     void refresh_shouldReturnNewAccessToken_whenValidRequest() throws Exception {
         // Arrange
         RefreshTokenRequest request = new RefreshTokenRequest("old-refresh-token");
-        RefreshTokenResponse response = new RefreshTokenResponse("new-access-token");
+        RefreshTokenResponse response = new RefreshTokenResponse("new-access-token", "new-refresh-token");
 
         when(authService.refreshToken(any(RefreshTokenRequest.class))).thenReturn(response);
 
@@ -92,7 +93,8 @@ class AuthControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data.accessToken").value("new-access-token"));
+                .andExpect(jsonPath("$.data.accessToken").value("new-access-token"))
+                .andExpect(header().string("Set-Cookie", containsString("refresh_token=new-refresh-token")));
     }
 
     @Test
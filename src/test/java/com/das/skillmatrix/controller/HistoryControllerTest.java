@@ -0,0 +1,78 @@
+package com.das.skillmatrix.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.das.skillmatrix.config.JwtAuthenticationFilter;
+import com.das.skillmatrix.dto.request.CursorPageRequest;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
+import com.das.skillmatrix.dto.response.RevisionResponse;
+import com.das.skillmatrix.dto.response.TeamMembershipResponse;
+import com.das.skillmatrix.service.EntityHistoryService;
+import com.das.skillmatrix.service.PermissionService;
+
+@WebMvcTest(controllers = HistoryController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class HistoryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private EntityHistoryService entityHistoryService;
+    @MockBean
+    private PermissionService permissionService;
+    @MockBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Test
+    @DisplayName("GET /api/history/team-member/{id} - should return revisions newest first")
+    void history_success() throws Exception {
+        RevisionResponse revision = new RevisionResponse(12L, LocalDateTime.of(2025, 6, 1, 10, 0), "MOD",
+                Map.of("teamId", 3));
+        when(entityHistoryService.history(eq(EntityHistoryService.HistoryType.TEAM_MEMBER), eq(7L),
+                any(CursorPageRequest.class)))
+                .thenReturn(new CursorPageResponse<>(List.of(revision), 10, "next", true, null));
+
+        mockMvc.perform(get("/api/history/team-member/7").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].revision").value(12))
+                .andExpect(jsonPath("$.data.items[0].revisionType").value("MOD"))
+                .andExpect(jsonPath("$.data.items[0].values.teamId").value(3))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("GET /api/history/{type}/{id} - should return 400 for an unknown type")
+    void history_invalidType() throws Exception {
+        mockMvc.perform(get("/api/history/skill/1"))
+                .andExpect(status().isBadRequest());
+        verify(entityHistoryService, never()).history(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/history/team/{id}/members - should return members as of the date")
+    void teamMembersAsOf_success() throws Exception {
+        LocalDateTime at = LocalDateTime.of(2024, 1, 15, 9, 30);
+        when(entityHistoryService.teamMembersAsOf(5L, at)).thenReturn(List.of(
+                new TeamMembershipResponse(40L, 8L, "Nguyen Van A", "a@test.com", 2L, 31L)));
+
+        mockMvc.perform(get("/api/history/team/5/members").param("at", "2024-01-15T09:30:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].userId").value(8))
+                .andExpect(jsonPath("$.data[0].revision").value(31));
+    }
+}
@@ -0,0 +1,97 @@
+package com.das.skillmatrix.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.das.skillmatrix.config.JwtAuthenticationFilter;
+import com.das.skillmatrix.dto.response.SkillMatrixCell;
+import com.das.skillmatrix.dto.response.SkillMatrixColumn;
+import com.das.skillmatrix.dto.response.SkillMatrixResponse;
+import com.das.skillmatrix.dto.response.SkillMatrixRow;
+import com.das.skillmatrix.dto.response.SkillRollupResponse;
+import com.das.skillmatrix.entity.ScopeAccessLevel;
+import com.das.skillmatrix.service.ExportService;
+import com.das.skillmatrix.service.PermissionService;
+import com.das.skillmatrix.service.SkillMatrixService;
+import com.das.skillmatrix.service.SkillRollupService;
+
+@WebMvcTest(controllers = SkillMatrixController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class SkillMatrixControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private SkillMatrixService skillMatrixService;
+    @MockBean
+    private SkillRollupService skillRollupService;
+    @MockBean
+    private ExportService exportService;
+    @MockBean
+    private PermissionService permissionService;
+    @MockBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Test
+    @DisplayName("GET /api/skill-matrix/teams/{id} - should return the grid")
+    void team_success() throws Exception {
+        SkillMatrixResponse res = new SkillMatrixResponse("TEAM", 1L,
+                List.of(new SkillMatrixColumn(5L, "Java", 1, 4.0, null)),
+                List.of(new SkillMatrixRow(10L, "An", "an@x.com", 1, 0, 1,
+                        List.of(new SkillMatrixCell(0, 4, null, 5, 1)))));
+        when(skillMatrixService.teamMatrix(1L)).thenReturn(res);
+
+        mockMvc.perform(get("/api/skill-matrix/teams/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.scopeType").value("TEAM"))
+                .andExpect(jsonPath("$.data.skills[0].name").value("Java"))
+                .andExpect(jsonPath("$.data.users[0].userId").value(10))
+                .andExpect(jsonPath("$.data.users[0].cells[0].managerScore").value(4))
+                .andExpect(jsonPath("$.data.users[0].cells[0].gap").value(1));
+    }
+
+    @Test
+    @DisplayName("GET /api/skill-matrix/careers/{id} - should return 404 when career missing")
+    void career_notFound() throws Exception {
+        when(skillMatrixService.careerMatrix(9L)).thenThrow(new IllegalArgumentException("CAREER_NOT_FOUND"));
+
+        mockMvc.perform(get("/api/skill-matrix/careers/9"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/skill-matrix/departments/{id}/summary - should return rollups")
+    void departmentSummary_success() throws Exception {
+        when(skillRollupService.findByScope(ScopeAccessLevel.DEPARTMENT, 2L)).thenReturn(List.of(
+                new SkillRollupResponse(5L, "Java", "MANAGER", 3, 3.67, List.of(0, 0, 1, 2, 0))));
+
+        mockMvc.perform(get("/api/skill-matrix/departments/2/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].skillName").value("Java"))
+                .andExpect(jsonPath("$.data[0].count").value(3))
+                .andExpect(jsonPath("$.data[0].histogram[3]").value(2));
+    }
+
+    @Test
+    @DisplayName("POST /api/skill-matrix/rollups/rebuild - should rebuild rollups")
+    void rebuildRollups_success() throws Exception {
+        mockMvc.perform(post("/api/skill-matrix/rollups/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+
+        verify(skillRollupService).rebuildAll();
+    }
+}
@@ -23,6 +23,7 @@ import com.das.skillmatrix.dto.request.AddMemberByUserRequest;
 import com.das.skillmatrix.dto.request.EditMemberRequest;
 import com.das.skillmatrix.dto.response.PageResponse;
 import com.das.skillmatrix.dto.response.TeamMemberResponse;
+import com.das.skillmatrix.service.ExportService;
 import com.das.skillmatrix.service.PermissionService;
 import com.das.skillmatrix.service.TeamMemberService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -38,6 +39,8 @@ class TeamMemberControllerTest {
     @MockBean
     private TeamMemberService teamMemberService;
     @MockBean
+    private ExportService exportService;
+    @MockBean
     private PermissionService permissionService;
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
@@ -19,6 +19,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.das.skillmatrix.config.JwtAuthenticationFilter;
 import com.das.skillmatrix.dto.request.CreateUserRequest;
@@ -27,12 +29,17 @@ import com.das.skillmatrix.dto.request.UpdateUserRequest;
 import com.das.skillmatrix.dto.response.PageResponse;
 import com.das.skillmatrix.dto.response.PositionBrief;
 import com.das.skillmatrix.dto.response.UserDetailResponse;
+import com.das.skillmatrix.dto.response.UserImportError;
+import com.das.skillmatrix.dto.response.UserImportResponse;
 import com.das.skillmatrix.dto.response.UserResponse;
 import com.das.skillmatrix.entity.GeneralStatus;
 import com.das.skillmatrix.exception.GlobalExceptionHandler;
+import com.das.skillmatrix.export.ExportFormat;
 import com.das.skillmatrix.security.JwtUtil;
 import com.das.skillmatrix.service.CustomUserDetailsService;
+import com.das.skillmatrix.service.ExportService;
 import com.das.skillmatrix.service.PermissionService;
+import com.das.skillmatrix.service.UserImportService;
 import com.das.skillmatrix.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -51,6 +58,12 @@ class UserControllerTest {
     @MockBean
     UserService userService;
 
+    @MockBean
+    ExportService exportService;
+
+    @MockBean
+    UserImportService userImportService;
+
     @MockBean
     PermissionService permissionService;
 
@@ -97,6 +110,67 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.data.totalElements").value(2));
     }
 
+    // ===================== EXPORT =====================
+
+    @Test
+    @DisplayName("GET /api/users/export should stream an attachment in the requested format")
+    void export_shouldStreamAttachment() throws Exception {
+        StreamingResponseBody body = out -> out.write("User ID\r\n1\r\n".getBytes());
+        when(exportService.users(any(), any(), eq(ExportFormat.CSV))).thenReturn(body);
+
+        MvcResult result = mockMvc.perform(get("/api/users/export?format=csv&status=ACTIVE"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.csv\""))
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(content().string("User ID\r\n1\r\n"));
+    }
+
+    @Test
+    @DisplayName("GET /api/users/export should return 400 for an unknown format")
+    void export_shouldRejectUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/users/export?format=pdf"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+
+        verifyNoInteractions(exportService);
+    }
+
+    // ===================== IMPORT =====================
+
+    @Test
+    @DisplayName("POST /api/users/import should return the per-row report for a CSV body")
+    void import_shouldReturnReport() throws Exception {
+        UserImportResponse report = new UserImportResponse(2, 1, 1,
+                List.of(new UserImportError(2, "dup@test.com", "EMAIL_ALREADY_EXISTS")));
+        when(userImportService.importUsers(any(), argThat(t -> t.isCompatibleWith(MediaType.valueOf("text/csv")))))
+                .thenReturn(report);
+
+        mockMvc.perform(post("/api/users/import")
+                        .contentType("text/csv")
+                        .content("email,role,teamId,positionIds\nnew@test.com,STAFF,1,1\ndup@test.com,STAFF,1,1\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.created").value(1))
+                .andExpect(jsonPath("$.data.errors[0].row").value(2))
+                .andExpect(jsonPath("$.data.errors[0].error").value("EMAIL_ALREADY_EXISTS"));
+    }
+
+    @Test
+    @DisplayName("POST /api/users/import should return 400 for an unreadable file")
+    void import_shouldRejectInvalidFile() throws Exception {
+        when(userImportService.importUsers(any(), any())).thenThrow(new IllegalArgumentException("INVALID_IMPORT_FILE"));
+
+        mockMvc.perform(post("/api/users/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
     // ===================== LIST BY TEAM =====================
 
     @Test
@@ -0,0 +1,88 @@
+package com.das.skillmatrix.export;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RowWriterTest {
+
+    @Test
+    @DisplayName("CSV should quote separators, escape quotes and defuse formulas")
+    void csv_shouldQuoteAndDefuse() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RowWriter writer = ExportFormat.CSV.open(out);
+
+        writer.row("Name", "Note", "Score");
+        writer.row("Nguyen, An", "say \"hi\"", 4);
+        writer.row("=SUM(A1)", null, -2);
+        writer.finish();
+
+        assertEquals("\uFEFFName,Note,Score\r\n\"Nguyen, An\",\"say \"\"hi\"\"\",4\r\n'=SUM(A1),,-2\r\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("CSV should flush to the stream every FLUSH_EVERY rows")
+    void csv_shouldFlushPeriodically() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RowWriter writer = ExportFormat.CSV.open(out);
+
+        for (int i = 0; i < RowWriter.FLUSH_EVERY - 1; i++) {
+            writer.row(i);
+        }
+        int before = out.size();
+        writer.row("last");
+
+        assertTrue(out.size() > before);
+        assertEquals(RowWriter.FLUSH_EVERY, writer.rows());
+    }
+
+    @Test
+    @DisplayName("XLSX should be a zip with the workbook parts and one row per call")
+    void xlsx_shouldWriteWorkbook() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RowWriter writer = ExportFormat.XLSX.open(out);
+
+        writer.row("User ID", "Email");
+        writer.row(7L, "a<b>&c@x.com");
+        writer.finish();
+
+        Map<String, String> parts = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                parts.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertTrue(parts.keySet().containsAll(List.of("[Content_Types].xml", "_rels/.rels",
+                "xl/workbook.xml", "xl/_rels/workbook.xml.rels", "xl/worksheets/sheet1.xml")));
+        String sheet = parts.get("xl/worksheets/sheet1.xml");
+        assertTrue(sheet.endsWith("</sheetData></worksheet>"));
+        assertTrue(sheet.contains("<row><c><v>7</v></c>"));
+        assertTrue(sheet.contains("a&lt;b&gt;&amp;c@x.com"));
+    }
+
+    @Test
+    @DisplayName("XLSX escape() should drop control characters XML cannot carry")
+    void xlsx_escapeShouldDropControlCharacters() {
+        assertEquals("a\tb", XlsxRowWriter.escape("a\u0001\tb\u0000"));
+    }
+
+    @Test
+    @DisplayName("of() should accept either case and reject unknown formats")
+    void of_shouldParseFormat() {
+        assertEquals(ExportFormat.XLSX, ExportFormat.of("xlsx"));
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> ExportFormat.of("pdf"));
+        assertEquals("INVALID_EXPORT_FORMAT", ex.getMessage());
+    }
+}
@@ -0,0 +1,122 @@
+package com.das.skillmatrix.repository.specification;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.das.skillmatrix.dto.request.CursorPageRequest;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
+import com.das.skillmatrix.entity.Career;
+import com.das.skillmatrix.repository.CareerRepository;
+
+@ExtendWith(MockitoExtension.class)
+class KeysetSpecificationTest {
+
+    @Mock
+    private CareerRepository careerRepository;
+
+    private final Specification<Career> spec = (root, query, cb) -> cb.conjunction();
+
+    private static Career career(Long id, String name) {
+        Career c = new Career();
+        c.setCareerId(id);
+        c.setName(name);
+        return c;
+    }
+
+    private static CursorPageRequest request(String cursor, int size, boolean withTotal) {
+        CursorPageRequest request = new CursorPageRequest();
+        request.setCursor(cursor);
+        request.setSize(size);
+        request.setWithTotal(withTotal);
+        return request;
+    }
+
+    @Test
+    @DisplayName("KeysetCursor should survive an encode/decode round trip")
+    void cursor_roundTrip() {
+        KeysetCursor cursor = new KeysetCursor("createdAt", Sort.Direction.DESC, 42L,
+                LocalDateTime.of(2024, 5, 1, 10, 15, 30, 123456000).toString());
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+
+        KeysetCursor withNull = new KeysetCursor("name", Sort.Direction.ASC, 7L, null);
+        assertEquals(withNull, KeysetCursor.decode(withNull.encode()));
+    }
+
+    @Test
+    @DisplayName("KeysetCursor.decode() should reject tampered input")
+    void cursor_invalid() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> KeysetCursor.decode("not-a-cursor!"));
+        assertEquals("INVALID_CURSOR", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("page() should fetch size + 1 rows, emit a cursor for the last row and skip COUNT")
+    void page_hasNext_withoutTotal() {
+        List<Career> rows = new ArrayList<>(List.of(career(1L, "A"), career(2L, "B"), career(3L, "C")));
+        doReturn(rows).when(careerRepository).findBy(any(Specification.class), any());
+
+        CursorPageResponse<String> res = KeysetSpecification.page(careerRepository, spec,
+                Sort.by("name"), "careerId", request(null, 2, false), Career::getName);
+
+        assertEquals(List.of("A", "B"), res.getItems());
+        assertTrue(res.isHasNext());
+        assertNull(res.getTotalElements());
+        KeysetCursor next = KeysetCursor.decode(res.getNextCursor());
+        assertEquals("name", next.property());
+        assertEquals(2L, next.id());
+        assertEquals("B", next.value());
+        verify(careerRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("page() on the last page should return no cursor and count only on request")
+    void page_lastPage_withTotal() {
+        doReturn(new ArrayList<>(List.of(career(5L, "E")))).when(careerRepository).findBy(any(Specification.class), any());
+        when(careerRepository.count(any(Specification.class))).thenReturn(5L);
+        String cursor = new KeysetCursor("name", Sort.Direction.ASC, 4L, "D").encode();
+
+        CursorPageResponse<String> res = KeysetSpecification.page(careerRepository, spec,
+                Sort.by("name"), "careerId", request(cursor, 2, true), Career::getName);
+
+        assertEquals(List.of("E"), res.getItems());
+        assertFalse(res.isHasNext());
+        assertNull(res.getNextCursor());
+        assertEquals(5L, res.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("page() should reject a cursor produced for a different sort")
+    void page_cursorSortMismatch() {
+        String cursor = new KeysetCursor("createdAt", Sort.Direction.DESC, 4L, "2024-01-01T00:00").encode();
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> KeysetSpecification.page(careerRepository, spec, Sort.by("name"), "careerId",
+                        request(cursor, 2, false), Career::getName));
+        assertEquals("INVALID_CURSOR", ex.getMessage());
+        verifyNoInteractions(careerRepository);
+    }
+
+    @Test
+    @DisplayName("page() should reject more than one sort property")
+    void page_multipleSorts() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> KeysetSpecification.page(careerRepository, spec, Sort.by("name", "createdAt"), "careerId",
+                        request(null, 2, false), Career::getName));
+        assertEquals("INVALID_SORT", ex.getMessage());
+    }
+}
@@ -0,0 +1,111 @@
+package com.das.skillmatrix.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class JobLockTest {
+
+    @Mock private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private JobLock jobLock;
+
+    @BeforeEach
+    void setUp() {
+        jobLock = new JobLock(jdbcTemplate, Duration.ofMinutes(10), Duration.ofMinutes(5), 90);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobLock.shutdown();
+    }
+
+    @Test
+    @DisplayName("run() should take an expired lease, run the job and record the run")
+    void run_shouldRunJobWhenLeaseExpired() {
+        when(jdbcTemplate.update(anyString(), anyMap())).thenReturn(1);
+
+        boolean ran = jobLock.run("team-cleanup", () -> 42);
+
+        assertTrue(ran);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+        verify(jdbcTemplate).update(startsWith("INSERT INTO scheduler_runs"), params.capture());
+        assertEquals(42L, params.getValue().get("rows"));
+        assertEquals("SUCCESS", params.getValue().get("status"));
+        verify(jdbcTemplate, never()).update(startsWith("INSERT INTO scheduler_locks"), anyMap());
+    }
+
+    @Test
+    @DisplayName("run() should keep the lock for at-least after the start when the job is quick")
+    void run_shouldHoldLockForMinimumAfterRelease() {
+        when(jdbcTemplate.update(anyString(), anyMap())).thenReturn(1);
+        LocalDateTime before = LocalDateTime.now();
+
+        jobLock.run("team-cleanup", () -> 0);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+        verify(jdbcTemplate).update(startsWith("UPDATE scheduler_locks SET locked_until = :until WHERE"),
+                params.capture());
+        LocalDateTime until = (LocalDateTime) params.getValue().get("until");
+        assertFalse(until.isBefore(before.plusMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("run() should create the lock row on the first run of a job")
+    void run_shouldInsertLockOnFirstRun() {
+        when(jdbcTemplate.update(anyString(), anyMap())).thenReturn(1);
+        when(jdbcTemplate.update(contains("locked_until <= :now"), anyMap())).thenReturn(0);
+
+        assertTrue(jobLock.run("career-cleanup", () -> 0));
+
+        verify(jdbcTemplate).update(startsWith("INSERT INTO scheduler_locks"), anyMap());
+    }
+
+    @Test
+    @DisplayName("run() should skip the job while another node holds the lease")
+    void run_shouldSkipWhenLockedElsewhere() {
+        when(jdbcTemplate.update(contains("locked_until <= :now"), anyMap())).thenReturn(0);
+        when(jdbcTemplate.update(startsWith("INSERT INTO scheduler_locks"), anyMap()))
+                .thenThrow(new DuplicateKeyException("scheduler_locks"));
+
+        boolean ran = jobLock.run("career-cleanup", () -> fail("job must not run"));
+
+        assertFalse(ran);
+        verify(jdbcTemplate, never()).update(startsWith("INSERT INTO scheduler_runs"), anyMap());
+    }
+
+    @Test
+    @DisplayName("run() should record a failed run, release the lock and rethrow")
+    void run_shouldRecordFailure() {
+        when(jdbcTemplate.update(anyString(), anyMap())).thenReturn(1);
+
+        assertThrows(IllegalStateException.class, () -> jobLock.run("user-reactivation", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+        verify(jdbcTemplate).update(startsWith("INSERT INTO scheduler_runs"), params.capture());
+        assertEquals("FAILED", params.getValue().get("status"));
+        assertTrue(((String) params.getValue().get("error")).contains("boom"));
+        verify(jdbcTemplate).update(startsWith("UPDATE scheduler_locks SET locked_until = :until WHERE"), anyMap());
+    }
+}
@@ -0,0 +1,113 @@
+package com.das.skillmatrix.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class LogPartitionManagerTest {
+
+    private static final YearMonth NOW = YearMonth.of(2026, 10);
+
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path archiveDir;
+
+    private LogPartitionManager manager(Path dir) {
+        return new LogPartitionManager(jdbcTemplate, new ObjectMapper(), true, 3, 12, 24, dir.toString());
+    }
+
+    private void partitions(String table, String... names) {
+        when(jdbcTemplate.queryForList(contains("information_schema.partitions"), eq(String.class), eq(table)))
+                .thenReturn(List.of(names));
+    }
+
+    @Test
+    @DisplayName("maintain() should archive and drop only the partitions past each table's retention")
+    void maintain_shouldDropExpiredPartitions() {
+        partitions("audit_logs", "p202409", "p202510", "p202701", "pmax");
+        // 24 months for change logs: 2024-09 is past it, 2024-10 and 2025-01 are not
+        partitions("business_change_logs", "p202409", "p202410", "p202501", "p202701", "pmax");
+
+        int dropped = manager(archiveDir).maintain(NOW);
+
+        assertEquals(2, dropped);
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs DROP PARTITION p202409");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE audit_logs DROP PARTITION p202510");
+        verify(jdbcTemplate).execute("ALTER TABLE business_change_logs DROP PARTITION p202409");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE business_change_logs DROP PARTITION p202410");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE business_change_logs DROP PARTITION p202501");
+        verify(jdbcTemplate, never()).execute(contains("REORGANIZE"));
+        assertTrue(Files.exists(archiveDir.resolve("audit_logs/audit_logs-202409.jsonl.gz")));
+        assertTrue(Files.exists(archiveDir.resolve("business_change_logs/business_change_logs-202409.jsonl.gz")));
+    }
+
+    @Test
+    @DisplayName("maintain() should split the coming months off pmax")
+    void maintain_shouldAddPartitionsAhead() {
+        partitions("audit_logs", "p202510", "pmax");
+        partitions("business_change_logs", "p202701", "pmax");
+
+        manager(archiveDir).maintain(NOW);
+
+        verify(jdbcTemplate).execute(startsWith("ALTER TABLE audit_logs REORGANIZE PARTITION pmax INTO ("
+                + "PARTITION p202511 VALUES LESS THAN ('2025-12-01'), "));
+        verify(jdbcTemplate).execute(endsWith("PARTITION p202701 VALUES LESS THAN ('2027-02-01'), "
+                + "PARTITION pmax VALUES LESS THAN (MAXVALUE))"));
+    }
+
+    @Test
+    @DisplayName("maintain() should keep a partition whose archive cannot be written")
+    void maintain_shouldKeepPartitionWhenArchiveFails() throws IOException {
+        Path notADirectory = Files.createFile(archiveDir.resolve("archive"));
+        partitions("audit_logs", "p202409", "p202701", "pmax");
+        partitions("business_change_logs", "p202701", "pmax");
+
+        int dropped = manager(notADirectory).maintain(NOW);
+
+        assertEquals(0, dropped);
+        verify(jdbcTemplate, never()).execute(contains("DROP PARTITION"));
+    }
+
+    @Test
+    @DisplayName("prepare() should partition an unpartitioned table and never retire a month")
+    void prepare_shouldConvertWithoutDropping() {
+        partitions("audit_logs");
+        partitions("business_change_logs", "p200001", "p209912", "pmax");
+
+        int converted = manager(archiveDir).prepare();
+
+        assertEquals(1, converted);
+        verify(jdbcTemplate).execute(startsWith("ALTER TABLE audit_logs PARTITION BY RANGE COLUMNS (created_at)"));
+        verify(jdbcTemplate, never()).execute(contains("DROP PARTITION"));
+        verify(jdbcTemplate, never()).execute(startsWith("ALTER TABLE business_change_logs"));
+    }
+
+    @Test
+    @DisplayName("definitions() should bound each month by the first day of the next")
+    void definitions_shouldEndWithCatchAll() {
+        String sql = LogPartitionManager.definitions(LogPartitionManager.months(YearMonth.of(2025, 12), YearMonth.of(2026, 1)));
+
+        assertEquals("PARTITION p202512 VALUES LESS THAN ('2026-01-01'), "
+                + "PARTITION p202601 VALUES LESS THAN ('2026-02-01'), "
+                + "PARTITION pmax VALUES LESS THAN (MAXVALUE)", sql);
+        assertNull(LogPartitionManager.monthOf("pmax"));
+    }
+}
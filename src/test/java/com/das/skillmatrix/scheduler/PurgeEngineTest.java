@@ -0,0 +1,108 @@
+package com.das.skillmatrix.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class PurgeEngineTest {
+
+    @Mock private NamedParameterJdbcTemplate jdbcTemplate;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<Long>> closureRemoved = new ArrayList<>();
+    private final LocalDateTime cutoff = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private PurgeEngine purgeEngine;
+    private PurgeEngine.Plan plan;
+
+    @BeforeEach
+    void setUp() {
+        purgeEngine = new PurgeEngine(jdbcTemplate, transactionManager, meterRegistry, 2);
+        plan = new PurgeEngine.Plan("teams", "team_id",
+                List.of("DELETE FROM team_managers WHERE team_id IN (:ids)"), closureRemoved::add);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void candidates(List<Long>... chunks) {
+        var stub = when(jdbcTemplate.queryForList(startsWith("SELECT team_id FROM teams WHERE status"), anyMap(),
+                eq(Long.class)));
+        for (List<Long> chunk : chunks) {
+            stub = stub.thenReturn(chunk);
+        }
+    }
+
+    private void locked(List<Long> ids) {
+        when(jdbcTemplate.queryForList(contains("FOR UPDATE"), eq(Map.of("ids", ids, "cutoff", cutoff)), eq(Long.class)))
+                .thenReturn(ids);
+    }
+
+    @Test
+    @DisplayName("purgeDeleted() should walk the ids in keyset chunks, deleting dependents first")
+    void purgeDeleted_shouldDeleteInChunks() {
+        candidates(List.of(1L, 2L), List.of(5L));
+        locked(List.of(1L, 2L));
+        locked(List.of(5L));
+        when(jdbcTemplate.update(startsWith("DELETE FROM team_managers"), anyMap())).thenReturn(0);
+        when(jdbcTemplate.update(startsWith("DELETE FROM teams"), anyMap())).thenReturn(2, 1);
+
+        PurgeEngine.Result result = purgeEngine.purgeDeleted(plan, cutoff);
+
+        assertEquals(3, result.deleted());
+        assertEquals(0, result.failedChunks());
+        assertEquals(List.of(List.of(1L, 2L), List.of(5L)), closureRemoved);
+        verify(jdbcTemplate).update("DELETE FROM team_managers WHERE team_id IN (:ids)", Map.of("ids", List.of(5L)));
+        verify(jdbcTemplate, times(2)).queryForList(startsWith("SELECT team_id FROM teams WHERE status"),
+                anyMap(), eq(Long.class));
+        assertEquals(3.0, meterRegistry.get("skillmatrix.purge.rows").tag("table", "teams").counter().count());
+        assertEquals(1, meterRegistry.get("skillmatrix.purge.duration").tag("table", "teams").timer().count());
+    }
+
+    @Test
+    @DisplayName("purgeDeleted() should leave rows restored since the scan alone")
+    void purgeDeleted_shouldSkipRestoredRows() {
+        candidates(List.of(1L));
+        when(jdbcTemplate.queryForList(contains("FOR UPDATE"), anyMap(), eq(Long.class))).thenReturn(List.of());
+
+        PurgeEngine.Result result = purgeEngine.purgeDeleted(plan, cutoff);
+
+        assertEquals(0, result.deleted());
+        assertTrue(closureRemoved.isEmpty());
+        verify(jdbcTemplate, never()).update(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("purgeDeleted() should skip a failing chunk and carry on with the next")
+    void purgeDeleted_shouldContinuePastFailedChunk() {
+        candidates(List.of(1L, 2L), List.of(3L));
+        locked(List.of(1L, 2L));
+        locked(List.of(3L));
+        when(jdbcTemplate.update(startsWith("DELETE FROM team_managers"), anyMap())).thenReturn(0);
+        when(jdbcTemplate.update(startsWith("DELETE FROM teams"), anyMap()))
+                .thenThrow(new DataIntegrityViolationException("fk"))
+                .thenReturn(1);
+
+        PurgeEngine.Result result = purgeEngine.purgeDeleted(plan, cutoff);
+
+        assertEquals(1, result.deleted());
+        assertEquals(1, result.failedChunks());
+        verify(transactionManager).rollback(any());
+    }
+}
@@ -0,0 +1,75 @@
+package com.das.skillmatrix.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.das.skillmatrix.entity.User;
+
+class AuthenticationCacheTest {
+
+    private AuthenticationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AuthenticationCache(2);
+    }
+
+    private static AuthenticatedUser principal(Long id) {
+        User u = new User();
+        u.setUserId(id);
+        u.setEmail("user" + id + "@example.com");
+        u.setPasswordHash("hash");
+        u.setRole("STAFF");
+        return AuthenticatedUser.of(u);
+    }
+
+    private static long inOneHour() {
+        return System.currentTimeMillis() + 3600000L;
+    }
+
+    @Test
+    @DisplayName("get() should return the cached principal for the same token")
+    void get_shouldReturnCachedPrincipal() {
+        AuthenticatedUser p = principal(1L);
+        cache.put("token-a", inOneHour(), p);
+
+        assertSame(p, cache.get("token-a"));
+        assertNull(cache.get("token-b"));
+    }
+
+    @Test
+    @DisplayName("get() should not serve entries past the token expiry")
+    void get_shouldDropExpiredEntries() {
+        cache.put("token-a", System.currentTimeMillis() - 1, principal(1L));
+
+        assertNull(cache.get("token-a"));
+    }
+
+    @Test
+    @DisplayName("evictUser() should remove every token of that user")
+    void evictUser_shouldRemoveAllTokensOfUser() {
+        cache.put("token-a", inOneHour(), principal(1L));
+        cache.put("token-b", inOneHour(), principal(2L));
+
+        cache.evictUser(1L);
+
+        assertNull(cache.get("token-a"));
+        assertNotNull(cache.get("token-b"));
+    }
+
+    @Test
+    @DisplayName("put() should evict the least recently used entry when full")
+    void put_shouldStayBounded() {
+        cache.put("token-a", inOneHour(), principal(1L));
+        cache.put("token-b", inOneHour(), principal(2L));
+        cache.get("token-a");
+        cache.put("token-c", inOneHour(), principal(3L));
+
+        assertNotNull(cache.get("token-a"));
+        assertNull(cache.get("token-b"));
+        assertNotNull(cache.get("token-c"));
+    }
+}
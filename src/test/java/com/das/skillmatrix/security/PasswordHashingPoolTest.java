@@ -0,0 +1,107 @@
+package com.das.skillmatrix.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.das.skillmatrix.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingPoolTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        callers = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    // Occupies the pool's only thread until release, even after the blocking call itself
+    // times out and cancels its future (which interrupts the worker)
+    private void blockWorker(PasswordHashingPool pool) throws InterruptedException {
+        callers.submit(() -> pool.call(() -> {
+            started.countDown();
+            while (true) {
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ignored) {
+                    // keep holding the thread
+                }
+            }
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("call() should run the work on a pool thread and return its result")
+    void call_shouldRunOnPoolThread() {
+        PasswordHashingPool pool = new PasswordHashingPool(1, 4, 1000, true);
+
+        String thread = pool.call(() -> Thread.currentThread().getName());
+
+        assertTrue(thread.startsWith("password-hash-"));
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("call() should shed with PASSWORD_HASHING_BUSY when the queue is full")
+    void call_shouldShedWhenQueueFull() throws Exception {
+        PasswordHashingPool pool = new PasswordHashingPool(1, 1, 5000, true);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        pool.bindTo(registry);
+        blockWorker(pool);
+        callers.submit(() -> pool.call(() -> true));
+        while (registry.get("skillmatrix.password.hashing.queue").gauge().value() < 1) {
+            Thread.sleep(5);
+        }
+
+        ServiceOverloadedException ex = assertThrows(ServiceOverloadedException.class, () -> pool.call(() -> true));
+
+        assertEquals("PASSWORD_HASHING_BUSY", ex.getMessage());
+        assertEquals(1.0, registry.get("skillmatrix.password.hashing.shed").functionCounter().count());
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("call() should shed when the hash waits longer than max-wait-ms")
+    void call_shouldShedAfterMaxWait() throws Exception {
+        PasswordHashingPool pool = new PasswordHashingPool(1, 4, 50, true);
+        blockWorker(pool);
+
+        assertThrows(ServiceOverloadedException.class, () -> pool.call(() -> true));
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("call() should hash on the caller thread when shedding is off and the queue is full")
+    void call_shouldRunOnCallerWhenNotShedding() throws Exception {
+        PasswordHashingPool pool = new PasswordHashingPool(1, 1, 5000, false);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        pool.bindTo(registry);
+        blockWorker(pool);
+        callers.submit(() -> pool.call(() -> true));
+        while (registry.get("skillmatrix.password.hashing.queue").gauge().value() < 1) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(Thread.currentThread().getName(), pool.call(() -> Thread.currentThread().getName()));
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,168 @@
+package com.das.skillmatrix.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.das.skillmatrix.dto.request.AuditLogFilterRequest;
+import com.das.skillmatrix.dto.request.CursorPageRequest;
+import com.das.skillmatrix.dto.response.AuditLogResponse;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
+import com.das.skillmatrix.repository.specification.KeysetCursor;
+import com.das.skillmatrix.service.AuditLogQueryService.LogSource;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogQueryServiceTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private AuditLogQueryService service;
+    private final LocalDateTime base = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        service = new AuditLogQueryService(jdbcTemplate, 4);
+    }
+
+    private AuditLogResponse row(long id, Long userId, String action) {
+        return new AuditLogResponse(id, userId, "u@test.com", action, "TEAM", 3L, base.minusMinutes(id));
+    }
+
+    private static CursorPageRequest page(int size) {
+        CursorPageRequest page = new CursorPageRequest();
+        page.setSize(size);
+        return page;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void scan(List<AuditLogResponse> rows) {
+        when(jdbcTemplate.query(anyString(), anyMap(), any(RowMapper.class))).thenReturn(new ArrayList<>(rows));
+    }
+
+    @Test
+    @DisplayName("search() should drive by the entity index and page with a (createdAt, id) cursor")
+    @SuppressWarnings("unchecked")
+    void search_shouldDriveByEntity() {
+        scan(List.of(row(1, 7L, "UPDATE_TEAM"), row(2, 7L, "UPDATE_TEAM"), row(3, 7L, "UPDATE_TEAM")));
+        AuditLogFilterRequest filter = new AuditLogFilterRequest();
+        filter.setEntityType("TEAM");
+        filter.setEntityId(3L);
+
+        CursorPageResponse<AuditLogResponse> res = service.search(LogSource.AUDIT, filter, page(2));
+
+        assertEquals(2, res.getItems().size());
+        assertTrue(res.isHasNext());
+        KeysetCursor cursor = KeysetCursor.decode(res.getNextCursor());
+        assertEquals(2L, cursor.id());
+        assertEquals(base.minusMinutes(2).toString(), cursor.value());
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("FROM audit_logs WHERE entity_type = :entityType AND entity_id = :entityId"));
+        assertFalse(sql.getValue().contains("metadata"));
+        assertEquals(3, params.getValue().get("limit"));
+    }
+
+    @Test
+    @DisplayName("search() should filter the remaining criteria over at most scan-limit rows")
+    @SuppressWarnings("unchecked")
+    void search_shouldApplyResidualFilterWithinScanLimit() {
+        scan(List.of(row(1, 7L, "LOGIN"), row(2, 7L, "UPDATE_TEAM"), row(3, 7L, "LOGIN"), row(4, 7L, "LOGIN")));
+        AuditLogFilterRequest filter = new AuditLogFilterRequest();
+        filter.setUserId(7L);
+        filter.setAction("UPDATE_TEAM");
+
+        CursorPageResponse<AuditLogResponse> res = service.search(LogSource.AUDIT, filter, page(2));
+
+        assertEquals(List.of(2L), res.getItems().stream().map(AuditLogResponse::getId).toList());
+        assertTrue(res.isHasNext());
+        assertEquals(4L, KeysetCursor.decode(res.getNextCursor()).id());
+        ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+        verify(jdbcTemplate).query(contains("WHERE user_id = :userId ORDER BY"), params.capture(), any(RowMapper.class));
+        assertEquals(4, params.getValue().get("limit"));
+    }
+
+    @Test
+    @DisplayName("search() should end the listing when the scan returns fewer rows than its limit")
+    void search_shouldStopWhenScanExhausted() {
+        scan(List.of(row(1, 7L, "LOGIN"), row(2, 7L, "UPDATE_TEAM")));
+        AuditLogFilterRequest filter = new AuditLogFilterRequest();
+        filter.setUserId(7L);
+        filter.setAction("UPDATE_TEAM");
+
+        CursorPageResponse<AuditLogResponse> res = service.search(LogSource.AUDIT, filter, page(2));
+
+        assertEquals(1, res.getItems().size());
+        assertFalse(res.isHasNext());
+        assertNull(res.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("search() should seek strictly after the cursor position")
+    @SuppressWarnings("unchecked")
+    void search_shouldSeekFromCursor() {
+        scan(List.of());
+        CursorPageRequest page = page(5);
+        page.setCursor(new KeysetCursor("createdAt", Sort.Direction.DESC, 9L, base.toString()).encode());
+
+        CursorPageResponse<AuditLogResponse> res = service.search(LogSource.CHANGE, new AuditLogFilterRequest(), page);
+
+        assertFalse(res.isHasNext());
+        ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+        verify(jdbcTemplate).query(contains("(created_at < :afterAt OR (created_at = :afterAt AND change_log_id < :afterId))"),
+                params.capture(), any(RowMapper.class));
+        assertEquals(base, params.getValue().get("afterAt"));
+        assertEquals(9L, params.getValue().get("afterId"));
+    }
+
+    @Test
+    @DisplayName("search() should reject an entity id without type and an empty time range")
+    void search_shouldValidateFilter() {
+        AuditLogFilterRequest byId = new AuditLogFilterRequest();
+        byId.setEntityId(3L);
+        assertEquals("ENTITY_TYPE_REQUIRED", assertThrows(IllegalArgumentException.class,
+                () -> service.search(LogSource.AUDIT, byId, page(5))).getMessage());
+
+        AuditLogFilterRequest range = new AuditLogFilterRequest();
+        range.setFrom(base);
+        range.setTo(base);
+        assertEquals("INVALID_TIME_RANGE", assertThrows(IllegalArgumentException.class,
+                () -> service.search(LogSource.AUDIT, range, page(5))).getMessage());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("exportQuery() should put every filter in SQL")
+    void exportQuery_shouldFilterInSql() {
+        AuditLogFilterRequest filter = new AuditLogFilterRequest();
+        filter.setEntityType("TEAM");
+        filter.setUserId(7L);
+        filter.setAction("UPDATE_TEAM");
+        filter.setFrom(base);
+
+        AuditLogQueryService.LogQuery query = service.exportQuery(LogSource.CHANGE, filter);
+
+        assertTrue(query.sql().contains("FROM business_change_logs WHERE entity_type = :entityType"
+                + " AND user_id = :userId AND action = :action AND created_at >= :from"));
+        assertTrue(query.sql().contains("reason AS extra"));
+        assertFalse(query.sql().contains("changes"));
+        assertEquals(base, query.params().get("from"));
+    }
+}
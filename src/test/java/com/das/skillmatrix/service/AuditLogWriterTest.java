@@ -0,0 +1,84 @@
+package com.das.skillmatrix.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.das.skillmatrix.entity.AuditLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogWriterTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private AuditLogWriter writer(int capacity, AuditLogWriter.OverflowPolicy policy) {
+        return new AuditLogWriter(jdbcTemplate, new ObjectMapper(), new SimpleMeterRegistry(),
+                capacity, 50, 10, policy, "target/audit-spill-test.jsonl");
+    }
+
+    private static AuditLog auditLog(String action, Long userId) {
+        AuditLog a = new AuditLog();
+        a.setAction(action);
+        a.setEntityType("CAREER");
+        a.setUserId(userId);
+        return a;
+    }
+
+    @Test
+    @DisplayName("submit() with DROP_OLDEST should keep the newest rows and count drops")
+    void submit_dropOldest_shouldCountDrops() {
+        AuditLogWriter writer = writer(2, AuditLogWriter.OverflowPolicy.DROP_OLDEST);
+
+        writer.submit(auditLog("A", 1L));
+        writer.submit(auditLog("B", 1L));
+        writer.submit(auditLog("C", 1L));
+
+        assertEquals(2, writer.queueDepth());
+        assertEquals(1, writer.droppedCount());
+    }
+
+    @Test
+    @DisplayName("flush() should write the whole batch with one JDBC batch call")
+    void flush_shouldUseSingleBatchInsert() {
+        AuditLogWriter writer = writer(10, AuditLogWriter.OverflowPolicy.DROP_OLDEST);
+        List<AuditLog> batch = new ArrayList<>();
+        batch.add(auditLog("A", 1L));
+        batch.add(auditLog("B", 2L));
+        batch.forEach(a -> a.setCreatedAt(java.time.LocalDateTime.now()));
+
+        writer.flush(batch);
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        assertEquals(0, writer.droppedCount());
+    }
+
+    @Test
+    @DisplayName("flush() should count the batch as dropped when the insert fails")
+    void flush_shouldCountDropsOnFailure() {
+        AuditLogWriter writer = writer(10, AuditLogWriter.OverflowPolicy.DROP_OLDEST);
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        AuditLog row = auditLog("A", 1L);
+        row.setCreatedAt(java.time.LocalDateTime.now());
+
+        writer.flush(new ArrayList<>(List.of(row)));
+
+        assertEquals(1, writer.droppedCount());
+    }
+}
@@ -6,21 +6,29 @@ import com.das.skillmatrix.dto.response.LoginResponse;
 import com.das.skillmatrix.dto.response.RefreshTokenResponse;
 import com.das.skillmatrix.entity.RefreshToken;
 import com.das.skillmatrix.entity.User;
+import com.das.skillmatrix.exception.ServiceOverloadedException;
 import com.das.skillmatrix.repository.RefreshTokenRepository;
 import com.das.skillmatrix.repository.UserRepository;
 import com.das.skillmatrix.security.JwtUtil;
+import com.das.skillmatrix.security.PasswordHashingPool;
 import jakarta.security.auth.message.AuthException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.util.Optional;
@@ -40,6 +48,12 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private PasswordHashingPool passwordHashingPool = new PasswordHashingPool(1, 4, 1000, true);
+
     @InjectMocks
     private AuthService authService;
 
@@ -48,6 +62,7 @@ class AuthServiceTest {
     @BeforeEach
     void setUp() {
         mockUser = new User();
+        mockUser.setUserId(1L);
         mockUser.setEmail("user@example.com");
         mockUser.setPasswordHash("encoded-password");
         mockUser.setRole("USER");
@@ -67,7 +82,8 @@ class AuthServiceTest {
 
         assertEquals("access-token", response.getAccessToken());
         assertEquals("refresh-token", response.getRefreshToken());
-        verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+        verify(refreshTokenRepository, times(1)).save(argThat((RefreshToken t) ->
+                t.getTokenHash().equals(AuthService.hash("refresh-token")) && t.getTokenHash().length() == 64));
     }
 
     @Test
@@ -93,19 +109,88 @@ class AuthServiceTest {
         assertEquals("WRONG_PASSWORD", ex.getMessage());
     }
 
+    @Test
+    @DisplayName("login() should re-hash the password when the stored cost is below the configured one")
+    void login_shouldUpgradeWeakHash() throws Exception {
+        ReflectionTestUtils.setField(authService, "rehashOnLogin", true);
+        LoginRequest request = new LoginRequest("user@example.com", "password");
+
+        when(userRepository.findUserByEmail("user@example.com")).thenReturn(mockUser);
+        when(passwordEncoder.matches("password", "encoded-password")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encoded-password")).thenReturn(true);
+        when(passwordEncoder.encode("password")).thenReturn("stronger-password");
+        when(jwtUtil.generateRefreshToken("user@example.com")).thenReturn("refresh-token");
+
+        authService.login(request);
+
+        verify(userRepository).updatePasswordHash(1L, "encoded-password", "stronger-password");
+    }
+
+    @Test
+    @DisplayName("login() should verify the password before opening the transaction that stores the token")
+    void login_shouldHashOutsideTransaction() throws Exception {
+        LoginRequest request = new LoginRequest("user@example.com", "password");
+
+        when(userRepository.findUserByEmail("user@example.com")).thenReturn(mockUser);
+        when(passwordEncoder.matches("password", "encoded-password")).thenReturn(true);
+        when(jwtUtil.generateRefreshToken("user@example.com")).thenReturn("refresh-token");
+
+        authService.login(request);
+
+        InOrder inOrder = inOrder(userRepository, passwordEncoder, transactionManager, refreshTokenRepository);
+        inOrder.verify(userRepository).findUserByEmail("user@example.com");
+        inOrder.verify(passwordEncoder).matches("password", "encoded-password");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(refreshTokenRepository).save(any(RefreshToken.class));
+        inOrder.verify(transactionManager).commit(any());
+        verify(userRepository, never()).updatePasswordHash(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("login() should fail fast when the hashing pool is saturated")
+    void login_shouldShed_whenHashingPoolBusy() {
+        LoginRequest request = new LoginRequest("user@example.com", "password");
+
+        when(userRepository.findUserByEmail("user@example.com")).thenReturn(mockUser);
+        doThrow(new ServiceOverloadedException("PASSWORD_HASHING_BUSY")).when(passwordHashingPool).call(any());
+
+        assertThrows(ServiceOverloadedException.class, () -> authService.login(request));
+        verify(passwordEncoder, never()).matches(any(), any());
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+        verifyNoInteractions(transactionManager);
+    }
+
     @Test
     @DisplayName("refreshToken() should return new access token when refresh token is valid")
     void refreshToken_shouldReturnNewAccessToken_whenValid() throws Exception {
         RefreshTokenRequest request = new RefreshTokenRequest("valid-refresh-token");
 
         when(jwtUtil.validateRefreshToken("valid-refresh-token")).thenReturn(true);
+        when(refreshTokenRepository.consume(eq(AuthService.hash("valid-refresh-token")), any())).thenReturn(1);
         when(jwtUtil.extractEmail("valid-refresh-token")).thenReturn("user@example.com");
         when(userRepository.findUserByEmail("user@example.com")).thenReturn(mockUser);
         when(jwtUtil.generateAccessToken("user@example.com", "USER")).thenReturn("new-access-token");
+        when(jwtUtil.generateRefreshToken("user@example.com")).thenReturn("rotated-refresh-token");
 
         RefreshTokenResponse response = authService.refreshToken(request);
 
         assertEquals("new-access-token", response.getAccessToken());
+        assertEquals("rotated-refresh-token", response.getRefreshToken());
+        verify(refreshTokenRepository).save(argThat((RefreshToken t) ->
+                t.getTokenHash().equals(AuthService.hash("rotated-refresh-token"))));
+    }
+
+    @Test
+    @DisplayName("refreshToken() should reject a token that was revoked or already rotated")
+    void refreshToken_shouldThrowException_whenAlreadyUsed() {
+        RefreshTokenRequest request = new RefreshTokenRequest("used-refresh-token");
+
+        when(jwtUtil.validateRefreshToken("used-refresh-token")).thenReturn(true);
+        when(refreshTokenRepository.consume(eq(AuthService.hash("used-refresh-token")), any())).thenReturn(0);
+
+        AuthException ex = assertThrows(AuthException.class, () -> authService.refreshToken(request));
+        assertEquals("Invalid or expired refresh token", ex.getMessage());
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
     }
 
     @Test
@@ -0,0 +1,85 @@
+package com.das.skillmatrix.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class BusinessChangeLogServiceTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BusinessChangeLogService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BusinessChangeLogService(jdbcTemplate, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(service);
+    }
+
+    @Test
+    @DisplayName("log() inside a transaction should write all changes in one batch after commit")
+    void log_shouldBatchUntilCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.log("CHANGE_TEAM_STATUS", "TEAM", 1L, "status", "ACTIVE", "DELETED");
+        service.log("CHANGE_TEAM_STATUS", "TEAM", 2L, "status", "ACTIVE", "DELETED");
+        service.log("CHANGE_TEAM_STATUS", "TEAM", 3L, "status", "ACTIVE", "DELETED");
+
+        verifyNoInteractions(jdbcTemplate);
+
+        List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, syncs.size());
+        syncs.forEach(TransactionSynchronization::afterCommit);
+
+        ArgumentCaptor<SqlParameterSource[]> captor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+        assertEquals(3, captor.getValue().length);
+    }
+
+    @Test
+    @DisplayName("log() outside a transaction should write immediately")
+    void log_shouldWriteImmediatelyWithoutTransaction() {
+        service.log("CREATE_USER", "USER", 5L, "email", null, "a@b.com");
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), any(SqlParameterSource[].class));
+    }
+
+    @Test
+    @DisplayName("ChangeLogEncoder should emit JSON nulls and escape control characters")
+    void encoder_shouldProduceValidJson() {
+        String json = ChangeLogEncoder.encode(List.of(
+                new BusinessChangeLogService.FieldChange("name", "a\"b", null),
+                new BusinessChangeLogService.FieldChange("desc", "line1\nline2", "x\\y")));
+
+        assertEquals("[{\"field\":\"name\",\"oldValue\":\"a\\\"b\",\"newValue\":null},"
+                + "{\"field\":\"desc\",\"oldValue\":\"line1\\nline2\",\"newValue\":\"x\\\\y\"}]", json);
+    }
+}
@@ -39,6 +39,12 @@ class CareerServiceTest {
     @Mock
     private BusinessChangeLogService businessChangeLogService;
 
+    @Mock
+    private ScopeClosureService scopeClosureService;
+
+    @Mock
+    private OrgHierarchyIndex orgHierarchyIndex;
+
     @InjectMocks
     private CareerService careerService;
 
@@ -237,6 +243,7 @@ class CareerServiceTest {
         assertEquals(1, c.getManagers().size());
         assertEquals(2L, c.getManagers().get(0).getUserId());
         verify(careerRepository).save(c);
+        verify(scopeClosureService).refreshUser(2L);
         verify(businessChangeLogService).log("ADD_CAREER_MANAGER", "CAREER", 1L, "managerId", null, "2");
     }
 
@@ -253,6 +260,7 @@ class CareerServiceTest {
 
         assertEquals(0, c.getManagers().size());
         verify(careerRepository).save(c);
+        verify(scopeClosureService).refreshUser(2L);
         verify(businessChangeLogService).log("REMOVE_CAREER_MANAGER", "CAREER", 1L, "managerId", "2", null);
     }
 }
\ No newline at end of file
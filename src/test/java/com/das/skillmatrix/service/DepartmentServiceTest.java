@@ -56,6 +56,15 @@ class DepartmentServiceTest {
     @Mock
     private BusinessChangeLogService businessChangeLogService;
 
+    @Mock
+    private ScopeClosureService scopeClosureService;
+
+    @Mock
+    private OrgHierarchyIndex orgHierarchyIndex;
+
+    @Mock
+    private SkillRollupService skillRollupService;
+
     @InjectMocks
     private DepartmentService departmentService;
 
@@ -160,6 +169,24 @@ class DepartmentServiceTest {
                 () -> departmentService.update(10L, req("Dev", "Desc", 2L)));
     }
 
+    @Test
+    @DisplayName("update() should refresh closure and skill rollups when moving career")
+    void update_shouldRefreshRollups_whenMovingCareer() {
+        Department d = department(10L, "Dev", GeneralStatus.ACTIVE, career(1L, GeneralStatus.ACTIVE));
+        Career newCareer = career(2L, GeneralStatus.ACTIVE);
+        when(departmentRepository.findById(10L)).thenReturn(Optional.of(d));
+        when(permissionService.isManagerDepartmentOnly()).thenReturn(false);
+        when(careerRepository.findByCareerIdAndStatus(2L, GeneralStatus.ACTIVE)).thenReturn(Optional.of(newCareer));
+        when(permissionService.canMoveDepartment(1L, 2L)).thenReturn(true);
+        when(departmentRepository.save(any(Department.class))).thenReturn(d);
+
+        DepartmentResponse res = departmentService.update(10L, req("Dev", "Desc", 2L));
+
+        assertEquals(2L, res.getCareerId());
+        verify(scopeClosureService).refreshDepartment(10L);
+        verify(skillRollupService).refreshDepartmentMove(10L, 1L);
+    }
+
     @Test
     @DisplayName("update() should block Manager Department from changing career")
     void update_shouldBlockManagerDepartment_whenChangingCareer() {
@@ -185,6 +212,7 @@ class DepartmentServiceTest {
 
         assertEquals("Career 1", res.getCareerName());
         assertNotNull(res.getCreatedAt());
+        verifyNoInteractions(skillRollupService);
     }
 
     // ===================== DELETE =====================
@@ -0,0 +1,244 @@
+package com.das.skillmatrix.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.das.skillmatrix.dto.request.CursorPageRequest;
+import com.das.skillmatrix.dto.response.CursorPageResponse;
+import com.das.skillmatrix.dto.response.RevisionResponse;
+import com.das.skillmatrix.dto.response.TeamMembershipResponse;
+import com.das.skillmatrix.entity.AuditLog;
+import com.das.skillmatrix.entity.BusinessChangeLog;
+import com.das.skillmatrix.entity.Career;
+import com.das.skillmatrix.entity.Department;
+import com.das.skillmatrix.entity.Notification;
+import com.das.skillmatrix.entity.Position;
+import com.das.skillmatrix.entity.PositionSkill;
+import com.das.skillmatrix.entity.RefreshToken;
+import com.das.skillmatrix.entity.SchedulerLock;
+import com.das.skillmatrix.entity.SchedulerRun;
+import com.das.skillmatrix.entity.Skill;
+import com.das.skillmatrix.entity.SkillRollup;
+import com.das.skillmatrix.entity.Team;
+import com.das.skillmatrix.entity.TeamMember;
+import com.das.skillmatrix.entity.UpskillDocument;
+import com.das.skillmatrix.entity.User;
+import com.das.skillmatrix.entity.UserReactivationQueue;
+import com.das.skillmatrix.entity.UserScopeClosure;
+import com.das.skillmatrix.entity.UserSearchDocument;
+import com.das.skillmatrix.entity.UserSearchGram;
+import com.das.skillmatrix.entity.UserSkill;
+import com.das.skillmatrix.entity.UserSkillEvaluation;
+import com.das.skillmatrix.entity.UserUpskillProgress;
+import com.das.skillmatrix.repository.specification.KeysetCursor;
+import com.das.skillmatrix.service.EntityHistoryService.HistoryType;
+
+// Runs the history queries against the _AUD tables Envers generates for the real entities
+// (H2 in MySQL mode, Spring Boot's naming strategies and the Envers settings of
+// application.properties), so a column the audit tables do not have fails here.
+class EntityHistoryServiceTest {
+
+    private static final String URL = "jdbc:h2:mem:entity-history;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private EntityHistoryService entityHistoryService;
+
+    private Career career;
+    private Department department;
+    private Team team;
+    private User user;
+    private TeamMember member;
+
+    @BeforeEach
+    void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.connection.url", URL)
+                .applySetting("hibernate.connection.username", "sa")
+                .applySetting("hibernate.hbm2ddl.auto", "create-drop")
+                .applySetting("hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .applySetting("hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName())
+                .applySetting("org.hibernate.envers.audit_table_suffix", "_AUD")
+                .applySetting("org.hibernate.envers.revision_field_name", "REV")
+                .applySetting("org.hibernate.envers.revision_type_field_name", "REVTYPE")
+                .applySetting("org.hibernate.envers.store_data_at_delete", "true")
+                .build();
+        MetadataSources sources = new MetadataSources(registry);
+        Stream.of(AuditLog.class, BusinessChangeLog.class, Career.class, Department.class, Notification.class,
+                Position.class, PositionSkill.class, RefreshToken.class, SchedulerLock.class, SchedulerRun.class,
+                Skill.class, SkillRollup.class, Team.class, TeamMember.class, UpskillDocument.class, User.class,
+                UserReactivationQueue.class, UserScopeClosure.class, UserSearchDocument.class,
+                UserSearchGram.class, UserSkill.class, UserSkillEvaluation.class, UserUpskillProgress.class)
+                .forEach(sources::addAnnotatedClass);
+        sessionFactory = sources.buildMetadata().buildSessionFactory();
+        entityHistoryService = new EntityHistoryService(
+                new NamedParameterJdbcTemplate(new DriverManagerDataSource(URL, "sa", "")));
+
+        inTransaction(session -> {
+            career = new Career();
+            career.setName("Engineering");
+            career.setCareerType("TECH");
+            session.persist(career);
+            department = new Department();
+            department.setName("Backend");
+            department.setCareer(career);
+            session.persist(department);
+            team = new Team();
+            team.setName("Payments");
+            team.setDepartment(department);
+            session.persist(team);
+            user = new User();
+            user.setEmail("ann@example.com");
+            user.setFullName("Ann");
+            user.setDepartment(department);
+            session.persist(user);
+            Position position = new Position();
+            position.setName("Developer");
+            session.persist(position);
+            member = new TeamMember();
+            member.setTeam(team);
+            member.setUser(user);
+            member.setPosition(position);
+            session.persist(member);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    private void inTransaction(Consumer<Session> work) {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            work.accept(session);
+            session.getTransaction().commit();
+        }
+    }
+
+    private void rename(String fullName) {
+        inTransaction(session -> session.find(User.class, user.getUserId()).setFullName(fullName));
+    }
+
+    private static CursorPageRequest page(int size, String cursor) {
+        CursorPageRequest page = new CursorPageRequest();
+        page.setSize(size);
+        page.setCursor(cursor);
+        page.setWithTotal(true);
+        return page;
+    }
+
+    @Test
+    @DisplayName("HistoryType.from() should accept path forms and reject unknown types")
+    void historyType_from() {
+        assertEquals(HistoryType.TEAM_MEMBER, HistoryType.from("team-member"));
+        assertEquals(HistoryType.USER, HistoryType.from("user"));
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> HistoryType.from("skill"));
+        assertEquals("INVALID_HISTORY_TYPE", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("history() should read the audited columns of every type from its _AUD table")
+    void history_shouldReadEveryType() {
+        assertHistory(HistoryType.CAREER, career.getCareerId(), "name", "Engineering");
+        assertHistory(HistoryType.DEPARTMENT, department.getDepartmentId(), "careerId", career.getCareerId());
+        assertHistory(HistoryType.TEAM, team.getTeamId(), "departmentId", department.getDepartmentId());
+        assertHistory(HistoryType.USER, user.getUserId(), "email", "ann@example.com");
+        assertHistory(HistoryType.TEAM_MEMBER, member.getId(), "userId", user.getUserId());
+    }
+
+    private void assertHistory(HistoryType type, Long id, String key, Object expected) {
+        CursorPageResponse<RevisionResponse> res = entityHistoryService.history(type, id, page(10, null));
+
+        assertEquals(1, res.getItems().size(), type.name());
+        RevisionResponse revision = res.getItems().get(0);
+        assertEquals("ADD", revision.getRevisionType());
+        // ids come back as the driver's numeric type, so compare their text
+        assertEquals(String.valueOf(expected), String.valueOf(revision.getValues().get(key)), type + "." + key);
+        assertFalse(revision.getValues().containsKey("updatedAt"));
+        assertEquals(1L, res.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("history() should page newest first and seek strictly before the cursor revision")
+    void history_shouldPageFromCursor() {
+        rename("Ann B");
+        rename("Ann C");
+
+        CursorPageResponse<RevisionResponse> first = entityHistoryService.history(HistoryType.USER, user.getUserId(),
+                page(2, null));
+
+        assertEquals(List.of("Ann C", "Ann B"),
+                first.getItems().stream().map(r -> r.getValues().get("fullName")).toList());
+        assertEquals("MOD", first.getItems().get(0).getRevisionType());
+        assertTrue(first.isHasNext());
+        assertEquals(3L, first.getTotalElements());
+        KeysetCursor next = KeysetCursor.decode(first.getNextCursor());
+        assertEquals(first.getItems().get(1).getRevision(), next.id());
+        assertEquals(Sort.Direction.DESC, next.direction());
+
+        CursorPageResponse<RevisionResponse> second = entityHistoryService.history(HistoryType.USER,
+                user.getUserId(), page(2, first.getNextCursor()));
+
+        assertEquals(1, second.getItems().size());
+        assertEquals("Ann", second.getItems().get(0).getValues().get("fullName"));
+        assertEquals("ADD", second.getItems().get(0).getRevisionType());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("history() should reject a cursor produced by another listing")
+    void history_shouldRejectForeignCursor() {
+        String cursor = new KeysetCursor("createdAt", Sort.Direction.DESC, 7L, "2025-01-01T00:00").encode();
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> entityHistoryService.history(HistoryType.TEAM, 3L, page(2, cursor)));
+        assertEquals("INVALID_CURSOR", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("teamMembersAsOf() should return nothing for a date before the first revision")
+    void teamMembersAsOf_shouldReturnEmptyBeforeHistory() {
+        assertTrue(entityHistoryService.teamMembersAsOf(team.getTeamId(), LocalDateTime.of(2020, 1, 1, 0, 0))
+                .isEmpty());
+    }
+
+    @Test
+    @DisplayName("teamMembersAsOf() should read memberships at the last revision before the date")
+    void teamMembersAsOf_shouldReadAtRevision() throws InterruptedException {
+        LocalDateTime beforeRemoval = LocalDateTime.now();
+        Thread.sleep(5);
+        inTransaction(session -> session.remove(session.find(TeamMember.class, member.getId())));
+
+        List<TeamMembershipResponse> then = entityHistoryService.teamMembersAsOf(team.getTeamId(), beforeRemoval);
+        List<TeamMembershipResponse> now = entityHistoryService.teamMembersAsOf(team.getTeamId(),
+                LocalDateTime.now());
+
+        assertEquals(1, then.size());
+        assertEquals(member.getId(), then.get(0).getTeamMemberId());
+        assertEquals(user.getUserId(), then.get(0).getUserId());
+        assertEquals("Ann", then.get(0).getFullName());
+        assertTrue(now.isEmpty());
+    }
+}
@@ -0,0 +1,101 @@
+package com.das.skillmatrix.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.das.skillmatrix.config.EnversAuditConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@ExtendWith(MockitoExtension.class)
+class EnversAuditWriterTest {
+
+    @Mock private EntityManagerFactory entityManagerFactory;
+    @Mock private SessionFactory sessionFactory;
+    @Mock private StatelessSession session;
+    @Mock private Transaction transaction;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EnversAuditWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        writer = new EnversAuditWriter(entityManagerFactory, meterRegistry, EnversAuditConfig.Mode.ASYNC, 100, 50, 10);
+    }
+
+    @Test
+    @DisplayName("rows submitted while running should all be written through stateless sessions by stop()")
+    void stop_shouldWriteQueuedRows() {
+        when(sessionFactory.openStatelessSession()).thenReturn(session);
+        when(session.beginTransaction()).thenReturn(transaction);
+        Map<String, Object> user = Map.of("fullName", "A");
+        Map<String, Object> team = Map.of("name", "T");
+
+        writer.start();
+        writer.submit("com.das.skillmatrix.entity.User_AUD", user);
+        writer.submit("com.das.skillmatrix.entity.Team_AUD", team);
+        writer.stop();
+
+        verify(session).insert("com.das.skillmatrix.entity.User_AUD", user);
+        verify(session).insert("com.das.skillmatrix.entity.Team_AUD", team);
+        verify(transaction, atLeastOnce()).commit();
+        verify(session, atLeastOnce()).close();
+        assertEquals(2.0, meterRegistry.get("skillmatrix.envers.written").functionCounter().count());
+        assertEquals(0.0, meterRegistry.get("skillmatrix.envers.queue.depth").gauge().value());
+    }
+
+    @Test
+    @DisplayName("submit() after stop() should write the row on the caller instead of queueing it")
+    void submit_shouldWriteSynchronouslyAfterStop() {
+        when(sessionFactory.openStatelessSession()).thenReturn(session);
+        when(session.beginTransaction()).thenReturn(transaction);
+        Map<String, Object> user = Map.of("fullName", "A");
+
+        writer.start();
+        writer.stop();
+        writer.submit("com.das.skillmatrix.entity.User_AUD", user);
+
+        verify(session).insert("com.das.skillmatrix.entity.User_AUD", user);
+        verify(transaction).commit();
+        assertEquals(1.0, meterRegistry.get("skillmatrix.envers.written").functionCounter().count());
+        assertEquals(0.0, meterRegistry.get("skillmatrix.envers.queue.depth").gauge().value());
+    }
+
+    @Test
+    @DisplayName("a failing batch should be rolled back and counted as failed")
+    void flush_shouldCountFailedBatch() {
+        when(sessionFactory.openStatelessSession()).thenReturn(session);
+        when(session.beginTransaction()).thenReturn(transaction);
+        doThrow(new IllegalStateException("db down")).when(session).insert(anyString(), any());
+
+        writer.submit("com.das.skillmatrix.entity.User_AUD", Map.of("fullName", "A"));
+        writer.stop();
+
+        verify(transaction).rollback();
+        verify(transaction, never()).commit();
+        assertEquals(1.0, meterRegistry.get("skillmatrix.envers.failed").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("the writer should only start itself in ASYNC mode")
+    void isAutoStartup_shouldFollowMode() {
+        assertTrue(writer.isAutoStartup());
+        assertFalse(new EnversAuditWriter(entityManagerFactory, meterRegistry, EnversAuditConfig.Mode.BATCHED, 100, 50, 10)
+                .isAutoStartup());
+    }
+}
@@ -0,0 +1,104 @@
+package com.das.skillmatrix.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import com.das.skillmatrix.repository.DepartmentRepository;
+import com.das.skillmatrix.repository.TeamRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OrgHierarchyIndexTest {
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private OrgHierarchyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // Career 1 -> Departments 10, 11; Career 2 -> Department 20
+        List<Object[]> departments = new ArrayList<>();
+        departments.add(new Object[] { 11L, 1L });
+        departments.add(new Object[] { 20L, 2L });
+        departments.add(new Object[] { 10L, 1L });
+        // Department 10 -> Teams 100, 101; Department 20 -> Team 200
+        List<Object[]> teams = new ArrayList<>();
+        teams.add(new Object[] { 101L, 10L });
+        teams.add(new Object[] { 200L, 20L });
+        teams.add(new Object[] { 100L, 10L });
+        lenient().when(departmentRepository.findAllCareerLinks()).thenReturn(departments);
+        lenient().when(teamRepository.findAllDepartmentLinks()).thenReturn(teams);
+    }
+
+    @Test
+    @DisplayName("departmentsOfCareers() should return descendants of each distinct career")
+    void departmentsOfCareers_shouldReturnDescendants() {
+        assertEquals(List.of(10L, 11L), index.departmentsOfCareers(List.of(1L, 1L)));
+        assertEquals(List.of(10L, 11L, 20L), index.departmentsOfCareers(List.of(1L, 2L)));
+        assertTrue(index.departmentsOfCareers(List.of(99L)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("teamsOfCareers() should walk both levels")
+    void teamsOfCareers_shouldWalkBothLevels() {
+        assertEquals(List.of(100L, 101L), index.teamsOfCareers(List.of(1L)));
+    }
+
+    @Test
+    @DisplayName("parent lookups should resolve career and department ids")
+    void parentLookups_shouldResolveAncestors() {
+        assertEquals(1L, index.careerOfDepartment(11L));
+        assertEquals(20L, index.departmentOfTeam(200L));
+        assertNull(index.departmentOfTeam(999L));
+        assertEquals(List.of(10L), index.departmentsOfTeams(List.of(100L, 101L)));
+        assertEquals(List.of(1L, 2L), index.careersOfDepartments(List.of(10L, 11L, 20L)));
+    }
+
+    @Test
+    @DisplayName("snapshot should be reused until invalidated")
+    void snapshot_shouldRebuildOnlyAfterInvalidate() {
+        index.departmentsOfCareers(List.of(1L));
+        index.teamsOfDepartments(List.of(10L));
+        verify(departmentRepository, times(1)).findAllCareerLinks();
+
+        long before = index.version();
+        index.invalidate();
+        assertEquals(before + 1, index.version());
+
+        index.departmentsOfCareers(List.of(1L));
+        verify(departmentRepository, times(2)).findAllCareerLinks();
+        verify(teamRepository, times(2)).findAllDepartmentLinks();
+    }
+
+    @Test
+    @DisplayName("rebuild should read the links in a new read-only transaction, not the caller's")
+    void rebuild_shouldUseOwnTransaction() {
+        index.departmentOfTeam(100L);
+
+        verify(transactionManager).getTransaction(argThat(def ->
+                def.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW && def.isReadOnly()));
+        verify(transactionManager).commit(any());
+    }
+}
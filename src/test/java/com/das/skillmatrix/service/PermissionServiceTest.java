@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,11 +19,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.das.skillmatrix.entity.ScopeAccessLevel;
 import com.das.skillmatrix.entity.User;
-import com.das.skillmatrix.repository.CareerRepository;
-import com.das.skillmatrix.repository.DepartmentRepository;
-import com.das.skillmatrix.repository.TeamRepository;
+import com.das.skillmatrix.repository.TeamMemberRepository;
 import com.das.skillmatrix.repository.UserRepository;
+import com.das.skillmatrix.repository.UserScopeClosureRepository;
+import com.das.skillmatrix.security.AuthenticatedUser;
 
 @ExtendWith(MockitoExtension.class)
 class PermissionServiceTest {
@@ -31,13 +33,10 @@ class PermissionServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private CareerRepository careerRepository;
+    private TeamMemberRepository teamMemberRepository;
 
     @Mock
-    private DepartmentRepository departmentRepository;
-
-    @Mock
-    private TeamRepository teamRepository;
+    private UserScopeClosureRepository scopeClosureRepository;
 
     @InjectMocks
     private PermissionService permissionService;
@@ -83,8 +82,7 @@ class PermissionServiceTest {
 
         assertTrue(permissionService.checkCareerAccess(1L));
 
-        verify(careerRepository, never())
-                .existsByCareerIdAndManagers_UserId(any(), any());
+        verifyNoInteractions(scopeClosureRepository);
     }
 
     @Test
@@ -96,7 +94,7 @@ class PermissionServiceTest {
         when(userRepository.findUserByEmail(normalUser.getEmail()))
                 .thenReturn(normalUser);
 
-        when(careerRepository.existsByCareerIdAndManagers_UserId(10L, 2L))
+        when(scopeClosureRepository.existsCareerScope(2L, 10L, List.of(ScopeAccessLevel.CAREER)))
                 .thenReturn(true);
 
         assertTrue(permissionService.checkCareerAccess(10L));
@@ -111,93 +109,94 @@ class PermissionServiceTest {
         when(userRepository.findUserByEmail(normalUser.getEmail()))
                 .thenReturn(normalUser);
 
-        when(departmentRepository.findCareerIdByDepartmentId(20L))
-                .thenReturn(Optional.of(10L));
-
-        when(careerRepository.existsByCareerIdAndManagers_UserId(10L, 2L))
-                .thenReturn(false);
-
-        when(departmentRepository.existsByDepartmentIdAndManagers_UserId(20L, 2L))
+        when(scopeClosureRepository.existsDepartmentScope(2L, 20L,
+                List.of(ScopeAccessLevel.CAREER, ScopeAccessLevel.DEPARTMENT)))
                 .thenReturn(true);
 
         assertTrue(permissionService.checkDepartmentAccess(20L));
     }
 
     @Test
-    @DisplayName("checkTeamAccess() should return true when user is career manager")
-    void checkTeamAccess_ShouldReturnTrueWhenCareerManager() {
+    @DisplayName("checkTeamAccess() should answer from a single closure lookup")
+    void checkTeamAccess_ShouldUseSingleClosureLookup() {
 
         mockSecurityContext(normalUser.getEmail());
 
         when(userRepository.findUserByEmail(normalUser.getEmail()))
                 .thenReturn(normalUser);
 
-        when(teamRepository.findCareerIdByTeamId(30L))
-                .thenReturn(Optional.of(10L));
-
-        when(careerRepository.existsByCareerIdAndManagers_UserId(10L, 2L))
+        when(scopeClosureRepository.existsTeamScope(2L, 30L,
+                List.of(ScopeAccessLevel.CAREER, ScopeAccessLevel.DEPARTMENT, ScopeAccessLevel.TEAM)))
                 .thenReturn(true);
 
         assertTrue(permissionService.checkTeamAccess(30L));
 
-        verify(departmentRepository, never())
-                .existsByDepartmentIdAndManagers_UserId(any(), any());
-
-        verify(teamRepository, never())
-                .existsByTeamIdAndManagers_UserId(any(), any());
+        verify(scopeClosureRepository, times(1)).existsTeamScope(any(), any(), any());
+        verifyNoMoreInteractions(scopeClosureRepository);
     }
 
     @Test
-    @DisplayName("checkTeamAccess() should return true when user is department manager")
-    void checkTeamAccess_ShouldReturnTrueWhenDepartmentManager() {
+    @DisplayName("checkTeamAccess() should return false when user has no scope over the team")
+    void checkTeamAccess_ShouldReturnFalseWithoutScope() {
 
         mockSecurityContext(normalUser.getEmail());
 
         when(userRepository.findUserByEmail(normalUser.getEmail()))
                 .thenReturn(normalUser);
 
-        when(teamRepository.findCareerIdByTeamId(30L))
-                .thenReturn(Optional.of(10L));
-
-        when(careerRepository.existsByCareerIdAndManagers_UserId(10L, 2L))
+        when(scopeClosureRepository.existsTeamScope(eq(2L), eq(30L), any()))
                 .thenReturn(false);
 
-        when(teamRepository.findDepartmentIdByTeamId(30L))
-                .thenReturn(Optional.of(20L));
+        assertFalse(permissionService.checkTeamAccess(30L));
+    }
+
+    @Test
+    @DisplayName("checkTeamMemberAccess() should resolve the team id without loading the member")
+    void checkTeamMemberAccess_ShouldUseTeamIdProjection() {
+
+        mockSecurityContext(normalUser.getEmail());
+
+        when(userRepository.findUserByEmail(normalUser.getEmail()))
+                .thenReturn(normalUser);
+
+        when(teamMemberRepository.findTeamIdById(40L))
+                .thenReturn(Optional.of(30L));
 
-        when(departmentRepository.existsByDepartmentIdAndManagers_UserId(20L, 2L))
+        when(scopeClosureRepository.existsTeamScope(eq(2L), eq(30L), any()))
                 .thenReturn(true);
 
-        assertTrue(permissionService.checkTeamAccess(30L));
+        assertTrue(permissionService.checkTeamMemberAccess(40L));
 
-        verify(teamRepository, never())
-                .existsByTeamIdAndManagers_UserId(any(), any());
+        verify(teamMemberRepository, never()).findById(any());
     }
 
     @Test
-    @DisplayName("checkTeamAccess() should return true when user is team manager")
-    void checkTeamAccess_ShouldReturnTrueWhenTeamManager() {
+    @DisplayName("checkMultiTeamAccess() should check all teams with one query")
+    void checkMultiTeamAccess_ShouldUseSingleCountQuery() {
 
         mockSecurityContext(normalUser.getEmail());
 
         when(userRepository.findUserByEmail(normalUser.getEmail()))
                 .thenReturn(normalUser);
 
-        when(teamRepository.findCareerIdByTeamId(30L))
-                .thenReturn(Optional.of(10L));
+        when(scopeClosureRepository.countTeamScopes(2L, Set.of(30L, 31L)))
+                .thenReturn(1L);
 
-        when(careerRepository.existsByCareerIdAndManagers_UserId(10L, 2L))
-                .thenReturn(false);
+        assertFalse(permissionService.checkMultiTeamAccess(List.of(30L, 31L, 30L)));
 
-        when(teamRepository.findDepartmentIdByTeamId(30L))
-                .thenReturn(Optional.of(20L));
+        verify(scopeClosureRepository, never()).existsTeamScope(any(), any(), any());
+    }
 
-        when(departmentRepository.existsByDepartmentIdAndManagers_UserId(20L, 2L))
-                .thenReturn(false);
+    @Test
+    @DisplayName("getCurrentUser() should reuse the filter-resolved principal without querying")
+    void getCurrentUser_ShouldReusePrincipalWithoutQuery() {
 
-        when(teamRepository.existsByTeamIdAndManagers_UserId(30L, 2L))
-                .thenReturn(true);
+        AuthenticatedUser principal = AuthenticatedUser.of(adminUser);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
 
-        assertTrue(permissionService.checkTeamAccess(30L));
+        assertSame(adminUser, permissionService.getCurrentUser());
+
+        verify(userRepository, never()).findUserByEmail(any());
     }
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.das.skillmatrix.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.das.skillmatrix.dto.response.SkillMatrixResponse;
+import com.das.skillmatrix.entity.Department;
+import com.das.skillmatrix.entity.GeneralStatus;
+import com.das.skillmatrix.entity.Team;
+import com.das.skillmatrix.repository.CareerRepository;
+import com.das.skillmatrix.repository.DepartmentRepository;
+import com.das.skillmatrix.repository.TeamRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SkillMatrixServiceTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private CareerRepository careerRepository;
+
+    @InjectMocks
+    private SkillMatrixService skillMatrixService;
+
+    @Test
+    @DisplayName("teamMatrix() should throw TEAM_NOT_FOUND for a deleted team")
+    void teamMatrix_shouldThrow_whenTeamDeleted() {
+        Team team = new Team();
+        team.setStatus(GeneralStatus.DELETED);
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(team));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> skillMatrixService.teamMatrix(1L));
+        assertEquals("TEAM_NOT_FOUND", ex.getMessage());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("departmentMatrix() should stop after the user query when nobody is in scope")
+    void departmentMatrix_shouldReturnEmpty_whenNoUsers() {
+        when(departmentRepository.findById(2L)).thenReturn(Optional.of(new Department()));
+
+        SkillMatrixResponse res = skillMatrixService.departmentMatrix(2L);
+
+        assertEquals("DEPARTMENT", res.getScopeType());
+        assertTrue(res.getUsers().isEmpty());
+        assertTrue(res.getSkills().isEmpty());
+        verify(jdbcTemplate, times(1)).query(anyString(),
+                any(SqlParameterSource.class),
+                any(RowCallbackHandler.class));
+    }
+
+    @Test
+    @DisplayName("teamMatrix() should read positions of the team's users only, not every membership")
+    void teamMatrix_shouldScopeUserPositions() throws Exception {
+        when(teamRepository.findById(3L)).thenReturn(Optional.of(new Team()));
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(7L);
+        doAnswer(inv -> {
+            inv.<RowCallbackHandler>getArgument(2).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        skillMatrixService.teamMatrix(3L);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(4)).query(sql.capture(), any(SqlParameterSource.class),
+                any(RowCallbackHandler.class));
+        String requirements = sql.getAllValues().get(2);
+        assertTrue(requirements.contains("FROM user_positions up WHERE up.user_id IN ("
+                + "SELECT tm.user_id FROM team_members tm WHERE tm.team_id = :scopeId"));
+        assertTrue(requirements.contains("WHERE tm.position_id IS NOT NULL AND tm.user_id IN ("
+                + "SELECT tm.user_id FROM team_members tm WHERE tm.team_id = :scopeId"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.das.skillmatrix.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.das.skillmatrix.dto.response.SkillMatrixResponse;
+import com.das.skillmatrix.dto.response.SkillMatrixRow;
+import com.das.skillmatrix.export.RowWriter;
+
+class SkillMatrixTest {
+
+    private SkillMatrix matrix;
+
+    @BeforeEach
+    void setUp() {
+        // Rows in display order (not id order): users 30, 10; columns: skills 7, 5
+        matrix = new SkillMatrix(new long[] { 30L, 10L }, new String[] { "An", "Binh" },
+                new String[] { "an@x.com", "binh@x.com" }, new long[] { 7L, 5L }, new String[] { "Java", "SQL" });
+    }
+
+    @Test
+    @DisplayName("evaluation() should keep the latest score per type and ignore unknown ids")
+    void evaluation_shouldKeepLatest() {
+        matrix.evaluation(10L, 5L, true, 2);
+        matrix.evaluation(10L, 5L, true, 4);
+        matrix.evaluation(10L, 5L, false, 3);
+        matrix.evaluation(99L, 5L, true, 5);
+        matrix.evaluation(10L, 99L, true, 5);
+
+        assertEquals(4, matrix.managerScore(1, 1));
+        assertEquals(3, matrix.selfScore(1, 1));
+        assertEquals(0, matrix.managerScore(0, 0));
+    }
+
+    @Test
+    @DisplayName("gap() should use the manager score, fall back to self and keep the highest requirement")
+    void gap_shouldPreferManagerScore() {
+        matrix.required(30L, 7L, 3);
+        matrix.required(30L, 7L, 4);
+        matrix.evaluation(30L, 7L, false, 4);
+        matrix.evaluation(30L, 7L, true, 2);
+        matrix.required(10L, 7L, 3);
+        matrix.evaluation(10L, 7L, false, 1);
+
+        assertEquals(4, matrix.requiredLevel(0, 0));
+        assertEquals(2, matrix.gap(0, 0));
+        assertEquals(2, matrix.gap(1, 0));
+        assertEquals(0, matrix.gap(0, 1));
+    }
+
+    @Test
+    @DisplayName("toResponse() should emit sparse cells, per-user totals and column averages")
+    void toResponse_shouldSummarize() {
+        matrix.required(30L, 7L, 3);
+        matrix.required(30L, 5L, 3);
+        matrix.evaluation(30L, 7L, true, 5);
+        matrix.evaluation(10L, 7L, true, 2);
+
+        SkillMatrixResponse res = matrix.toResponse("TEAM", 1L);
+
+        SkillMatrixRow an = res.getUsers().get(0);
+        assertEquals(30L, an.getUserId());
+        assertEquals(2, an.getRequiredSkills());
+        assertEquals(1, an.getMissingSkills());
+        assertEquals(3, an.getTotalGap());
+        assertEquals(2, an.getCells().size());
+
+        SkillMatrixRow binh = res.getUsers().get(1);
+        assertEquals(1, binh.getCells().size());
+        assertNull(binh.getCells().get(0).getRequiredLevel());
+        assertNull(binh.getCells().get(0).getGap());
+
+        assertEquals(7L, res.getSkills().get(0).getSkillId());
+        assertEquals(1, res.getSkills().get(0).getRequiredCount());
+        assertEquals(3.5, res.getSkills().get(0).getAverageManagerScore());
+        assertNull(res.getSkills().get(1).getAverageManagerScore());
+    }
+
+    @Test
+    @DisplayName("export() should write a header and one line per user with scores and totals")
+    void export_shouldWriteOneLinePerUser() throws Exception {
+        matrix.required(30L, 7L, 4);
+        matrix.evaluation(30L, 7L, false, 3);
+        matrix.required(10L, 5L, 2);
+        List<List<Object>> lines = new ArrayList<>();
+
+        matrix.export(new RowWriter() {
+            @Override
+            protected void write(Object[] values) {
+                lines.add(Arrays.asList(values.clone()));
+            }
+
+            @Override
+            protected void flush() {
+            }
+
+            @Override
+            public void finish() {
+            }
+        });
+
+        assertEquals(List.of("User ID", "Full name", "Email", "Java", "SQL", "Required skills", "Missing", "Total gap"),
+                lines.get(0));
+        assertEquals(Arrays.asList(30L, "An", "an@x.com", 3, null, 1, 0, 1), lines.get(1));
+        assertEquals(Arrays.asList(10L, "Binh", "binh@x.com", null, null, 1, 1, 2), lines.get(2));
+    }
+}
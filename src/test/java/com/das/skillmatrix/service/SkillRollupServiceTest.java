@@ -0,0 +1,228 @@
+package com.das.skillmatrix.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.das.skillmatrix.dto.response.SkillRollupResponse;
+import com.das.skillmatrix.entity.ScopeAccessLevel;
+import com.das.skillmatrix.entity.Skill;
+import com.das.skillmatrix.entity.SkillRollup;
+import com.das.skillmatrix.repository.SkillRepository;
+import com.das.skillmatrix.repository.SkillRollupRepository;
+import com.das.skillmatrix.scheduler.JobLock;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+class SkillRollupServiceTest {
+
+    @Mock private NamedParameterJdbcTemplate jdbcTemplate;
+    @Mock private SkillRollupRepository rollupRepository;
+    @Mock private SkillRepository skillRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private EntityManager entityManager;
+    @Mock private JobLock jobLock;
+
+    private SkillRollupService skillRollupService;
+
+    @BeforeEach
+    void setUp() {
+        skillRollupService = new SkillRollupService(jdbcTemplate, rollupRepository, skillRepository,
+                transactionManager, jobLock, 2);
+        ReflectionTestUtils.setField(skillRollupService, "entityManager", entityManager);
+    }
+
+    @Test
+    @DisplayName("applyEvaluation() should move one user between histogram buckets when a score is replaced")
+    void applyEvaluation_shouldApplyReplacementDelta() {
+        skillRollupService.applyEvaluation(1L, 5L, "MANAGER", 2, 4);
+
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(entityManager).flush();
+        verify(jdbcTemplate).update(contains("ON DUPLICATE KEY UPDATE"), params.capture());
+        SqlParameterSource p = params.getValue();
+        assertEquals(0, p.getValue("count"));
+        assertEquals(2, p.getValue("sum"));
+        assertEquals(0, p.getValue("s1"));
+        assertEquals(-1, p.getValue("s2"));
+        assertEquals(0, p.getValue("s3"));
+        assertEquals(1, p.getValue("s4"));
+        assertEquals(0, p.getValue("s5"));
+    }
+
+    @Test
+    @DisplayName("applyEvaluation() should filter every membership branch on the user, not the union")
+    void applyEvaluation_shouldFilterEachBranchOnUser() {
+        skillRollupService.applyEvaluation(1L, 5L, "MANAGER", null, 4);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).update(sql.capture(), any(SqlParameterSource.class));
+        assertEquals(5, sql.getValue().split("user_id = :userId", -1).length - 1);
+        assertFalse(sql.getValue().contains("WHERE m.user_id"));
+    }
+
+    @Test
+    @DisplayName("applyEvaluation() should journal the user's scopes while a rebuild holds its lease")
+    @SuppressWarnings("unchecked")
+    void applyEvaluation_shouldJournalDuringRebuild() {
+        when(jdbcTemplate.queryForList(contains("FROM scheduler_locks"), anyMap(), eq(Integer.class)))
+                .thenReturn(List.of(1));
+
+        skillRollupService.applyEvaluation(1L, 5L, "MANAGER", null, 4);
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).update(startsWith("INSERT IGNORE INTO skill_rollup_dirty_scopes"),
+                any(SqlParameterSource.class));
+        inOrder.verify(jdbcTemplate).update(contains("ON DUPLICATE KEY UPDATE"), any(SqlParameterSource.class));
+    }
+
+    @Test
+    @DisplayName("applyEvaluation() should count a user's first score of a type")
+    void applyEvaluation_shouldCountFirstScore() {
+        skillRollupService.applyEvaluation(1L, 5L, "SELF", null, 3);
+
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).update(anyString(), params.capture());
+        assertEquals(1, params.getValue().getValue("count"));
+        assertEquals(3, params.getValue().getValue("sum"));
+        assertEquals(1, params.getValue().getValue("s3"));
+    }
+
+    @Test
+    @DisplayName("applyEvaluation() should do nothing when the score is unchanged")
+    void applyEvaluation_shouldSkipUnchangedScore() {
+        skillRollupService.applyEvaluation(1L, 5L, "SELF", 4, 4);
+
+        verifyNoInteractions(jdbcTemplate, entityManager);
+    }
+
+    @Test
+    @DisplayName("refreshMembership() should do nothing without teams")
+    void refreshMembership_shouldSkipWithoutTeams() {
+        skillRollupService.refreshMembership(1L, List.of());
+
+        verifyNoInteractions(jdbcTemplate, entityManager);
+    }
+
+    @Test
+    @DisplayName("rebuildAll() should build every level and partition into the shadow table, then swap it in")
+    void rebuildAll_shouldBuildShadowAndSwap() {
+        when(jobLock.run(eq(SkillRollupService.REBUILD_JOB), eq(Duration.ZERO), any()))
+                .thenAnswer(inv -> inv.<IntSupplier>getArgument(2).getAsInt() >= 0);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(jdbcTemplate.update(anyString(), anyMap())).thenReturn(4);
+
+        skillRollupService.rebuildAll();
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).update(eq("CREATE TABLE skill_rollups_shadow LIKE skill_rollups"), anyMap());
+        inOrder.verify(jdbcTemplate).update(
+                eq("RENAME TABLE skill_rollups TO skill_rollups_old, skill_rollups_shadow TO skill_rollups"), anyMap());
+        inOrder.verify(jdbcTemplate).update(eq("DROP TABLE skill_rollups_old"), anyMap());
+        verify(jdbcTemplate, times(ScopeAccessLevel.values().length * 2))
+                .update(startsWith("INSERT INTO skill_rollups_shadow"), any(SqlParameterSource.class));
+        verify(jdbcTemplate, never()).update(startsWith("DELETE FROM skill_rollups"), anyMap());
+    }
+
+    @Test
+    @DisplayName("rebuildAll() should re-derive the scopes journaled during the rebuild, after the swap")
+    void rebuildAll_shouldRederiveDirtyScopes() throws Exception {
+        when(jobLock.run(eq(SkillRollupService.REBUILD_JOB), eq(Duration.ZERO), any())).thenReturn(true);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn("TEAM");
+        when(rs.getLong(2)).thenReturn(3L);
+        doAnswer(inv -> {
+            inv.<RowCallbackHandler>getArgument(2).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT scope_type, scope_id FROM skill_rollup_dirty_scopes"), anyMap(),
+                any(RowCallbackHandler.class));
+
+        skillRollupService.rebuildAll();
+
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).update(startsWith("DELETE FROM skill_rollups\n"), params.capture());
+        assertEquals("TEAM", params.getValue().getValue("scopeType"));
+        assertEquals(Set.of(3L), params.getValue().getValue("scopeIds"));
+        assertNull(params.getValue().getValue("skillIds"));
+        verify(jdbcTemplate).update(eq("DELETE FROM skill_rollup_dirty_scopes"), anyMap());
+    }
+
+    @Test
+    @DisplayName("rebuildAll() should leave the table alone when another node holds the rebuild lease")
+    void rebuildAll_shouldSkipWhenLocked() {
+        when(jobLock.run(eq(SkillRollupService.REBUILD_JOB), eq(Duration.ZERO), any())).thenReturn(false);
+
+        skillRollupService.rebuildAll();
+
+        verifyNoInteractions(jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    @DisplayName("refreshDepartmentMove() should re-derive the old and new careers for the department's users")
+    void refreshDepartmentMove_shouldRefreshBothCareers() {
+        when(jdbcTemplate.queryForList(startsWith("SELECT d.career_id"), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of(2L));
+        when(jdbcTemplate.queryForList(startsWith("SELECT u.user_id"), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of(7L));
+        when(jdbcTemplate.queryForList(contains("FROM user_skill_evaluations"), any(SqlParameterSource.class),
+                eq(Long.class))).thenReturn(List.of(5L));
+
+        skillRollupService.refreshDepartmentMove(10L, 1L);
+
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).update(startsWith("DELETE FROM skill_rollups\n"), params.capture());
+        assertEquals("CAREER", params.getValue().getValue("scopeType"));
+        assertEquals(Set.of(1L, 2L), params.getValue().getValue("scopeIds"));
+        assertEquals(List.of(5L), params.getValue().getValue("skillIds"));
+    }
+
+    @Test
+    @DisplayName("findByScope() should map rollups with skill names, averages and histograms")
+    void findByScope_shouldMapRollups() {
+        SkillRollup rollup = new SkillRollup();
+        rollup.setScopeType(ScopeAccessLevel.TEAM);
+        rollup.setScopeId(3L);
+        rollup.setSkillId(5L);
+        rollup.setEvaluationType("MANAGER");
+        rollup.setScoreCount(2);
+        rollup.setScoreSum(7);
+        rollup.setScore3(1);
+        rollup.setScore4(1);
+        Skill skill = new Skill();
+        skill.setSkillId(5L);
+        skill.setName("Java");
+        when(rollupRepository.findByScopeTypeAndScopeIdOrderBySkillIdAscEvaluationTypeAsc(ScopeAccessLevel.TEAM, 3L))
+                .thenReturn(List.of(rollup));
+        when(skillRepository.findAllById(List.of(5L))).thenReturn(List.of(skill));
+
+        List<SkillRollupResponse> res = skillRollupService.findByScope(ScopeAccessLevel.TEAM, 3L);
+
+        assertEquals(1, res.size());
+        assertEquals("Java", res.get(0).getSkillName());
+        assertEquals(3.5, res.get(0).getAverage());
+        assertEquals(List.of(0, 0, 1, 1, 0), res.get(0).getHistogram());
+    }
+}
@@ -45,6 +45,8 @@ class TeamMemberServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private PositionRepository positionRepository;
     @Mock private BusinessChangeLogService businessChangeLogService;
+    @Mock private UserSearchIndexService userSearchIndexService;
+    @Mock private SkillRollupService skillRollupService;
 
     @InjectMocks
     private TeamMemberService teamMemberService;
@@ -343,6 +345,8 @@ class TeamMemberServiceTest {
         teamMemberService.delete(1L);
 
         verify(teamMemberRepository).delete(existing);
+        verify(userSearchIndexService).refreshUser(activeUser.getUserId());
+        verify(skillRollupService).refreshMembership(activeUser.getUserId(), List.of(activeTeam.getTeamId()));
     }
 
     @Test
@@ -44,6 +44,10 @@ class TeamServiceTest {
     @Mock private DepartmentRepository departmentRepository;
     @Mock private PermissionService permissionService;
     @Mock private BusinessChangeLogService businessChangeLogService;
+    @Mock private ScopeClosureService scopeClosureService;
+    @Mock private OrgHierarchyIndex orgHierarchyIndex;
+    @Mock private UserSearchIndexService userSearchIndexService;
+    @Mock private SkillRollupService skillRollupService;
 
     @InjectMocks
     private TeamService teamService;
@@ -139,6 +143,8 @@ class TeamServiceTest {
         assertEquals(1L, res.getDepartmentId());
         verify(teamRepository).save(activeTeam);
         verify(permissionService, never()).getCurrentUser();
+        verify(userSearchIndexService).refreshTeam(1L);
+        verify(skillRollupService, never()).refreshTeamMove(any(), any());
     }
 
     @Test
@@ -157,6 +163,8 @@ class TeamServiceTest {
 
         assertEquals(2L, res.getDepartmentId());
         verify(teamRepository).save(activeTeam);
+        verify(userSearchIndexService, never()).refreshTeam(any());
+        verify(skillRollupService).refreshTeamMove(1L, 1L);
     }
 
     // ==================== LIST ====================
@@ -195,6 +203,26 @@ class TeamServiceTest {
         verify(teamRepository, never()).findAll(any(Specification.class), any(Pageable.class));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("list() should resolve team manager scope from the hierarchy index")
+    void list_teamManagerScopeFromIndex() {
+        User manager = user(4L, "MANAGER_TEAM");
+        manager.getManagedTeams().add(activeTeam);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(permissionService.getCurrentUser()).thenReturn(manager);
+        when(permissionService.isAdmin(manager)).thenReturn(false);
+        when(orgHierarchyIndex.departmentsOfTeams(List.of(1L))).thenReturn(List.of(1L));
+        when(teamRepository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(activeTeam), pageable, 1));
+
+        PageResponse<TeamResponse> res = teamService.list(new TeamFilterRequest(), pageable);
+
+        assertEquals(1, res.getItems().size());
+        verify(departmentRepository, never()).findByCareer_CareerIdIn(any());
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     @DisplayName("list() with departmentId should return filtered teams")
@@ -0,0 +1,250 @@
+package com.das.skillmatrix.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.das.skillmatrix.dto.request.CreateUserRequest;
+import com.das.skillmatrix.dto.response.UserImportResponse;
+import com.das.skillmatrix.entity.Department;
+import com.das.skillmatrix.entity.GeneralStatus;
+import com.das.skillmatrix.entity.Position;
+import com.das.skillmatrix.entity.Team;
+import com.das.skillmatrix.entity.User;
+import com.das.skillmatrix.repository.CareerRepository;
+import com.das.skillmatrix.repository.DepartmentRepository;
+import com.das.skillmatrix.repository.PositionRepository;
+import com.das.skillmatrix.repository.TeamRepository;
+import com.das.skillmatrix.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private PositionRepository positionRepository;
+    @Mock private CareerRepository careerRepository;
+    @Mock private DepartmentRepository departmentRepository;
+    @Mock private TeamRepository teamRepository;
+    @Mock private PermissionService permissionService;
+    @Mock private PasswordEncoder passwordEncoder;
+    @Mock private NamedParameterJdbcTemplate namedJdbcTemplate;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private BusinessChangeLogService logService;
+    @Mock private ScopeClosureService scopeClosureService;
+    @Mock private UserSearchIndexService userSearchIndexService;
+
+    private UserImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = service(100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+    }
+
+    private UserImportService service(int maxRows) {
+        return new UserImportService(userRepository, positionRepository, careerRepository, departmentRepository,
+                teamRepository, permissionService, passwordEncoder, namedJdbcTemplate, logService,
+                scopeClosureService, userSearchIndexService, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), maxRows, 2);
+    }
+
+    // ===================== HELPERS =====================
+
+    private static InputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static User admin() {
+        User u = new User();
+        u.setUserId(1L);
+        u.setRole("ADMIN");
+        return u;
+    }
+
+    private static Team team(Long id) {
+        Department d = new Department();
+        d.setDepartmentId(20L);
+        Team t = new Team();
+        t.setTeamId(id);
+        t.setStatus(GeneralStatus.ACTIVE);
+        t.setDepartment(d);
+        return t;
+    }
+
+    private static Position position(Long id) {
+        Position p = new Position();
+        p.setPositionId(id);
+        return p;
+    }
+
+    private static UserImportService.Row row(int number, String email, String role, Long teamId, List<Long> positionIds) {
+        CreateUserRequest req = new CreateUserRequest();
+        req.setEmail(email);
+        req.setRole(role);
+        req.setTeamId(teamId);
+        req.setPositionIds(positionIds);
+        return new UserImportService.Row(number, req, null);
+    }
+
+    // ===================== READ =====================
+
+    @Test
+    @DisplayName("nextRecord should handle quoted separators, escaped quotes and line breaks")
+    void nextRecord_shouldParseQuotedFields() throws Exception {
+        BufferedReader reader = new BufferedReader(new StringReader("a,\"b, \"\"c\"\"\",\"x\r\ny\"\r\nlast\n"));
+
+        assertEquals(List.of("a", "b, \"c\"", "x\r\ny"), UserImportService.nextRecord(reader));
+        assertEquals(List.of("last"), UserImportService.nextRecord(reader));
+        assertNull(UserImportService.nextRecord(reader));
+    }
+
+    @Test
+    @DisplayName("readCsv should map columns by header and split position ids")
+    void readCsv_shouldMapColumnsByHeader() {
+        List<UserImportService.Row> rows = importService.readCsv(body(
+                "\uFEFFRole,Email,TeamId,PositionIds\r\nSTAFF,a@x.com,5,1;2\r\n\r\nSTAFF,b@x.com,five,1\r\n"));
+
+        assertEquals(2, rows.size());
+        assertEquals("a@x.com", rows.get(0).request.getEmail());
+        assertEquals(5L, rows.get(0).request.getTeamId());
+        assertEquals(List.of(1L, 2L), rows.get(0).request.getPositionIds());
+        assertNull(rows.get(0).error);
+        assertEquals(2, rows.get(1).number);
+        assertEquals("INVALID_ID", rows.get(1).error);
+    }
+
+    @Test
+    @DisplayName("readCsv should reject a file without email and role columns")
+    void readCsv_shouldRejectMissingColumns() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> importService.readCsv(body("email,teamId\na@x.com,1\n")));
+        assertEquals("INVALID_IMPORT_FILE", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("readJson should stop with IMPORT_TOO_LARGE past the row limit")
+    void readJson_shouldRejectTooManyRows() {
+        UserImportService small = service(1);
+        try {
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                    () -> small.readJson(body("[{\"email\":\"a@x.com\"},{\"email\":\"b@x.com\"}]")));
+            assertEquals("IMPORT_TOO_LARGE", ex.getMessage());
+        } finally {
+            small.shutdown();
+        }
+    }
+
+    // ===================== VALIDATE =====================
+
+    @Test
+    @DisplayName("validate should report each bad row and keep the good ones")
+    void validate_shouldReportRowErrors() {
+        List<UserImportService.Row> rows = List.of(
+                row(1, "new@x.com", "STAFF", 5L, List.of(1L)),
+                row(2, "NEW@x.com", "STAFF", 5L, List.of(1L)),
+                row(3, "taken@x.com", "STAFF", 5L, List.of(1L)),
+                row(4, "nopos@x.com", "STAFF", 5L, null),
+                row(5, "noteam@x.com", "STAFF", null, List.of(1L)),
+                row(6, "not-an-email", "STAFF", 5L, List.of(1L)),
+                row(7, "boss@x.com", "OWNER", 5L, List.of(1L)));
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of("Taken@x.com"));
+        when(positionRepository.findByPositionIdInAndStatus(List.of(1L), GeneralStatus.ACTIVE))
+                .thenReturn(List.of(position(1L)));
+        when(teamRepository.findAllById(List.of(5L))).thenReturn(List.of(team(5L)));
+
+        importService.validate(rows, admin());
+
+        assertNull(rows.get(0).error);
+        assertEquals(5L, rows.get(0).team.getTeamId());
+        assertEquals(20L, rows.get(0).department.getDepartmentId());
+        assertEquals("DUPLICATE_EMAIL_IN_FILE", rows.get(1).error);
+        assertEquals("EMAIL_ALREADY_EXISTS", rows.get(2).error);
+        assertEquals("POSITION_REQUIRED", rows.get(3).error);
+        assertEquals("SCOPE_REQUIRED", rows.get(4).error);
+        assertEquals("INVALID_EMAIL_FORMAT", rows.get(5).error);
+        assertEquals("INVALID_ROLE", rows.get(6).error);
+        verify(userRepository, times(1)).findExistingEmails(anyCollection());
+    }
+
+    @Test
+    @DisplayName("validate should apply the creator's role limits")
+    void validate_shouldRejectRoleAboveCreator() {
+        User manager = admin();
+        manager.setRole("MANAGER_DEPARTMENT");
+        List<UserImportService.Row> rows = List.of(row(1, "m@x.com", "MANAGER_DEPARTMENT", null, List.of(1L)));
+        when(positionRepository.findByPositionIdInAndStatus(List.of(1L), GeneralStatus.ACTIVE))
+                .thenReturn(List.of(position(1L)));
+
+        importService.validate(rows, manager);
+
+        assertEquals("ROLE_EXCEEDS_PERMISSION", rows.get(0).error);
+    }
+
+    // ===================== IMPORT =====================
+
+    @Test
+    @DisplayName("importUsers should batch insert valid rows and report invalid ones")
+    void importUsers_shouldInsertValidRows() throws Exception {
+        when(permissionService.getCurrentUser()).thenReturn(admin());
+        when(positionRepository.findByPositionIdInAndStatus(List.of(1L), GeneralStatus.ACTIVE))
+                .thenReturn(List.of(position(1L)));
+        when(teamRepository.findAllById(List.of(5L))).thenReturn(List.of(team(5L)));
+        when(passwordEncoder.encode(anyString())).thenReturn("hashed");
+        when(namedJdbcTemplate.getJdbcTemplate()).thenReturn(jdbcTemplate);
+        doAnswer(inv -> {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getString(2)).thenReturn("a@x.com");
+            when(rs.getLong(1)).thenReturn(11L);
+            inv.<RowCallbackHandler>getArgument(2).processRow(rs);
+            return null;
+        }).when(namedJdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        UserImportResponse response = importService.importUsers(body("""
+                [{"email":"A@x.com","role":"STAFF","teamId":5,"positionIds":[1]},
+                 {"email":"b@x.com","role":"STAFF","teamId":5}]
+                """), MediaType.APPLICATION_JSON);
+
+        assertEquals(2, response.getTotal());
+        assertEquals(1, response.getCreated());
+        assertEquals(1, response.getFailed());
+        assertEquals(2, response.getErrors().get(0).getRow());
+        assertEquals("POSITION_REQUIRED", response.getErrors().get(0).getError());
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO users"), anyCollection(), eq(500), any());
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO user_positions"), anyList());
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO team_members"), anyList());
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT INTO team_managers"), anyList());
+        verify(scopeClosureService).addUsers(argThat(ids -> ids.contains(11L)));
+        verify(userSearchIndexService).refreshUsers(argThat(ids -> ids.contains(11L)));
+        verify(logService).log(eq("CREATE_USER"), eq("USER"), eq(11L), anyList());
+        verify(logService, times(1)).log(anyString(), anyString(), any(), anyList());
+    }
+}
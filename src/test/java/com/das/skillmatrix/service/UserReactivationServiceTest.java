@@ -0,0 +1,79 @@
+package com.das.skillmatrix.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.das.skillmatrix.entity.GeneralStatus;
+import com.das.skillmatrix.repository.UserReactivationQueueRepository;
+import com.das.skillmatrix.repository.UserRepository;
+import com.das.skillmatrix.security.AuthenticationCache;
+
+@ExtendWith(MockitoExtension.class)
+class UserReactivationServiceTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private UserReactivationQueueRepository queueRepository;
+    @Mock private AuthenticationCache authenticationCache;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 5, 1, 9, 0);
+    private UserReactivationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new UserReactivationService(userRepository, queueRepository, authenticationCache, 2);
+    }
+
+    @Test
+    @DisplayName("reactivateDueBatch() should reactivate a full batch and report more to come")
+    void reactivateDueBatch_shouldReactivateFullBatch() {
+        when(queueRepository.findDueUserIds(now, PageRequest.of(0, 2))).thenReturn(List.of(3L, 7L));
+        when(userRepository.reactivateExpiredUsers(List.of(3L, 7L), now, GeneralStatus.ACTIVE)).thenReturn(2);
+
+        UserReactivationService.Batch batch = service.reactivateDueBatch(now);
+
+        assertEquals(2, batch.reactivated());
+        assertTrue(batch.more());
+        verify(queueRepository).deleteDue(List.of(3L, 7L), now);
+        verify(authenticationCache).evictUser(3L);
+        verify(authenticationCache).evictUser(7L);
+        verify(authenticationCache, never()).clear();
+    }
+
+    @Test
+    @DisplayName("reactivateDueBatch() should drop queue rows of users no longer temporarily deactivated")
+    void reactivateDueBatch_shouldDropStaleRows() {
+        when(queueRepository.findDueUserIds(now, PageRequest.of(0, 2))).thenReturn(List.of(4L));
+        when(userRepository.reactivateExpiredUsers(List.of(4L), now, GeneralStatus.ACTIVE)).thenReturn(0);
+
+        UserReactivationService.Batch batch = service.reactivateDueBatch(now);
+
+        assertEquals(0, batch.reactivated());
+        assertFalse(batch.more());
+        verify(queueRepository).deleteDue(List.of(4L), now);
+    }
+
+    @Test
+    @DisplayName("reactivateDueBatch() should do nothing when no user is due")
+    void reactivateDueBatch_shouldDoNothingWhenNoneDue() {
+        when(queueRepository.findDueUserIds(now, PageRequest.of(0, 2))).thenReturn(List.of());
+
+        UserReactivationService.Batch batch = service.reactivateDueBatch(now);
+
+        assertEquals(0, batch.reactivated());
+        assertFalse(batch.more());
+        verify(userRepository, never()).reactivateExpiredUsers(anyCollection(), any(), any());
+        verifyNoInteractions(authenticationCache);
+    }
+}
@@ -0,0 +1,104 @@
+package com.das.skillmatrix.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.das.skillmatrix.repository.UserSearchDocumentRepository;
+import com.das.skillmatrix.repository.UserSearchGramRepository;
+import com.das.skillmatrix.scheduler.JobLock;
+
+class UserSearchIndexServiceTest {
+
+    @Test
+    @DisplayName("document() should lower-case fields, one per line, and skip empty values")
+    void document_shouldJoinFields() {
+        String doc = UserSearchIndexService.document(new Object[] { 42L, "Jane@Corp.com", null, "Team Alpha", "" });
+
+        assertEquals("42\njane@corp.com\nteam alpha", doc);
+    }
+
+    @Test
+    @DisplayName("normalize() should fold accents and case so Vietnamese names match their ASCII spelling")
+    void normalize_shouldFoldAccents() {
+        assertEquals("nguyen duc", UserSearchIndexService.normalize(" Nguyễn ĐỨC "));
+
+        String doc = UserSearchIndexService.document(new Object[] { 9L, "uyen.tran@corp.com", "Trần Uyên" });
+        assertTrue(UserSearchIndexService.grams(doc).containsAll(UserSearchIndexService.keywordGrams("uyen")));
+        assertFalse(doc.contains("ê"));
+    }
+
+    @Test
+    @DisplayName("grams() should not produce trigrams across field boundaries")
+    void grams_shouldStayWithinLines() {
+        Set<String> grams = UserSearchIndexService.grams("abcd\nxy");
+
+        assertEquals(Set.of("abc", "bcd"), grams);
+    }
+
+    @Test
+    @DisplayName("keywordGrams() should cover the keyword with non-overlapping trigrams and the tail")
+    void keywordGrams_shouldCoverKeyword() {
+        assertEquals(Set.of("ali", "ce@", "e@c"), UserSearchIndexService.keywordGrams("alice@c"));
+        assertTrue(UserSearchIndexService.keywordGrams("al").isEmpty());
+    }
+
+    @Test
+    @DisplayName("every keyword gram should be a document gram when the keyword is a substring")
+    void keywordGrams_shouldBeSubsetOfDocumentGrams() {
+        String doc = UserSearchIndexService.document(new Object[] { 7L, "bob.builder@skillmatrix.com", "Bob Builder" });
+
+        assertTrue(UserSearchIndexService.grams(doc)
+                .containsAll(UserSearchIndexService.keywordGrams(UserSearchIndexService.normalize(" Builder@Skill "))));
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    private final JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+    private final JobLock jobLock = mock(JobLock.class);
+    private final UserSearchIndexService service = new UserSearchIndexService(
+            mock(UserSearchDocumentRepository.class), mock(UserSearchGramRepository.class), jdbcTemplate, jobLock);
+
+    private void gramCollation(String collation) {
+        when(jdbcTemplate.queryForList(contains("information_schema.columns"), anyMap(), eq(String.class)))
+                .thenReturn(List.of(collation));
+        when(jdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+    }
+
+    @Test
+    @DisplayName("convertGramCollation() should move a gram column created with the default collation to utf8mb4_bin")
+    void convertGramCollation_shouldAlterCaseInsensitiveColumn() {
+        gramCollation("utf8mb4_0900_ai_ci");
+
+        assertEquals(1, service.convertGramCollation());
+
+        verify(jdbcOperations).execute(
+                "ALTER TABLE user_search_grams MODIFY gram VARCHAR(3) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL");
+    }
+
+    @Test
+    @DisplayName("convertGramCollation() should leave a utf8mb4_bin gram column alone")
+    void convertGramCollation_shouldSkipBinaryColumn() {
+        gramCollation("utf8mb4_bin");
+
+        assertEquals(0, service.convertGramCollation());
+
+        verifyNoInteractions(jdbcOperations);
+    }
+
+    @Test
+    @DisplayName("ensureGramCollation() should run the conversion under its own lock")
+    void ensureGramCollation_shouldRunUnderLock() {
+        service.ensureGramCollation();
+
+        verify(jobLock).run(eq("user-search-gram-collation"), eq(Duration.ZERO), any());
+    }
+}
@@ -34,12 +34,15 @@ import com.das.skillmatrix.entity.GeneralStatus;
 import com.das.skillmatrix.entity.Position;
 import com.das.skillmatrix.entity.Team;
 import com.das.skillmatrix.entity.User;
+import com.das.skillmatrix.entity.UserReactivationQueue;
 import com.das.skillmatrix.repository.CareerRepository;
 import com.das.skillmatrix.repository.DepartmentRepository;
 import com.das.skillmatrix.repository.PositionRepository;
 import com.das.skillmatrix.repository.TeamMemberRepository;
 import com.das.skillmatrix.repository.TeamRepository;
+import com.das.skillmatrix.repository.UserReactivationQueueRepository;
 import com.das.skillmatrix.repository.UserRepository;
+import com.das.skillmatrix.security.AuthenticationCache;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
@@ -62,6 +65,18 @@ class UserServiceTest {
     private PermissionService permissionService;
     @Mock
     private BusinessChangeLogService logService;
+    @Mock
+    private ScopeClosureService scopeClosureService;
+    @Mock
+    private OrgHierarchyIndex orgHierarchyIndex;
+    @Mock
+    private AuthenticationCache authenticationCache;
+    @Mock
+    private UserSearchIndexService userSearchIndexService;
+    @Mock
+    private UserReactivationQueueRepository reactivationQueueRepository;
+    @Mock
+    private SkillRollupService skillRollupService;
 
     @InjectMocks
     private UserService userService;
@@ -244,6 +259,7 @@ class UserServiceTest {
 
         assertEquals("new@test.com", res.getEmail());
         verify(userRepository).save(any(User.class));
+        verify(skillRollupService).refreshUser(10L, null);
     }
 
     @Test
@@ -315,6 +331,8 @@ class UserServiceTest {
         assertEquals("TEMPORARY", target.getDeactiveType());
         assertNotNull(target.getDeactiveUntil());
         verify(userRepository).save(target);
+        verify(reactivationQueueRepository).save(argThat((UserReactivationQueue q) ->
+                q.getUserId().equals(10L) && q.getDueAt().equals(target.getDeactiveUntil())));
     }
 
     @Test
@@ -392,6 +410,8 @@ class UserServiceTest {
         assertNull(target.getDeactiveUntil());
         assertNull(target.getDeActiveAt());
         verify(userRepository).save(target);
+        verify(reactivationQueueRepository).deleteByUser(10L);
+        verify(authenticationCache).evictUser(10L);
     }
 
     @Test
@@ -426,6 +446,33 @@ class UserServiceTest {
         assertEquals("u@test.com", res.getItems().get(0).getEmail());
     }
 
+    @Test
+    @DisplayName("list() should load positions for the whole page with one query regardless of page size")
+    @SuppressWarnings("unchecked")
+    void list_shouldBatchLoadPositions() {
+        User admin = user(1L, "admin@test.com", "ADMIN", GeneralStatus.ACTIVE);
+        when(permissionService.getCurrentUser()).thenReturn(admin);
+
+        List<User> users = new ArrayList<>();
+        List<Object[]> positionRows = new ArrayList<>();
+        for (long id = 100; id < 150; id++) {
+            User u = user(id, "u" + id + "@test.com", "STAFF", GeneralStatus.ACTIVE);
+            u.setPositions(null); // any per-row lazy load would fail here
+            users.add(u);
+            positionRows.add(new Object[] { id, 7L, "Developer" });
+        }
+        when(userRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(new PageImpl<>(users));
+        when(userRepository.findPositionRowsByUserIds(anyCollection())).thenReturn(positionRows);
+
+        PageResponse<UserResponse> res = userService.list(new UserFilterRequest(), PageRequest.of(0, 50));
+
+        assertEquals(50, res.getItems().size());
+        assertEquals("Developer", res.getItems().get(49).getPositions().get(0).getName());
+        verify(userRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
+        verify(userRepository, times(1)).findPositionRowsByUserIds(anyCollection());
+        verifyNoInteractions(teamMemberRepository);
+    }
+
     @Test
     @DisplayName("listByTeam() should throw when team not found")
     void listByTeam_shouldThrow_whenTeamNotFound() {
@@ -453,6 +500,27 @@ class UserServiceTest {
         assertEquals("Test User", res.getFullName());
     }
 
+    @Test
+    @DisplayName("getDetail() should resolve positions and scope with one query each")
+    void getDetail_shouldUseProjectionQueries() {
+        User u = user(10L, "u@test.com", "MANAGER_TEAM", GeneralStatus.ACTIVE);
+        u.setPositions(null);
+        when(userRepository.findById(10L)).thenReturn(Optional.of(u));
+        when(userRepository.findPositionRowsByUserIds(List.of(10L)))
+                .thenReturn(List.<Object[]>of(new Object[] { 10L, 3L, "Lead" }));
+        when(userRepository.findScopeRows(10L)).thenReturn(List.of(
+                new Object[] { "MEMBER", 4L, "Team 4" },
+                new Object[] { "TEAM", 5L, "Team 5" }));
+
+        UserDetailResponse res = userService.getDetail(10L);
+
+        assertEquals("Lead", res.getPositions().get(0).getName());
+        assertEquals(5L, res.getTeamId());
+        assertEquals("Team 5", res.getTeamName());
+        verify(userRepository, times(1)).findScopeRows(10L);
+        verifyNoInteractions(teamMemberRepository);
+    }
+
     @Test
     @DisplayName("getDetail() should throw when not found")
     void getDetail_shouldThrow_whenNotFound() {
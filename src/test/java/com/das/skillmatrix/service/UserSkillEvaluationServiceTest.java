@@ -0,0 +1,78 @@
+package com.das.skillmatrix.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.das.skillmatrix.entity.Skill;
+import com.das.skillmatrix.entity.User;
+import com.das.skillmatrix.entity.UserSkillEvaluation;
+import com.das.skillmatrix.repository.SkillRepository;
+import com.das.skillmatrix.repository.UserRepository;
+import com.das.skillmatrix.repository.UserSkillEvaluationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserSkillEvaluationServiceTest {
+
+    @Mock private UserSkillEvaluationRepository evaluationRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private SkillRepository skillRepository;
+    @Mock private SkillRollupService skillRollupService;
+
+    @InjectMocks
+    private UserSkillEvaluationService userSkillEvaluationService;
+
+    @Test
+    @DisplayName("record() should save the evaluation and apply the delta against the previous score")
+    void record_shouldApplyDeltaAgainstPreviousScore() {
+        User user = new User();
+        user.setUserId(1L);
+        User manager = new User();
+        manager.setUserId(2L);
+        Skill skill = new Skill();
+        skill.setSkillId(5L);
+        UserSkillEvaluation previous = new UserSkillEvaluation();
+        previous.setScore(2);
+        when(userRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(user));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(manager));
+        when(skillRepository.findById(5L)).thenReturn(Optional.of(skill));
+        when(evaluationRepository
+                .findFirstByUser_UserIdAndSkill_SkillIdAndEvaluationTypeOrderByCreatedAtDescEvaluationIdDesc(
+                        1L, 5L, "MANAGER"))
+                .thenReturn(Optional.of(previous));
+
+        UserSkillEvaluation res = userSkillEvaluationService.record(1L, 5L, 2L, 4, "MANAGER");
+
+        assertEquals(4, res.getScore());
+        assertSame(manager, res.getEvaluator());
+        verify(evaluationRepository).save(res);
+        verify(skillRollupService).applyEvaluation(1L, 5L, "MANAGER", 2, 4);
+    }
+
+    @Test
+    @DisplayName("record() should reject scores outside 1..5")
+    void record_shouldRejectInvalidScore() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> userSkillEvaluationService.record(1L, 5L, 1L, 6, "SELF"));
+        assertEquals("INVALID_SCORE", ex.getMessage());
+        verifyNoInteractions(evaluationRepository, skillRollupService);
+    }
+
+    @Test
+    @DisplayName("record() should reject unknown evaluation types")
+    void record_shouldRejectInvalidType() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> userSkillEvaluationService.record(1L, 5L, 1L, 3, "PEER"));
+        assertEquals("INVALID_EVALUATION_TYPE", ex.getMessage());
+        verify(skillRollupService, never()).applyEvaluation(any(), any(), any(), any(), anyInt());
+    }
+}